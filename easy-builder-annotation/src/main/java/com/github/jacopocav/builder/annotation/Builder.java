@@ -64,6 +64,266 @@ public @interface Builder {
      */
     String copyFactoryMethodName() default Defaults.COPY_FACTORY_METHOD_NAME;
 
+    /**
+     * How the builder returned by the copy factory method, if enabled with {@link #copyFactoryMethod()}, copies the
+     * properties of the source class instance.
+     * <p>
+     * Defaults to {@link CopyFactoryMethodMode#EAGER}.
+     */
+    CopyFactoryMethodMode copyFactoryMethodMode() default CopyFactoryMethodMode.EAGER;
+
+    /**
+     * Generates methods that allow builder instances to be reused, instead of allocating a new builder for every built
+     * object.
+     * <p>
+     * Defaults to {@link Reuse#DISABLED}.
+     */
+    Reuse reuse() default Reuse.DISABLED;
+
+    /**
+     * Generates a static {@code withProperty(source, value)} method on the builder class for every property, that
+     * returns a copy of {@code source} with {@code property} set to {@code value}, by calling the creator method
+     * directly (without creating a builder instance).
+     * <p>
+     * Like the copy factory method, with-er methods read the other properties through the getters or fields of the
+     * source class.
+     * <p>
+     * Defaults to {@link WitherMethodGeneration#DISABLED}.
+     */
+    WitherMethodGeneration witherMethods() default WitherMethodGeneration.DISABLED;
+
+    /**
+     * Generates a staged builder, whose properties must be set in order before the build method becomes available, so
+     * that forgetting to set them is a compilation error.
+     * <p>
+     * Each stage is an interface declared in the builder class, and all of them are implemented by a private subclass
+     * of the builder (so the builder class is not {@code final}, but it can not be extended either): the static
+     * factory method returns the first stage, and each of its setters returns the next one. The copy factory method
+     * returns the builder class itself, with all of its setters, since all properties are already set.
+     * <p>
+     * Defaults to {@link Staging#DISABLED}.
+     */
+    Staging staging() default Staging.DISABLED;
+
+    /**
+     * Generates additional methods for the properties whose type is a parameterized {@link java.util.List},
+     * {@link java.util.Set} or {@link java.util.Map}: one that adds a single element (e.g. {@code addItem(item)} for
+     * a list named {@code items}, or {@code putEntry(key, value)} for a map named {@code entries}), one that adds all
+     * the elements of another collection (e.g. {@code addAllItems(items)}) and one that sizes the collection for an
+     * expected number of elements (e.g. {@code ensureItemsCapacity(size)}).
+     * <p>
+     * Elements are added to a mutable collection created by the builder, which copies the collection passed to the
+     * setter (if any) on the first addition: collections passed to the setters are never modified.
+     * <p>
+     * Properties whose type is an array of primitives get two methods instead: one that appends a single element
+     * (e.g. {@code appendValue(value)} for an {@code int[]} named {@code values}) and one that appends a range of
+     * another array (e.g. {@code appendValues(array, offset, length)}). Elements are appended to an array owned by the
+     * builder, which grows geometrically: the build method passes it as it is when all of its elements are used, or an
+     * exactly sized copy otherwise, whatever the mode.
+     * <p>
+     * Defaults to {@link CollectionMembers#DISABLED}.
+     */
+    CollectionMembers collectionMembers() default CollectionMembers.DISABLED;
+
+    /**
+     * Generates an additional setter for the properties whose type is a primitive wrapper (e.g. {@link Integer}),
+     * {@link java.util.OptionalInt}, {@link java.util.OptionalLong}, {@link java.util.OptionalDouble} or a
+     * parameterized {@link java.util.Optional}, which takes the unwrapped value (e.g. {@code count(int)} for an
+     * {@code OptionalInt} named {@code count}, or {@code name(String)} for an {@code Optional<String>} named
+     * {@code name}).
+     * <p>
+     * The unwrapped value is stored in a field of its own, and is boxed (or wrapped with {@code of}, or
+     * {@code ofNullable} for {@code Optional}) only once by the build method, no matter how many times it is set.
+     * <p>
+     * Note that passing a {@code null} literal to the setter of an {@code Optional} property is ambiguous, since both
+     * of its setters accept it.
+     * <p>
+     * Defaults to {@link UnwrappedSetters#DISABLED}.
+     */
+    UnwrappedSetters unwrappedSetters() default UnwrappedSetters.DISABLED;
+
+    /**
+     * Generates an additional setter for the properties whose type has a builder generated by this processor, which
+     * takes a {@link java.util.function.Consumer} of that builder (e.g. {@code address(Consumer<AddressBuilder>)} for
+     * a property of type {@code Address}), so that the property can be built in place:
+     * {@code PersonBuilder.create().address(address -> address.street("Main Street")).build()}.
+     * <p>
+     * The nested builder is owned by the outer builder, which creates it on the first call (or resets it, if it has a
+     * {@link Reuse#RESET reset()} method) and passes it to every following call, until another setter of the same
+     * property is called. The nested object is only built by the build method of the outer builder.
+     * <p>
+     * The builder of a type is found if the type (or one of its constructors or static methods) is annotated with
+     * {@code @Builder} in the same compilation, or if a compiled builder class with the default
+     * {@link #className() class name} is annotated with {@link GeneratedBuilder} for that type. Staged and generic
+     * builders are not supported.
+     * <p>
+     * Note that passing a {@code null} literal to the setter of such a property is ambiguous, since both of its setters
+     * accept it.
+     * <p>
+     * Defaults to {@link NestedBuilders#DISABLED}.
+     */
+    NestedBuilders nestedBuilders() default NestedBuilders.DISABLED;
+
+    /**
+     * Generates a canonicalizing build method, which returns an instance previously built with equal property values
+     * (if it is still cached) instead of creating a new one, so that highly repetitive values (e.g. currency pairs or
+     * small configuration tuples) do not fill the heap with duplicates.
+     * <p>
+     * Instances are cached in a static table of the builder class with a fixed number of slots, indexed by the hash
+     * of the property values: each slot holds the last instance built with a hash that maps to it, so the table never
+     * grows, and lookups and updates never lock. A cached instance is returned if all of its properties, read through
+     * its getters or fields, are equal to the values of the builder ({@link Object#equals(Object)} for references,
+     * {@code ==} for primitives, except {@code float} and {@code double} which are compared like their wrappers).
+     * The static {@code internHits()} and {@code internMisses()} methods of the builder return the number of build
+     * method calls that did and did not find a cached instance.
+     * <p>
+     * All properties must be accessible, like for the copy factory method, with the same type as their creator method
+     * parameter. Interning is only correct for immutable classes whose creator method stores its arguments as they are
+     * (or normalizes them in a way that does not change already normalized values, like {@code List.copyOf}).
+     * <p>
+     * Defaults to {@link Interning#DISABLED}.
+     */
+    Interning interning() default Interning.DISABLED;
+
+    /**
+     * Generates static methods on the builder class that read an instance from a JSON object and write an instance as
+     * a JSON object, without reflection: {@code readJson(CharSequence)}, {@code readJson(Reader)},
+     * {@code writeJson(target, Appendable)} and {@code toJson(target)}.
+     * <p>
+     * The reader parses its input one token at a time, without building an intermediate tree: the members of the
+     * object are dispatched on the hash code of their names, which is computed while they are read, to the setters of
+     * the builder (members with an unknown name are skipped), and the instance is created with the build method. The
+     * writer reads the properties through their getters or fields, which must be accessible like for the copy factory
+     * method. JSON names are the names of the properties.
+     * <p>
+     * Only properties of primitive, wrapper, {@link String} and enum types are supported ({@code char} is written as
+     * a string of length one, enums as their name). Malformed input, or a value that does not fit the type of its
+     * property, causes an {@link IllegalArgumentException}.
+     * <p>
+     * Defaults to {@link JsonCodec#DISABLED}.
+     */
+    JsonCodec jsonCodec() default JsonCodec.DISABLED;
+
+    /**
+     * Generates static methods on the builder class that write an instance to a {@link java.nio.ByteBuffer} in a
+     * compact binary format and read it back, without reflection: {@code writeTo(target, ByteBuffer)} and
+     * {@code readFrom(ByteBuffer)}.
+     * <p>
+     * Properties are encoded in the order of the parameters of the creator method, without names:
+     * <ul>
+     *     <li>{@code short}, {@code int} and {@code long} as zig-zag variable-length integers (so that values with a
+     *     small magnitude take fewer bytes), {@code char} as an unsigned variable-length integer</li>
+     *     <li>{@code boolean} and {@code byte} as a single byte, {@code float} and {@code double} as their IEEE 754
+     *     bits, in the byte order of the buffer</li>
+     *     <li>{@link String} as its length in UTF-8 bytes (plus one, so that zero stands for {@code null}) followed by
+     *     its UTF-8 bytes, enums as their ordinal plus one</li>
+     *     <li>primitive wrappers as a byte that is zero for {@code null}, followed by the value of the primitive</li>
+     * </ul>
+     * Every encoded instance starts with the {@code SCHEMA_FINGERPRINT} constant of the builder, a hash of the types of
+     * the properties (and of the constants of enum types), which the reader checks before decoding anything else, so
+     * that data written with an incompatible version of the target class is rejected with an
+     * {@link IllegalArgumentException}. The writer reads the properties through their getters or fields, which must be
+     * accessible like for the copy factory method. Only properties of primitive, wrapper, {@link String} and enum
+     * types are supported.
+     * <p>
+     * Like the relative methods of {@link java.nio.ByteBuffer}, the methods advance the position of the buffer, and
+     * throw {@link java.nio.BufferOverflowException} or {@link java.nio.BufferUnderflowException} when it has not
+     * enough bytes remaining.
+     * <p>
+     * Defaults to {@link BinaryCodec#DISABLED}.
+     */
+    BinaryCodec binaryCodec() default BinaryCodec.DISABLED;
+
+    /**
+     * Generates methods on the builder class that set properties by name, for binding maps (e.g. configuration
+     * entries or CSV rows) without reflection: {@code set(String name, Object value)}, which calls the setter of the
+     * property with that name, and the static factory {@code fromMap(Map<String, ?>)}, which sets the properties
+     * found in the map and then calls the build method.
+     * <p>
+     * {@code set} dispatches names with a {@code switch} over the property names, compiled like any other string
+     * switch. {@code fromMap} looks up every property in the map instead, and calls its setter directly, unless the
+     * map has entries that are not properties, which are rejected.
+     * Values are converted to the type of their property:
+     * <ul>
+     *     <li>{@code byte}, {@code short}, {@code int} and {@code long} (and their wrappers) accept {@link Byte},
+     *     {@link Short}, {@link Integer} and {@link Long} values, as long as they fit the type of the property</li>
+     *     <li>{@code float} and {@code double} (and their wrappers) accept any of those, {@link Float} and
+     *     {@link Double}</li>
+     *     <li>{@code boolean} and {@code char} (and their wrappers) accept {@link Boolean} and {@link Character}
+     *     values, respectively</li>
+     *     <li>other types accept instances of their erasure</li>
+     * </ul>
+     * Properties of a primitive type do not accept {@code null}. An unknown name, or a value that can not be converted,
+     * causes an {@link IllegalArgumentException} whose message names the property.
+     * <p>
+     * Defaults to {@link MapBinding#DISABLED}.
+     */
+    MapBinding mapBinding() default MapBinding.DISABLED;
+
+    /**
+     * Generates a row binder for the builder class, which builds instances from the rows of a
+     * {@link java.sql.ResultSet} or of a columnar source such as a CSV file, without reflection: the static
+     * {@code rowBinder(ResultSetMetaData)} and {@code rowBinder(String...)} methods return a {@code RowBinder}
+     * (nested in the builder class) for the columns with the given labels, whose {@code bind} methods build an
+     * instance from the current row of a {@code ResultSet}, or from an {@code Object[]} or {@code String[]} row.
+     * <p>
+     * Columns are mapped to properties once, when the binder is created: a column maps to the property with the same
+     * name or, failing that, with the same name ignoring case and underscores (e.g. {@code SOME_NAME} maps to
+     * {@code someName}). Columns that map to no property are ignored, and properties that no column maps to are not
+     * set. Binding a row then only reads the mapped columns by index:
+     * <ul>
+     *     <li>from a {@code ResultSet}, with the getter of the type of the property ({@code getInt}, {@code getLong},
+     *     etc.), which returns zero for SQL {@code NULL} values of primitive properties, followed by
+     *     {@code wasNull()} for wrapper properties; enums are read by name, and other types with
+     *     {@code getObject(int, Class)}</li>
+     *     <li>from an {@code Object[]}, converting values like {@link #mapBinding()}</li>
+     *     <li>from a {@code String[]}, parsing values of primitive, wrapper and enum properties, where an empty string
+     *     stands for {@code null} (which primitive properties do not accept). This method is only generated if all
+     *     properties are of primitive, wrapper, {@link String} or enum types.</li>
+     * </ul>
+     * A value that can not be converted causes an {@link IllegalArgumentException} whose message names the property.
+     * <p>
+     * Defaults to {@link RowBinding#DISABLED}.
+     */
+    RowBinding rowBinding() default RowBinding.DISABLED;
+
+    /**
+     * Generates a batch builder for the builder class, which holds the values of many instances column by column, in
+     * one growable array per property (of the primitive type of primitive properties, so that their values are not
+     * boxed), and builds the instances only when they are requested. The batch builder is the {@code BatchBuilder}
+     * class nested in the builder class:
+     * <ul>
+     *     <li>{@code append(...)}, which takes the values of all properties in the order of the parameters of the
+     *     creator method, adds a row to the batch</li>
+     *     <li>{@code size()} returns the number of rows</li>
+     *     <li>{@code build(int row)} builds the instance of a row, by calling the setters and the build method of a
+     *     new builder</li>
+     *     <li>{@code buildAll(T[])} builds the instances of all rows into the given array</li>
+     *     <li>{@code spliterator()} returns a {@link java.util.Spliterator} over the rows, which builds the instance of
+     *     each row only when it is traversed, and splits by halving the range of rows (so that it can feed a parallel
+     *     stream)</li>
+     * </ul>
+     * Rows can not be modified or removed once appended, but rows can be appended while instances are built. Batch
+     * builders are not thread-safe, although their spliterators can be traversed in parallel when no rows are being
+     * appended.
+     * <p>
+     * Defaults to {@link BatchBuilderGeneration#DISABLED}.
+     */
+    BatchBuilderGeneration batchBuilder() default BatchBuilderGeneration.DISABLED;
+
+    /**
+     * Marks a parameter of the creator method (i.e. the annotated constructor or static method, or the canonical
+     * constructor of the annotated record) as required: the build method throws an {@link IllegalStateException},
+     * listing the required properties that have not been set, unless the setters of all of them have been called.
+     * With a {@link Staging staged} builder, this is checked by the compiler instead.
+     * <p>
+     * On records, it can be placed on record components, which propagate it to the parameters of the canonical
+     * constructor.
+     */
+    @Retention(SOURCE)
+    @Target(PARAMETER)
+    @interface Required {}
+
     enum CopyFactoryMethodGeneration {
         /**
          * A copy factory method will not be generated
@@ -82,6 +342,185 @@ public @interface Builder {
         DYNAMIC
     }
 
+    enum CopyFactoryMethodMode {
+        /**
+         * All properties are copied to the builder when the copy factory method is called, through the setters
+         */
+        EAGER,
+        /**
+         * The builder only keeps a reference to the source class instance, and keeps track of the properties that are
+         * set afterwards. Properties that have not been set are read from the source instance by the build method.
+         * <p>If no property has been set, or all of them have been set to the same values of the source instance
+         * (i.e. the same references, or the same primitive values), the build method returns the source instance
+         * itself, without creating a new one.
+         */
+        COPY_ON_WRITE
+    }
+
+    enum Reuse {
+        /**
+         * Builders can not be reused
+         */
+        DISABLED,
+        /**
+         * A {@code reset()} method will be generated, which restores all the properties of the builder to their
+         * default values ({@code null}, {@code 0} or {@code false}) and returns the builder itself.
+         */
+        RESET,
+        /**
+         * Like {@link #RESET}, plus a static {@code acquire()} method and a {@code release()} method: {@code acquire()}
+         * takes a builder from a pool shared by all threads (or creates a new one if none is available), while
+         * {@code release()} resets the builder and gives it back to the pool.
+         * <p>The pool is striped by thread, without locks or thread locals, so it can be used from both platform and
+         * virtual threads. A builder must not be used anymore after being released.
+         */
+        POOLED
+    }
+
+    enum WitherMethodGeneration {
+        /**
+         * With-er methods will not be generated
+         */
+        DISABLED,
+        /**
+         * With-er methods will be generated, and a compilation will fail if some property of the source class is not
+         * accessible (i.e. has no accessible getter or field).
+         */
+        ENABLED,
+        /**
+         * With-er methods will be generated only if all properties of the source class are accessible (i.e. its getter
+         * or field are accessible without using reflection).
+         */
+        DYNAMIC
+    }
+
+    enum Staging {
+        /**
+         * The builder is not staged
+         */
+        DISABLED,
+        /**
+         * Properties marked as {@link Required @Required} must be set in order, before the other properties and the
+         * build method become available. Since this is checked by the compiler, the build method does not check that
+         * they have been set.
+         */
+        REQUIRED,
+        /**
+         * All properties must be set in order, before the build method becomes available
+         */
+        ALL
+    }
+
+    enum CollectionMembers {
+        /**
+         * Collection properties only have a setter, like any other property
+         */
+        DISABLED,
+        /**
+         * The build method copies each collection once, with {@code List.copyOf}, {@code Set.copyOf} or
+         * {@code Map.copyOf}, which reject {@code null} elements. Since copying an immutable collection with the same
+         * methods does not copy it again, this is the cheapest mode for target classes that copy their collections
+         * defensively in the same way (like records with a compact constructor).
+         * <p>Note that the iteration order of {@code Set.copyOf} and {@code Map.copyOf} is unspecified.
+         */
+        IMMUTABLE_COPY,
+        /**
+         * The build method passes each collection as it is, without copying it: the built instance takes ownership
+         * of the mutable collections created by the builder (an {@link java.util.ArrayList}, a
+         * {@link java.util.LinkedHashSet} or a {@link java.util.LinkedHashMap}), which the builder copies again before
+         * adding any other element.
+         */
+        HAND_OFF
+    }
+
+    enum UnwrappedSetters {
+        /**
+         * Properties only have a setter of their own type
+         */
+        DISABLED,
+        /**
+         * Properties of wrapper and optional types also have a setter of the unwrapped type
+         */
+        ENABLED
+    }
+
+    enum NestedBuilders {
+        /**
+         * Properties only have a setter of their own type
+         */
+        DISABLED,
+        /**
+         * Properties whose type has a builder also have a setter that configures a nested builder
+         */
+        ENABLED
+    }
+
+    enum Interning {
+        /**
+         * The build method always returns a new instance
+         */
+        DISABLED,
+        /**
+         * The build method returns a cached instance with the same property values, if any
+         */
+        ENABLED
+    }
+
+    enum JsonCodec {
+        /**
+         * No JSON methods are generated
+         */
+        DISABLED,
+        /**
+         * JSON reader and writer methods are generated
+         */
+        ENABLED
+    }
+
+    enum BinaryCodec {
+        /**
+         * No binary methods are generated
+         */
+        DISABLED,
+        /**
+         * Binary reader and writer methods are generated
+         */
+        ENABLED
+    }
+
+    enum MapBinding {
+        /**
+         * No methods setting properties by name are generated
+         */
+        DISABLED,
+        /**
+         * The {@code set(String, Object)} and {@code fromMap(Map)} methods are generated
+         */
+        ENABLED
+    }
+
+    enum RowBinding {
+        /**
+         * No row binder is generated
+         */
+        DISABLED,
+        /**
+         * The row binder and its factory methods are generated
+         */
+        ENABLED
+    }
+
+    enum BatchBuilderGeneration {
+        /**
+         * No batch builder is generated
+         */
+        DISABLED,
+        /**
+         * The batch builder is generated
+         */
+        ENABLED
+    }
+
     class Defaults {
         private Defaults() {}
 
@@ -91,5 +530,18 @@ public @interface Builder {
         public static final String BUILD_METHOD_NAME = "build";
         public static final CopyFactoryMethodGeneration COPY_FACTORY_METHOD = CopyFactoryMethodGeneration.ENABLED;
         public static final String COPY_FACTORY_METHOD_NAME = "from";
+        public static final CopyFactoryMethodMode COPY_FACTORY_METHOD_MODE = CopyFactoryMethodMode.EAGER;
+        public static final Reuse REUSE = Reuse.DISABLED;
+        public static final WitherMethodGeneration WITHER_METHODS = WitherMethodGeneration.DISABLED;
+        public static final Staging STAGING = Staging.DISABLED;
+        public static final CollectionMembers COLLECTION_MEMBERS = CollectionMembers.DISABLED;
+        public static final UnwrappedSetters UNWRAPPED_SETTERS = UnwrappedSetters.DISABLED;
+        public static final NestedBuilders NESTED_BUILDERS = NestedBuilders.DISABLED;
+        public static final Interning INTERNING = Interning.DISABLED;
+        public static final JsonCodec JSON_CODEC = JsonCodec.DISABLED;
+        public static final BinaryCodec BINARY_CODEC = BinaryCodec.DISABLED;
+        public static final MapBinding MAP_BINDING = MapBinding.DISABLED;
+        public static final RowBinding ROW_BINDING = RowBinding.DISABLED;
+        public static final BatchBuilderGeneration BATCH_BUILDER = BatchBuilderGeneration.DISABLED;
     }
 }
@@ -3,7 +3,20 @@ package com.github.jacopocav.builder.annotation;
 import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
+import com.github.jacopocav.builder.annotation.Builder.BatchBuilderGeneration;
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
+import com.github.jacopocav.builder.annotation.Builder.CollectionMembers;
 import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodMode;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.MapBinding;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.RowBinding;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
+import com.github.jacopocav.builder.annotation.Builder.UnwrappedSetters;
+import com.github.jacopocav.builder.annotation.Builder.WitherMethodGeneration;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
@@ -47,4 +60,69 @@ public @interface GeneratedBuilder {
      * @see Builder#copyFactoryMethodName()
      */
     String copyFactoryMethodName();
+
+    /**
+     * @see Builder#copyFactoryMethodMode()
+     */
+    CopyFactoryMethodMode copyFactoryMethodMode();
+
+    /**
+     * @see Builder#reuse()
+     */
+    Reuse reuse();
+
+    /**
+     * @see Builder#witherMethods()
+     */
+    WitherMethodGeneration witherMethods();
+
+    /**
+     * @see Builder#staging()
+     */
+    Staging staging();
+
+    /**
+     * @see Builder#collectionMembers()
+     */
+    CollectionMembers collectionMembers();
+
+    /**
+     * @see Builder#unwrappedSetters()
+     */
+    UnwrappedSetters unwrappedSetters();
+
+    /**
+     * @see Builder#nestedBuilders()
+     */
+    NestedBuilders nestedBuilders();
+
+    /**
+     * @see Builder#interning()
+     */
+    Interning interning();
+
+    /**
+     * @see Builder#jsonCodec()
+     */
+    JsonCodec jsonCodec();
+
+    /**
+     * @see Builder#binaryCodec()
+     */
+    BinaryCodec binaryCodec();
+
+    /**
+     * @see Builder#mapBinding()
+     */
+    MapBinding mapBinding();
+
+    /**
+     * @see Builder#rowBinding()
+     */
+    RowBinding rowBinding();
+
+    /**
+     * @see Builder#batchBuilder()
+     */
+    BatchBuilderGeneration batchBuilder();
 }
@@ -0,0 +1,34 @@
+plugins {
+    alias(libs.plugins.jmh.gradle.plugin)
+}
+
+group = parent!!.group
+version = parent!!.version
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":easy-builder-annotation"))
+    jmh(project(":easy-builder-processor"))
+    // reflection-based baseline of the JSON codec benchmark
+    jmh(libs.jackson.databind)
+
+    // generates the builders of the records used by the runtime benchmarks
+    jmhAnnotationProcessor(project(":easy-builder-processor"))
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    resultFormat = "JSON"
+    profilers = listOf("gc")
+}
+
+tasks.compileJmhJava {
+    options.compilerArgs.add("-Xlint:all")
+    options.compilerArgs.add("-Xlint:-processing")
+    options.compilerArgs.addAll(listOf("-processor", "com.github.jacopocav.builder.processor.BuilderProcessor"))
+
+    options.release = 17
+}
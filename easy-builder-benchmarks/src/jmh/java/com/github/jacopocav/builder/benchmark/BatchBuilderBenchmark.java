@@ -0,0 +1,97 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.github.jacopocav.builder.benchmark.model.Sample;
+import com.github.jacopocav.builder.benchmark.model.SampleBuilder;
+import java.util.stream.StreamSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares constructing records from parallel primitive columns with a builder per row and with the batch builder
+ * generated by {@code batchBuilder = ENABLED}, which appends the rows to its own columns and builds them with
+ * {@code buildAll}.
+ * <p>The {@code sum} benchmarks build the records of a filled batch only while streaming them, through its spliterator,
+ * either sequentially or in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchBuilderBenchmark {
+    @Param({"1000000"})
+    private int rows;
+
+    private long[] timestamps;
+    private int[] sensors;
+    private double[] values;
+    private boolean[] valid;
+    private SampleBuilder.BatchBuilder filledBatch;
+
+    @Setup
+    public void setUp() {
+        timestamps = new long[rows];
+        sensors = new int[rows];
+        values = new double[rows];
+        valid = new boolean[rows];
+        for (int i = 0; i < rows; i++) {
+            timestamps[i] = 1_700_000_000_000L + i;
+            sensors[i] = i % 64;
+            values[i] = i * 0.5;
+            valid[i] = i % 10 != 0;
+        }
+        filledBatch = append(new SampleBuilder.BatchBuilder(rows));
+    }
+
+    @Benchmark
+    public Sample[] buildPerRow() {
+        var samples = new Sample[rows];
+        for (int i = 0; i < rows; i++) {
+            samples[i] = SampleBuilder.create()
+                    .timestamp(timestamps[i])
+                    .sensor(sensors[i])
+                    .value(values[i])
+                    .valid(valid[i])
+                    .build();
+        }
+        return samples;
+    }
+
+    @Benchmark
+    public Sample[] buildBatch() {
+        return append(new SampleBuilder.BatchBuilder()).buildAll(new Sample[rows]);
+    }
+
+    @Benchmark
+    public double sumSequential() {
+        return StreamSupport.stream(filledBatch.spliterator(), false)
+                .mapToDouble(Sample::value)
+                .sum();
+    }
+
+    @Benchmark
+    public double sumParallel() {
+        return StreamSupport.stream(filledBatch.spliterator(), true)
+                .mapToDouble(Sample::value)
+                .sum();
+    }
+
+    private SampleBuilder.BatchBuilder append(SampleBuilder.BatchBuilder batch) {
+        for (int i = 0; i < rows; i++) {
+            batch.append(timestamps[i], sensors[i], values[i], valid[i]);
+        }
+        return batch;
+    }
+}
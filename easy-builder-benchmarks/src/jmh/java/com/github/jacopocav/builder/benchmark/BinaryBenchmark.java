@@ -0,0 +1,81 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.github.jacopocav.builder.benchmark.model.Trade;
+import com.github.jacopocav.builder.benchmark.model.TradeBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the binary codec generated with {@code binaryCodec = ENABLED} with Java serialization (which reads records
+ * through their canonical constructor and writes them through their accessors, reflectively), on the same record.
+ * <p>The generated codec writes to and reads from reused heap {@link ByteBuffer}s, and serialization to and from
+ * byte arrays.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryBenchmark {
+    private Trade trade;
+    private ByteBuffer buffer;
+    private ByteBuffer encoded;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() throws IOException, ClassNotFoundException {
+        trade = new Trade("T-000042", "EUR/USD", Trade.Side.SELL, 1_000_000L, 1.08765, 7, false, "hedge \"Q3\"");
+        buffer = ByteBuffer.allocate(256);
+        encoded = ByteBuffer.allocate(256);
+        TradeBuilder.writeTo(trade, encoded);
+        encoded.flip();
+        serialized = writeSerialization();
+        if (!readGenerated().equals(trade) || !readSerialization().equals(trade)) {
+            throw new IllegalStateException("the codecs do not read back the written record");
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer writeGenerated() {
+        TradeBuilder.writeTo(trade, buffer.clear());
+        return buffer;
+    }
+
+    @Benchmark
+    public Trade readGenerated() {
+        return TradeBuilder.readFrom(encoded.rewind());
+    }
+
+    @Benchmark
+    public byte[] writeSerialization() throws IOException {
+        var bytes = new ByteArrayOutputStream(256);
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(trade);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Trade readSerialization() throws IOException, ClassNotFoundException {
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return (Trade) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.github.jacopocav.builder.benchmark.model.ArrayRecord;
+import com.github.jacopocav.builder.benchmark.model.ArrayRecordBuilder;
+import com.github.jacopocav.builder.benchmark.model.CollectionRecord;
+import com.github.jacopocav.builder.benchmark.model.CollectionRecordBuilder;
+import com.github.jacopocav.builder.benchmark.model.NestedRecord;
+import com.github.jacopocav.builder.benchmark.model.NestedRecordBuilder;
+import com.github.jacopocav.builder.benchmark.model.OptionalRecord;
+import com.github.jacopocav.builder.benchmark.model.OptionalRecordBuilder;
+import com.github.jacopocav.builder.benchmark.model.SmallRecord;
+import com.github.jacopocav.builder.benchmark.model.SmallRecordBuilder;
+import com.github.jacopocav.builder.benchmark.model.WideRecord;
+import com.github.jacopocav.builder.benchmark.model.WideRecordBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the construction of records through their generated builders with direct constructor calls.
+ * <p>Run with the {@code gc} profiler (enabled by default in the build), so that {@code gc.alloc.rate.norm} shows
+ * whether the builder allocation is removed by escape analysis: if it is, the builder benchmarks allocate the same
+ * bytes per operation as their constructor counterparts.
+ * <p>Inputs are non-final fields, so that the JIT cannot constant-fold the constructed records.
+ * <p>Reused and pooled builders are compared with new ones by {@link PooledBuilderBenchmark}.
+ * <p>Copies with one changed component are created with the copy constructor, the copy factory method and the static
+ * with-er method, which calls the constructor directly without going through a builder.
+ * <p>Records with a list are filled one element at a time, either into a temporary list passed to the setter (which is
+ * copied again by the record), or with the adders of the builder (whose immutable copy is not).
+ * <p>Records with an {@code int[]} are filled either by unboxing a temporary {@code List<Integer>}, or by appending to
+ * the growing array of the builder, which is handed off (or trimmed) by the build method.
+ * <p>Records with optional components are filled either with values wrapped by the caller, or with the unwrapped
+ * setters of the builder, which wraps them in the build method.
+ * <p>Records nesting another one are built either by building the nested record first, or by configuring the nested
+ * builder owned by the outer one, which is built by the outer build method. The latter is also measured with a reused
+ * outer builder, which resets the nested builder instead of creating a new one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BuilderRuntimeBenchmark {
+    private String text = "text";
+    private int intValue = 42;
+    private long longValue = 42L;
+    private double doubleValue = 4.2;
+    private boolean flag = true;
+    private List<String> tags = List.of("first", "second");
+    private Integer boxedInt = 1_000;
+    private Long boxedLong = 1_000L;
+    private int arrayLength = 100;
+    private String[] items = {"a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k", "l", "m", "n", "o", "p"};
+
+    private SmallRecord smallRecord;
+    private WideRecord wideRecord;
+    private NestedRecordBuilder nestedReusedBuilder;
+
+    @Setup
+    public void setUp() {
+        smallRecord = smallConstructor();
+        wideRecord = wideConstructor();
+        nestedReusedBuilder = NestedRecordBuilder.create();
+    }
+
+    @Benchmark
+    public SmallRecord smallConstructor() {
+        return new SmallRecord(text, intValue, longValue);
+    }
+
+    @Benchmark
+    public SmallRecord smallBuilder() {
+        return SmallRecordBuilder.create()
+                .name(text)
+                .count(intValue)
+                .id(longValue)
+                .build();
+    }
+
+    @Benchmark
+    public SmallRecord smallCopyConstructor() {
+        return new SmallRecord(smallRecord.name(), intValue, smallRecord.id());
+    }
+
+    @Benchmark
+    public SmallRecord smallCopyFactory() {
+        return SmallRecordBuilder.from(smallRecord).count(intValue).build();
+    }
+
+    @Benchmark
+    public SmallRecord smallWither() {
+        return SmallRecordBuilder.withCount(smallRecord, intValue);
+    }
+
+    @Benchmark
+    public CollectionRecord collectionTemporaryList() {
+        var list = new ArrayList<String>(items.length);
+        for (var item : items) {
+            list.add(item);
+        }
+        return CollectionRecordBuilder.create().name(text).items(list).build();
+    }
+
+    @Benchmark
+    public CollectionRecord collectionAdders() {
+        var builder = CollectionRecordBuilder.create().name(text).ensureItemsCapacity(items.length);
+        for (var item : items) {
+            builder.addItem(item);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public ArrayRecord arrayBoxedList() {
+        var list = new ArrayList<Integer>();
+        for (int i = 0; i < arrayLength; i++) {
+            list.add(i);
+        }
+        var values = new int[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = list.get(i);
+        }
+        return ArrayRecordBuilder.create().name(text).values(values).build();
+    }
+
+    @Benchmark
+    public ArrayRecord arrayAppend() {
+        var builder = ArrayRecordBuilder.create().name(text);
+        for (int i = 0; i < arrayLength; i++) {
+            builder.appendValue(i);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public OptionalRecord optionalWrapped() {
+        return OptionalRecordBuilder.create()
+                .name(text)
+                .total(OptionalLong.of(longValue))
+                .label(Optional.of(text))
+                .build();
+    }
+
+    @Benchmark
+    public OptionalRecord optionalUnwrapped() {
+        return OptionalRecordBuilder.create()
+                .name(text)
+                .total(longValue)
+                .label(text)
+                .build();
+    }
+
+    @Benchmark
+    public NestedRecord nestedBuiltFirst() {
+        return NestedRecordBuilder.create()
+                .name(text)
+                .small(SmallRecordBuilder.create()
+                        .name(text)
+                        .count(intValue)
+                        .id(longValue)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public NestedRecord nestedBuilder() {
+        return NestedRecordBuilder.create()
+                .name(text)
+                .small(small -> small.name(text).count(intValue).id(longValue))
+                .build();
+    }
+
+    @Benchmark
+    public NestedRecord nestedResetBuilder() {
+        return nestedReusedBuilder
+                .reset()
+                .name(text)
+                .small(small -> small.name(text).count(intValue).id(longValue))
+                .build();
+    }
+
+    @Benchmark
+    public WideRecord wideConstructor() {
+        return new WideRecord(
+                text,
+                intValue,
+                longValue,
+                doubleValue,
+                flag,
+                tags,
+                boxedInt,
+                boxedLong,
+                text,
+                intValue,
+                longValue,
+                doubleValue,
+                flag,
+                tags,
+                boxedInt,
+                boxedLong,
+                text,
+                intValue,
+                longValue,
+                doubleValue,
+                flag,
+                tags,
+                boxedInt,
+                boxedLong,
+                text,
+                intValue,
+                longValue,
+                doubleValue,
+                flag,
+                tags,
+                boxedInt,
+                boxedLong);
+    }
+
+    @Benchmark
+    public WideRecord wideBuilder() {
+        return WideRecordBuilder.create()
+                .text0(text)
+                .intValue0(intValue)
+                .longValue0(longValue)
+                .doubleValue0(doubleValue)
+                .flag0(flag)
+                .tags0(tags)
+                .boxedInt0(boxedInt)
+                .boxedLong0(boxedLong)
+                .text1(text)
+                .intValue1(intValue)
+                .longValue1(longValue)
+                .doubleValue1(doubleValue)
+                .flag1(flag)
+                .tags1(tags)
+                .boxedInt1(boxedInt)
+                .boxedLong1(boxedLong)
+                .text2(text)
+                .intValue2(intValue)
+                .longValue2(longValue)
+                .doubleValue2(doubleValue)
+                .flag2(flag)
+                .tags2(tags)
+                .boxedInt2(boxedInt)
+                .boxedLong2(boxedLong)
+                .text3(text)
+                .intValue3(intValue)
+                .longValue3(longValue)
+                .doubleValue3(doubleValue)
+                .flag3(flag)
+                .tags3(tags)
+                .boxedInt3(boxedInt)
+                .boxedLong3(boxedLong)
+                .build();
+    }
+
+    @Benchmark
+    public WideRecord wideCopyConstructor() {
+        return new WideRecord(
+                wideRecord.text0(),
+                intValue,
+                wideRecord.longValue0(),
+                wideRecord.doubleValue0(),
+                wideRecord.flag0(),
+                wideRecord.tags0(),
+                wideRecord.boxedInt0(),
+                wideRecord.boxedLong0(),
+                wideRecord.text1(),
+                wideRecord.intValue1(),
+                wideRecord.longValue1(),
+                wideRecord.doubleValue1(),
+                wideRecord.flag1(),
+                wideRecord.tags1(),
+                wideRecord.boxedInt1(),
+                wideRecord.boxedLong1(),
+                wideRecord.text2(),
+                wideRecord.intValue2(),
+                wideRecord.longValue2(),
+                wideRecord.doubleValue2(),
+                wideRecord.flag2(),
+                wideRecord.tags2(),
+                wideRecord.boxedInt2(),
+                wideRecord.boxedLong2(),
+                wideRecord.text3(),
+                wideRecord.intValue3(),
+                wideRecord.longValue3(),
+                wideRecord.doubleValue3(),
+                wideRecord.flag3(),
+                wideRecord.tags3(),
+                wideRecord.boxedInt3(),
+                wideRecord.boxedLong3());
+    }
+
+    @Benchmark
+    public WideRecord wideCopyFactory() {
+        return WideRecordBuilder.from(wideRecord).intValue0(intValue).build();
+    }
+
+    @Benchmark
+    public WideRecord wideWither() {
+        return WideRecordBuilder.withIntValue0(wideRecord, intValue);
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.github.jacopocav.builder.benchmark.ProcessorInput.NoOpProcessor;
+import com.github.jacopocav.builder.processor.BuilderProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time of the first compilation in a fresh JVM (e.g. a build without daemon, or the first build of a daemon),
+ * measured once per fork.
+ * <p>{@link #baseline(ProcessorInput)} measures the same compilation without generating builders, so that the cost
+ * of {@link BuilderProcessor} is the difference between the two.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdProcessorBenchmark {
+
+    @Benchmark
+    public void builderProcessor(ProcessorInput input) {
+        input.compile(new BuilderProcessor());
+    }
+
+    @Benchmark
+    public void baseline(ProcessorInput input) {
+        input.compile(new NoOpProcessor());
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.github.jacopocav.builder.benchmark.model.CurrencyPair;
+import com.github.jacopocav.builder.benchmark.model.CurrencyPairBuilder;
+import com.github.jacopocav.builder.benchmark.model.InternedCurrencyPairBuilder;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.function.IntFunction;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a builder whose build method returns canonical instances ({@code interning = ENABLED}) with one that always
+ * creates a new instance, for records built from a fixed number of distinct values, cycled in order.
+ * <p>The {@code build} benchmarks measure the throughput of the build method: an interned build that finds its
+ * instance in the cache allocates nothing but the builder (see {@code gc.alloc.rate.norm}), at the cost of hashing
+ * and comparing the values. With more distinct values than the 1024 slots of the cache, interned builds mostly miss.
+ * <p>The {@code footprint} benchmarks fill an array of {@value #FOOTPRINT_SIZE} records and report, as auxiliary
+ * counters, the number of distinct instances it references and the heap it retains, measured after a full GC.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InterningBenchmark {
+    private static final int FOOTPRINT_SIZE = 1_000_000;
+
+    @Param({"16", "4096"})
+    private int distinctValues;
+
+    private String[] bases;
+    private String[] quotes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        bases = new String[distinctValues];
+        quotes = new String[distinctValues];
+        for (int i = 0; i < distinctValues; i++) {
+            // the strings are shared by equal records, so that only the records themselves are duplicated
+            bases[i] = "B" + i;
+            quotes[i] = "Q" + i;
+        }
+    }
+
+    @Benchmark
+    public CurrencyPair buildPlain() {
+        return plain(nextValue());
+    }
+
+    @Benchmark
+    public CurrencyPair buildInterned() {
+        return interned(nextValue());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public CurrencyPair[] footprintPlain(Footprint footprint) {
+        return footprint.fill(this::plain, distinctValues);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public CurrencyPair[] footprintInterned(Footprint footprint) {
+        return footprint.fill(this::interned, distinctValues);
+    }
+
+    private int nextValue() {
+        var value = next;
+        next = value + 1 == distinctValues ? 0 : value + 1;
+        return value;
+    }
+
+    private CurrencyPair plain(int value) {
+        return CurrencyPairBuilder.create()
+                .base(bases[value])
+                .quote(quotes[value])
+                .scale(value)
+                .build();
+    }
+
+    private CurrencyPair interned(int value) {
+        return InternedCurrencyPairBuilder.create()
+                .base(bases[value])
+                .quote(quotes[value])
+                .scale(value)
+                .build();
+    }
+
+    /**
+     * Heap footprint of the records built by a footprint benchmark, reported by JMH next to its score
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        /**
+         * Number of distinct instances referenced by the array
+         */
+        public long distinctInstances;
+        /**
+         * Bytes of heap retained by the array and the records it references
+         */
+        public long retainedBytes;
+
+        CurrencyPair[] fill(IntFunction<CurrencyPair> build, int distinctValues) {
+            var usedBefore = usedHeapAfterGc();
+            var records = new CurrencyPair[FOOTPRINT_SIZE];
+            for (int i = 0; i < records.length; i++) {
+                records[i] = build.apply(i % distinctValues);
+            }
+            retainedBytes = usedHeapAfterGc() - usedBefore;
+
+            var distinct = Collections.newSetFromMap(new IdentityHashMap<CurrencyPair, Boolean>());
+            Collections.addAll(distinct, records);
+            distinctInstances = distinct.size();
+            return records;
+        }
+
+        private static long usedHeapAfterGc() {
+            System.gc();
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        }
+    }
+}
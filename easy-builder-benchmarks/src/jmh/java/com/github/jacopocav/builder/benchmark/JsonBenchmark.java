@@ -0,0 +1,74 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jacopocav.builder.benchmark.model.Trade;
+import com.github.jacopocav.builder.benchmark.model.TradeBuilder;
+import java.io.IOException;
+import java.io.StringReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the JSON reader and writer generated with {@code jsonCodec = ENABLED} with a reflection-based mapper
+ * (Jackson's {@link ObjectMapper}, which reads records through their canonical constructor and writes them through
+ * their accessors), on the same payload.
+ * <p>The {@code read} benchmarks parse a {@link String} (and, for the generated reader, a {@link java.io.Reader} too)
+ * into a record, the {@code write} benchmarks serialize a record into a {@link String}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+    private ObjectMapper objectMapper;
+    private Trade trade;
+    private String json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper();
+        trade = new Trade("T-000042", "EUR/USD", Trade.Side.SELL, 1_000_000L, 1.08765, 7, false, "hedge \"Q3\"");
+        json = objectMapper.writeValueAsString(trade);
+        if (!TradeBuilder.readJson(json).equals(trade) || !TradeBuilder.toJson(trade).equals(json)) {
+            throw new IllegalStateException("the generated codec does not match the mapper: " + json);
+        }
+    }
+
+    @Benchmark
+    public Trade readGenerated() {
+        return TradeBuilder.readJson(json);
+    }
+
+    @Benchmark
+    public Trade readGeneratedFromReader() throws IOException {
+        return TradeBuilder.readJson(new StringReader(json));
+    }
+
+    @Benchmark
+    public Trade readReflection() throws JsonProcessingException {
+        return objectMapper.readValue(json, Trade.class);
+    }
+
+    @Benchmark
+    public String writeGenerated() {
+        return TradeBuilder.toJson(trade);
+    }
+
+    @Benchmark
+    public String writeReflection() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(trade);
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.github.jacopocav.builder.benchmark.model.Trade;
+import com.github.jacopocav.builder.benchmark.model.TradeBuilder;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares binding a record from a map of its property names with the methods generated by
+ * {@code mapBinding = ENABLED}, with a reflective binder (which looks up every record component in the map and calls
+ * the canonical constructor, both found once) and with plain setter calls on values already taken out of the map.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapBindingBenchmark {
+    private Map<String, Object> row;
+    private RecordComponent[] components;
+    private Constructor<Trade> constructor;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        row = new LinkedHashMap<>();
+        row.put("id", "T-000042");
+        row.put("symbol", "EUR/USD");
+        row.put("side", Trade.Side.SELL);
+        row.put("quantity", 1_000_000L);
+        row.put("price", 1.08765);
+        row.put("venue", 7);
+        row.put("partial", false);
+        row.put("note", "hedge");
+        components = Trade.class.getRecordComponents();
+        constructor = Trade.class.getDeclaredConstructor(
+                Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+        if (!bindGenerated().equals(bindReflection()) || !bindGenerated().equals(setters())) {
+            throw new IllegalStateException("the binders do not build the same record");
+        }
+    }
+
+    @Benchmark
+    public Trade bindGenerated() {
+        return TradeBuilder.fromMap(row);
+    }
+
+    @Benchmark
+    public Trade bindReflection() throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        var arguments = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            arguments[i] = row.get(components[i].getName());
+        }
+        return constructor.newInstance(arguments);
+    }
+
+    @Benchmark
+    public Trade setters() {
+        return TradeBuilder.create()
+                .id((String) row.get("id"))
+                .symbol((String) row.get("symbol"))
+                .side((Trade.Side) row.get("side"))
+                .quantity((Long) row.get("quantity"))
+                .price((Double) row.get("price"))
+                .venue((Integer) row.get("venue"))
+                .partial((Boolean) row.get("partial"))
+                .note((String) row.get("note"))
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.github.jacopocav.builder.benchmark.model.SmallRecord;
+import com.github.jacopocav.builder.benchmark.model.SmallRecordBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares pooled builders ({@code acquire()} and {@code release()}) with new ones ({@code create()}), and with a
+ * builder owned by the benchmark thread and {@code reset()} after every build.
+ * <p>Run with the {@code gc} profiler (enabled by default in the build), so that {@code gc.alloc.rate.norm} shows the
+ * bytes allocated per build. In the {@code local} benchmarks the builder never leaves the benchmark method, so escape
+ * analysis can remove the allocation of a new builder; in the {@code escaping} ones the builder is passed to a
+ * {@link Blackhole}, as when it is handed to a method that is not inlined, so a new builder is allocated on every build
+ * unless it is pooled.
+ * <p>The {@code contended} benchmarks run on {@value #CONTENDED_THREADS} threads, which share the slots of the pool.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PooledBuilderBenchmark {
+    private static final int CONTENDED_THREADS = 4;
+
+    private String text = "text";
+    private int intValue = 42;
+    private long longValue = 42L;
+
+    private SmallRecordBuilder ownedBuilder;
+
+    @Setup
+    public void setUp() {
+        ownedBuilder = SmallRecordBuilder.create();
+    }
+
+    @Benchmark
+    public SmallRecord createLocal() {
+        return SmallRecordBuilder.create()
+                .name(text)
+                .count(intValue)
+                .id(longValue)
+                .build();
+    }
+
+    @Benchmark
+    public SmallRecord resetLocal() {
+        return ownedBuilder.reset().name(text).count(intValue).id(longValue).build();
+    }
+
+    @Benchmark
+    public SmallRecord pooledLocal() {
+        var builder = SmallRecordBuilder.acquire();
+        var record = builder.name(text).count(intValue).id(longValue).build();
+        builder.release();
+        return record;
+    }
+
+    @Benchmark
+    public SmallRecord createEscaping(Blackhole blackhole) {
+        var builder = SmallRecordBuilder.create();
+        blackhole.consume(builder);
+        return builder.name(text).count(intValue).id(longValue).build();
+    }
+
+    @Benchmark
+    public SmallRecord pooledEscaping(Blackhole blackhole) {
+        var builder = SmallRecordBuilder.acquire();
+        blackhole.consume(builder);
+        var record = builder.name(text).count(intValue).id(longValue).build();
+        builder.release();
+        return record;
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public SmallRecord createContended(Blackhole blackhole) {
+        return createEscaping(blackhole);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public SmallRecord pooledContended(Blackhole blackhole) {
+        return pooledEscaping(blackhole);
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.jacopocav.builder.annotation.Builder;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import com.github.jacopocav.builder.processor.BuilderProcessor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The synthetic sources compiled by the processor benchmarks, written to a temporary directory once per trial.
+ * <p>Sources are compiled in-process with {@code -proc:only}, so that the measured time does not include the
+ * generation of class files.
+ */
+@State(Scope.Benchmark)
+public class ProcessorInput {
+    @Param({"10", "100", "1000", "10000"})
+    public int typeCount;
+
+    @Param({"1", "10", "50", "200"})
+    public int parameterCount;
+
+    @Param({"0", "3"})
+    public int inheritanceDepth;
+
+    @Param({"DISABLED", "ENABLED", "DYNAMIC"})
+    public CopyFactoryMethodGeneration copyFactoryMethod;
+
+    private final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    private Path workDir;
+    private List<Path> sourceFiles;
+    private List<String> options;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("easy-builder-benchmark");
+        var sourceOutput = Files.createDirectories(workDir.resolve("generated"));
+        sourceFiles = new ArrayList<>();
+
+        var sources = SyntheticSources.generate(typeCount, parameterCount, inheritanceDepth, copyFactoryMethod);
+        for (var source : sources.entrySet()) {
+            var file = workDir.resolve("src").resolve(source.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue());
+            sourceFiles.add(file);
+        }
+
+        options = List.of(
+                "-proc:only",
+                "-classpath", System.getProperty("java.class.path"),
+                "-s", sourceOutput.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(workDir)) {
+            for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Compiles all sources with {@code processor} as the only annotation processor
+     *
+     * @throws IllegalStateException if the compilation fails (i.e. the benchmark would not measure a compilation
+     *                               that generates all builders)
+     */
+    public void compile(Processor processor) {
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, UTF_8)) {
+            var task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    options,
+                    null,
+                    fileManager.getJavaFileObjectsFromPaths(sourceFiles));
+            task.setProcessors(List.of(processor));
+
+            if (!task.call()) {
+                throw new IllegalStateException("compilation of synthetic sources failed: "
+                        + diagnostics.getDiagnostics().stream()
+                                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                                .toList());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Claims {@code @Builder} without doing anything, to measure the cost of the compilation itself
+     */
+    public static class NoOpProcessor extends AbstractProcessor {
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return Set.of(Builder.class.getName());
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latest();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return true;
+        }
+    }
+}
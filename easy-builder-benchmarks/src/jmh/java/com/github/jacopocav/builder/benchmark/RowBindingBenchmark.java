@@ -0,0 +1,125 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.github.jacopocav.builder.benchmark.model.Trade;
+import com.github.jacopocav.builder.benchmark.model.TradeBuilder;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares binding a record from an {@code Object[]} and a {@code String[]} row with the binder generated by
+ * {@code rowBinding = ENABLED}, and with a reflective row mapper which, like the generated binder, maps the column
+ * labels to the record components once, and then fills the arguments of the canonical constructor for every row
+ * (parsing text with a function chosen once per component).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RowBindingBenchmark {
+    private static final String[] HEADER = {"ID", "SYMBOL", "SIDE", "QUANTITY", "PRICE", "VENUE", "PARTIAL", "NOTE"};
+
+    private Object[] row;
+    private String[] textRow;
+    private TradeBuilder.RowBinder binder;
+    private int[] componentIndexes;
+    private Function<String, Object>[] parsers;
+    private Constructor<Trade> constructor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ReflectiveOperationException {
+        row = new Object[] {"T-000042", "EUR/USD", Trade.Side.SELL, 1_000_000L, 1.08765, 7, false, "hedge"};
+        textRow = Arrays.stream(row).map(String::valueOf).toArray(String[]::new);
+        binder = TradeBuilder.rowBinder(HEADER);
+
+        var components = Trade.class.getRecordComponents();
+        constructor = Trade.class.getDeclaredConstructor(
+                Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+        componentIndexes = new int[HEADER.length];
+        parsers = new Function[components.length];
+        for (int i = 0; i < HEADER.length; i++) {
+            componentIndexes[i] = indexOf(HEADER[i], components);
+        }
+        for (int i = 0; i < components.length; i++) {
+            parsers[i] = parser(components[i].getType());
+        }
+
+        var expected = bindObjectsReflection();
+        if (!bindObjectsGenerated().equals(expected)
+                || !bindTextGenerated().equals(expected)
+                || !bindTextReflection().equals(expected)) {
+            throw new IllegalStateException("the binders do not build the same record");
+        }
+    }
+
+    @Benchmark
+    public Trade bindObjectsGenerated() {
+        return binder.bind(row);
+    }
+
+    @Benchmark
+    public Trade bindTextGenerated() {
+        return binder.bind(textRow);
+    }
+
+    @Benchmark
+    public Trade bindObjectsReflection()
+            throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        var arguments = new Object[parsers.length];
+        for (int i = 0; i < componentIndexes.length; i++) {
+            arguments[componentIndexes[i]] = row[i];
+        }
+        return constructor.newInstance(arguments);
+    }
+
+    @Benchmark
+    public Trade bindTextReflection() throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        var arguments = new Object[parsers.length];
+        for (int i = 0; i < componentIndexes.length; i++) {
+            var index = componentIndexes[i];
+            arguments[index] = parsers[index].apply(textRow[i]);
+        }
+        return constructor.newInstance(arguments);
+    }
+
+    private static int indexOf(String label, RecordComponent[] components) {
+        for (int i = 0; i < components.length; i++) {
+            if (components[i].getName().equalsIgnoreCase(label)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("no component for column " + label);
+    }
+
+    private static Function<String, Object> parser(Class<?> type) {
+        if (type == long.class) {
+            return Long::parseLong;
+        } else if (type == int.class) {
+            return Integer::parseInt;
+        } else if (type == double.class) {
+            return Double::parseDouble;
+        } else if (type == boolean.class) {
+            return Boolean::parseBoolean;
+        } else if (type == Trade.Side.class) {
+            return Trade.Side::valueOf;
+        }
+        return text -> text;
+    }
+}
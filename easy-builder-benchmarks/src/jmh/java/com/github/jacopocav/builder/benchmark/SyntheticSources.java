@@ -0,0 +1,128 @@
+package com.github.jacopocav.builder.benchmark;
+
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Generates synthetic classes with a {@code @Builder}-annotated constructor, used as input of the processor
+ * benchmarks.
+ * <p>Every annotated class extends a dedicated chain of {@code inheritanceDepth} superclasses, and its
+ * constructor parameters are spread evenly across the levels of the chain, so that the processor has to walk up the
+ * hierarchy to find their accessors.
+ */
+final class SyntheticSources {
+    static final String PACKAGE_NAME = "org.example.synthetic";
+
+    private static final List<String> PARAMETER_TYPES =
+            List.of("String", "long", "java.util.List<Integer>", "int", "boolean", "Double");
+
+    private SyntheticSources() {}
+
+    /**
+     * @return the qualified name and source code of every generated class
+     */
+    static Map<String, String> generate(
+            int typeCount, int parameterCount, int inheritanceDepth, CopyFactoryMethodGeneration copyFactoryMethod) {
+        var sources = new LinkedHashMap<String, String>();
+
+        for (int type = 0; type < typeCount; type++) {
+            for (int level = 0; level <= inheritanceDepth; level++) {
+                var className = className(type, level, inheritanceDepth);
+                var source = generateClass(type, level, inheritanceDepth, parameterCount, copyFactoryMethod);
+                sources.put(PACKAGE_NAME + "." + className, source);
+            }
+        }
+
+        return sources;
+    }
+
+    /**
+     * @return the source of the class at the given {@code level} of the hierarchy of {@code type}, where
+     * {@code inheritanceDepth} is the annotated class and {@code 0} is the topmost superclass
+     */
+    private static String generateClass(
+            int type,
+            int level,
+            int inheritanceDepth,
+            int parameterCount,
+            CopyFactoryMethodGeneration copyFactoryMethod) {
+        var levelCount = inheritanceDepth + 1;
+        var ownParameters = IntStream.range(0, parameterCount)
+                .filter(i -> i % levelCount == level)
+                .boxed()
+                .toList();
+        var inheritedParameters = IntStream.range(0, parameterCount)
+                .filter(i -> i % levelCount < level)
+                .boxed()
+                .toList();
+        var allParameters = IntStream.range(0, parameterCount)
+                .filter(i -> i % levelCount <= level)
+                .boxed()
+                .toList();
+
+        var source = new StringBuilder();
+        source.append("package ").append(PACKAGE_NAME).append(";\n\n");
+        source.append("public class ").append(className(type, level, inheritanceDepth));
+        if (level > 0) {
+            source.append(" extends ").append(className(type, level - 1, inheritanceDepth));
+        }
+        source.append(" {\n");
+
+        for (var i : ownParameters) {
+            source.append("    private final ").append(parameterType(i)).append(' ');
+            source.append(parameterName(i)).append(";\n");
+        }
+
+        if (level == inheritanceDepth) {
+            source.append("\n    @com.github.jacopocav.builder.annotation.Builder(copyFactoryMethod = ")
+                    .append("com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration.")
+                    .append(copyFactoryMethod.name())
+                    .append(")");
+        }
+        source.append("\n    public ").append(className(type, level, inheritanceDepth)).append('(');
+        source.append(String.join(
+                ", ",
+                allParameters.stream()
+                        .map(i -> parameterType(i) + " " + parameterName(i))
+                        .toList()));
+        source.append(") {\n");
+        if (level > 0) {
+            source.append("        super(");
+            source.append(String.join(
+                    ", ", inheritedParameters.stream().map(SyntheticSources::parameterName).toList()));
+            source.append(");\n");
+        }
+        for (var i : ownParameters) {
+            source.append("        this.").append(parameterName(i)).append(" = ").append(parameterName(i));
+            source.append(";\n");
+        }
+        source.append("    }\n");
+
+        for (var i : ownParameters) {
+            source.append("\n    public ").append(parameterType(i)).append(' ').append(getterName(i));
+            source.append("() {\n        return ").append(parameterName(i)).append(";\n    }\n");
+        }
+
+        return source.append("}\n").toString();
+    }
+
+    private static String className(int type, int level, int inheritanceDepth) {
+        return level == inheritanceDepth ? "Type" + type : "Type" + type + "Level" + level;
+    }
+
+    private static String parameterType(int parameter) {
+        return PARAMETER_TYPES.get(parameter % PARAMETER_TYPES.size());
+    }
+
+    private static String parameterName(int parameter) {
+        return "property" + parameter;
+    }
+
+    private static String getterName(int parameter) {
+        var prefix = parameterType(parameter).equals("boolean") ? "is" : "get";
+        return prefix + "Property" + parameter;
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.jacopocav.builder.benchmark;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.github.jacopocav.builder.benchmark.ProcessorInput.NoOpProcessor;
+import com.github.jacopocav.builder.processor.BuilderProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of a compilation in a long-lived, warmed-up JVM (e.g. a Gradle daemon).
+ * <p>{@link #baseline(ProcessorInput)} measures the same compilation without generating builders, so that the cost
+ * of {@link BuilderProcessor} is the difference between the two.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WarmProcessorBenchmark {
+
+    @Benchmark
+    public void builderProcessor(ProcessorInput input) {
+        input.compile(new BuilderProcessor());
+    }
+
+    @Benchmark
+    public void baseline(ProcessorInput input) {
+        input.compile(new NoOpProcessor());
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.jacopocav.builder.benchmark.model;
+
+import com.github.jacopocav.builder.annotation.Builder;
+
+/**
+ * A record with an array of primitives, whose builder appends its elements to a growing array.
+ */
+@Builder(collectionMembers = Builder.CollectionMembers.HAND_OFF)
+public record ArrayRecord(String name, int[] values) {}
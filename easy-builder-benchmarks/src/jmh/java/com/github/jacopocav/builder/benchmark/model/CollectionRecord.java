@@ -0,0 +1,15 @@
+package com.github.jacopocav.builder.benchmark.model;
+
+import com.github.jacopocav.builder.annotation.Builder;
+import java.util.List;
+
+/**
+ * A record that copies its list defensively, like most records with collection components.
+ * <p>Its builder has collection members, whose immutable copy is not copied again by the record.
+ */
+@Builder(collectionMembers = Builder.CollectionMembers.IMMUTABLE_COPY)
+public record CollectionRecord(String name, List<String> items) {
+    public CollectionRecord {
+        items = List.copyOf(items);
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.jacopocav.builder.benchmark.model;
+
+import com.github.jacopocav.builder.annotation.Builder;
+
+/**
+ * A small value record whose instances are highly repetitive, with two builders: {@code CurrencyPairBuilder}, which
+ * always creates a new instance, and {@code InternedCurrencyPairBuilder}, which returns canonical instances.
+ */
+@Builder
+public record CurrencyPair(String base, String quote, int scale) {
+
+    @Builder(className = "Interned{TargetClassName}Builder", interning = Builder.Interning.ENABLED)
+    public static CurrencyPair of(String base, String quote, int scale) {
+        return new CurrencyPair(base, quote, scale);
+    }
+}
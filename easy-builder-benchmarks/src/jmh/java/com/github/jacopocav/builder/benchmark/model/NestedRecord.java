@@ -0,0 +1,11 @@
+package com.github.jacopocav.builder.benchmark.model;
+
+import com.github.jacopocav.builder.annotation.Builder;
+
+/**
+ * A record nesting a {@link SmallRecord}, whose builder also has a setter that configures a nested
+ * {@link SmallRecordBuilder}.
+ * <p>Its builder can be reset, so that the nested builder it owns is reused as well.
+ */
+@Builder(reuse = Builder.Reuse.RESET, nestedBuilders = Builder.NestedBuilders.ENABLED)
+public record NestedRecord(String name, SmallRecord small) {}
@@ -0,0 +1,11 @@
+package com.github.jacopocav.builder.benchmark.model;
+
+import com.github.jacopocav.builder.annotation.Builder;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * A record with optional components, whose builder also has setters that take the unwrapped values.
+ */
+@Builder(unwrappedSetters = Builder.UnwrappedSetters.ENABLED)
+public record OptionalRecord(String name, OptionalLong total, Optional<String> label) {}
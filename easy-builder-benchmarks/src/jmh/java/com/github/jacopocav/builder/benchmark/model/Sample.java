@@ -0,0 +1,10 @@
+package com.github.jacopocav.builder.benchmark.model;
+
+import com.github.jacopocav.builder.annotation.Builder;
+
+/**
+ * A record of primitive components, constructed in bulk from parallel columns of values
+ * ({@code batchBuilder = ENABLED}).
+ */
+@Builder(batchBuilder = Builder.BatchBuilderGeneration.ENABLED)
+public record Sample(long timestamp, int sensor, double value, boolean valid) {}
@@ -0,0 +1,10 @@
+package com.github.jacopocav.builder.benchmark.model;
+
+import com.github.jacopocav.builder.annotation.Builder;
+
+/**
+ * A record with a few components, typical of a small value object.
+ * <p>Its builder is pooled, so that reused builders can be compared with new ones.
+ */
+@Builder(reuse = Builder.Reuse.POOLED, witherMethods = Builder.WitherMethodGeneration.ENABLED)
+public record SmallRecord(String name, int count, long id) {}
@@ -0,0 +1,24 @@
+package com.github.jacopocav.builder.benchmark.model;
+
+import com.github.jacopocav.builder.annotation.Builder;
+import java.io.Serializable;
+
+/**
+ * A typical message payload, read and written by its builder ({@code jsonCodec = ENABLED} and
+ * {@code binaryCodec = ENABLED}) or by a reflection-based mapper or serializer, and bound from a map of its property
+ * names ({@code mapBinding = ENABLED}) or from a row of columns ({@code rowBinding = ENABLED}).
+ */
+@Builder(
+        jsonCodec = Builder.JsonCodec.ENABLED,
+        binaryCodec = Builder.BinaryCodec.ENABLED,
+        mapBinding = Builder.MapBinding.ENABLED,
+        rowBinding = Builder.RowBinding.ENABLED)
+public record Trade(
+        String id, String symbol, Side side, long quantity, double price, int venue, boolean partial, String note)
+        implements Serializable {
+
+    public enum Side {
+        BUY,
+        SELL
+    }
+}
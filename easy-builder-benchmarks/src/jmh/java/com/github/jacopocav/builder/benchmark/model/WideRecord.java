@@ -0,0 +1,42 @@
+package com.github.jacopocav.builder.benchmark.model;
+
+import com.github.jacopocav.builder.annotation.Builder;
+import java.util.List;
+
+/**
+ * A record with many components of mixed types
+ */
+@Builder(witherMethods = Builder.WitherMethodGeneration.ENABLED)
+public record WideRecord(
+        String text0,
+        int intValue0,
+        long longValue0,
+        double doubleValue0,
+        boolean flag0,
+        List<String> tags0,
+        Integer boxedInt0,
+        Long boxedLong0,
+        String text1,
+        int intValue1,
+        long longValue1,
+        double doubleValue1,
+        boolean flag1,
+        List<String> tags1,
+        Integer boxedInt1,
+        Long boxedLong1,
+        String text2,
+        int intValue2,
+        long longValue2,
+        double doubleValue2,
+        boolean flag2,
+        List<String> tags2,
+        Integer boxedInt2,
+        Long boxedLong2,
+        String text3,
+        int intValue3,
+        long longValue3,
+        double doubleValue3,
+        boolean flag3,
+        List<String> tags3,
+        Integer boxedInt3,
+        Long boxedLong3) {}
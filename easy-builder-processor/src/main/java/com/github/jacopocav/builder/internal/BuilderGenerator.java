@@ -1,39 +1,91 @@
 package com.github.jacopocav.builder.internal;
 
 import com.github.jacopocav.builder.internal.finder.CreatorMethodFinder;
-import com.github.jacopocav.builder.internal.generation.GeneratedJavaFile;
+import com.github.jacopocav.builder.internal.finder.NestedBuilderFinder;
 import com.github.jacopocav.builder.internal.option.OptionsRepository;
+import com.github.jacopocav.builder.internal.option.RawOptions;
+import com.github.jacopocav.builder.internal.stats.Phase;
+import com.github.jacopocav.builder.internal.stats.ProcessingStats;
 import com.github.jacopocav.builder.internal.template.BuilderTemplateRenderer;
+import com.github.jacopocav.builder.internal.template.RenderableBuilder;
 import com.github.jacopocav.builder.internal.validation.ElementValidator;
+import java.util.Collection;
+import java.util.Set;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
 
 public class BuilderGenerator {
     private final ElementValidator elementValidator;
     private final CreatorMethodFinder creatorMethodFinder;
     private final OptionsRepository optionsRepository;
     private final BuilderTemplateRenderer generator;
+    private final NestedBuilderFinder nestedBuilderFinder;
+    private final ProcessingStats stats;
 
     BuilderGenerator(
             ElementValidator elementValidator,
             CreatorMethodFinder creatorMethodFinder,
             OptionsRepository optionsRepository,
-            BuilderTemplateRenderer generator) {
+            BuilderTemplateRenderer generator,
+            NestedBuilderFinder nestedBuilderFinder,
+            ProcessingStats stats) {
 
         this.elementValidator = elementValidator;
         this.creatorMethodFinder = creatorMethodFinder;
         this.optionsRepository = optionsRepository;
         this.generator = generator;
+        this.nestedBuilderFinder = nestedBuilderFinder;
+        this.stats = stats;
     }
 
     /**
-     * Generates a builder source file from a single annotated {@code element}.
+     * Reads everything needed to generate the builder of a single annotated {@code element}, leaving out the
+     * rendering of the source file.
+     * <p>Must be called on the compiler thread, while the returned {@link RenderableBuilder} can be rendered
+     * on any thread.
      */
-    public GeneratedJavaFile generate(Element element) {
-        elementValidator.validate(element);
+    public PreparedBuilder prepare(Element element) {
+        stats.countElement(element);
+        stats.measure(Phase.VALIDATION, () -> elementValidator.validate(element));
 
-        var creatorMethod = creatorMethodFinder.find(element);
-        var rawOptions = optionsRepository.getRaw(element);
+        var creatorMethod = stats.measure(Phase.CREATOR_METHOD_LOOKUP, () -> creatorMethodFinder.find(element));
+        var rawOptions = stats.measure(Phase.OPTIONS_RETRIEVAL, () -> optionsRepository.getRaw(element));
 
-        return generator.render(rawOptions, creatorMethod);
+        return stats.measure(Phase.MODEL_CREATION, () -> prepare(element, rawOptions, creatorMethod));
     }
+
+    /**
+     * Prepares again the builder of an {@code element} that has already been {@link #prepare prepared} in the current
+     * round, after some of the builders it nests have been {@link #discardNestedBuilders discarded}.
+     */
+    public PreparedBuilder prepareAgain(Element element) {
+        return stats.measure(
+                Phase.NESTING_RETRY,
+                () -> prepare(element, optionsRepository.getRaw(element), creatorMethodFinder.find(element)));
+    }
+
+    private PreparedBuilder prepare(Element element, RawOptions rawOptions, ExecutableElement creatorMethod) {
+        // discards the types nested by a previous preparation that failed
+        nestedBuilderFinder.takeNestedTypes();
+        var builder = generator.prepare(element, rawOptions, creatorMethod);
+
+        return new PreparedBuilder(builder, nestedBuilderFinder.takeNestedTypes());
+    }
+
+    /**
+     * Stops nesting the builders of the annotated {@code elements} whose preparation failed in the current round.
+     *
+     * @return the types of {@code elements} whose builders are no longer nested: the prepared builders that nest any of
+     * them must be {@link #prepareAgain prepared again}, to avoid referring to a class that is never generated
+     */
+    public Set<TypeElement> discardNestedBuilders(Collection<? extends Element> elements) {
+        return nestedBuilderFinder.discardFailed(elements);
+    }
+
+    /**
+     * @param builder     the builder of an annotated element
+     * @param nestedTypes the types annotated in the current compilation whose builders are nested by {@code builder}
+     */
+    public record PreparedBuilder(RenderableBuilder builder, Set<TypeElement> nestedTypes) {}
 }
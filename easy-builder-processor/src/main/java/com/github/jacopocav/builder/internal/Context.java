@@ -2,8 +2,13 @@ package com.github.jacopocav.builder.internal;
 
 import com.github.jacopocav.builder.internal.error.printer.ProcessingExceptionPrinter;
 import com.github.jacopocav.builder.internal.option.OptionCompilerArgumentsValidator;
+import com.github.jacopocav.builder.internal.option.ProcessorOptions;
+import com.github.jacopocav.builder.internal.stats.ProcessingStats;
+import com.github.jacopocav.builder.internal.stats.ProcessingStatsReporter;
+import com.github.jacopocav.builder.internal.util.RoundScopedCache;
 import com.github.jacopocav.builder.internal.writer.GeneratedJavaFileWriter;
 import com.github.jacopocav.builder.processor.BuilderProcessor;
+import java.util.List;
 import javax.annotation.processing.ProcessingEnvironment;
 
 /**
@@ -19,6 +24,20 @@ public interface Context {
 
     GeneratedJavaFileWriter generatedJavaFileWriter();
 
+    ProcessorOptions processorOptions();
+
+    /**
+     * @return the statistics collected during the compilation (disabled unless enabled by {@link #processorOptions()})
+     */
+    ProcessingStats processingStats();
+
+    ProcessingStatsReporter processingStatsReporter();
+
+    /**
+     * @return the caches that must be cleared at the end of each processing round
+     */
+    List<RoundScopedCache> roundScopedCaches();
+
     static Context createDefault(ProcessingEnvironment processingEnvironment) {
         return new ContextImpl(processingEnvironment);
     }
@@ -1,24 +1,36 @@
 package com.github.jacopocav.builder.internal;
 
+import static com.github.jacopocav.builder.annotation.Builder.NestedBuilders.ENABLED;
+
+import com.github.jacopocav.builder.internal.bytecode.BuilderClassFileGenerator;
 import com.github.jacopocav.builder.internal.error.printer.ProcessingExceptionPrinter;
 import com.github.jacopocav.builder.internal.finder.AccessorFinder;
+import com.github.jacopocav.builder.internal.finder.AccessorIndex;
 import com.github.jacopocav.builder.internal.finder.CreatorMethodFinder;
+import com.github.jacopocav.builder.internal.finder.NestedBuilderFinder;
 import com.github.jacopocav.builder.internal.finder.strategy.CreatorMethodFinderStrategies;
 import com.github.jacopocav.builder.internal.generation.name.GeneratedTypeNameGenerator;
 import com.github.jacopocav.builder.internal.generation.name.NameTemplateInterpolator;
 import com.github.jacopocav.builder.internal.option.OptionCompilerArgumentsValidator;
 import com.github.jacopocav.builder.internal.option.OptionsRepository;
+import com.github.jacopocav.builder.internal.option.ProcessorOptions;
+import com.github.jacopocav.builder.internal.stats.ProcessingStats;
+import com.github.jacopocav.builder.internal.stats.ProcessingStatsReporter;
 import com.github.jacopocav.builder.internal.template.BuilderTemplateRenderer;
+import com.github.jacopocav.builder.internal.template.CreationTimestampProvider;
 import com.github.jacopocav.builder.internal.template.GeneratedBuilderOptionsRetriever;
 import com.github.jacopocav.builder.internal.template.JteModelCreator;
 import com.github.jacopocav.builder.internal.template.MembersGenerator;
 import com.github.jacopocav.builder.internal.template.jte.StaticTemplates;
+import com.github.jacopocav.builder.internal.type.TypeNameCache;
 import com.github.jacopocav.builder.internal.type.TypeRegistry;
+import com.github.jacopocav.builder.internal.util.RoundScopedCache;
 import com.github.jacopocav.builder.internal.validation.ElementValidator;
 import com.github.jacopocav.builder.internal.validation.JavaNameValidator;
 import com.github.jacopocav.builder.internal.validation.rule.ValidationRules;
 import com.github.jacopocav.builder.internal.writer.GeneratedJavaFileWriter;
 import java.time.Clock;
+import java.util.List;
 import javax.annotation.processing.ProcessingEnvironment;
 
 class ContextImpl implements Context {
@@ -30,6 +42,10 @@ class ContextImpl implements Context {
     private final GeneratedJavaFileWriter generatedJavaFileWriter;
     private final OptionsRepository optionsRepository;
     private final BuilderGenerator builderGenerator;
+    private final ProcessorOptions processorOptions;
+    private final List<RoundScopedCache> roundScopedCaches;
+    private final ProcessingStats processingStats;
+    private final ProcessingStatsReporter processingStatsReporter;
 
     ContextImpl(ProcessingEnvironment processingEnvironment) {
         var nameTemplateInterpolator = new NameTemplateInterpolator();
@@ -37,26 +53,49 @@ class ContextImpl implements Context {
         var types = processingEnvironment.getTypeUtils();
         var elements = processingEnvironment.getElementUtils();
         var targetClassRetriever = new SourceClassRetriever(types);
+        var accessorIndex = new AccessorIndex(types, elements);
+        var accessorFinder = new AccessorFinder(types, elements, targetClassRetriever, accessorIndex);
+        var typeNameCache = new TypeNameCache();
 
+        processorOptions = ProcessorOptions.from(processingEnvironment.getOptions());
+        processingStats = processorOptions.stats() ? ProcessingStats.enabled() : ProcessingStats.disabled();
         creatorMethodFinder = new CreatorMethodFinder(CreatorMethodFinderStrategies.getAll());
         elementValidator = new ElementValidator(ValidationRules.getAll(javaNameValidator));
         optionsRepository = new OptionsRepository(processingEnvironment.getOptions(), nameTemplateInterpolator);
+        var nestedBuilderFinder = new NestedBuilderFinder(
+                types, elements, optionsRepository, optionsRepository.getDefaults().nestedBuilders() == ENABLED);
         builderTemplateRenderer = new BuilderTemplateRenderer(
                 new SourceClassRetriever(types),
                 optionsRepository,
                 new GeneratedTypeNameGenerator(elements),
                 new JteModelCreator(
-                        Clock.systemDefaultZone(),
-                        new MembersGenerator(new AccessorFinder(types, elements, targetClassRetriever)),
+                        new CreationTimestampProvider(
+                                Clock.systemDefaultZone(), processorOptions.reproducible(), System::getenv),
+                        new MembersGenerator(accessorFinder, nestedBuilderFinder, types),
                         new GeneratedBuilderOptionsRetriever(),
-                        TypeRegistry::new,
-                        new StaticTemplates()));
+                        () -> new TypeRegistry(typeNameCache),
+                        new StaticTemplates()),
+                new BuilderClassFileGenerator(
+                        types,
+                        elements,
+                        accessorFinder,
+                        nestedBuilderFinder,
+                        processingEnvironment.getSourceVersion()),
+                processorOptions.classFiles());
         optionCompilerArgumentsValidator = new OptionCompilerArgumentsValidator(javaNameValidator);
         processingExceptionPrinter = new ProcessingExceptionPrinter(
                 "@Builder processing error: ", processingEnvironment.getMessager(), false);
         generatedJavaFileWriter = new GeneratedJavaFileWriter(processingEnvironment.getFiler());
-        builderGenerator =
-                new BuilderGenerator(elementValidator, creatorMethodFinder, optionsRepository, builderTemplateRenderer);
+        builderGenerator = new BuilderGenerator(
+                elementValidator,
+                creatorMethodFinder,
+                optionsRepository,
+                builderTemplateRenderer,
+                nestedBuilderFinder,
+                processingStats);
+        processingStatsReporter =
+                new ProcessingStatsReporter(processingEnvironment.getMessager(), processorOptions.statsFile());
+        roundScopedCaches = List.of(accessorIndex, typeNameCache, nameTemplateInterpolator, nestedBuilderFinder);
     }
 
     @Override
@@ -78,4 +117,24 @@ class ContextImpl implements Context {
     public ProcessingExceptionPrinter processingExceptionPrinter() {
         return processingExceptionPrinter;
     }
+
+    @Override
+    public ProcessorOptions processorOptions() {
+        return processorOptions;
+    }
+
+    @Override
+    public List<RoundScopedCache> roundScopedCaches() {
+        return roundScopedCaches;
+    }
+
+    @Override
+    public ProcessingStats processingStats() {
+        return processingStats;
+    }
+
+    @Override
+    public ProcessingStatsReporter processingStatsReporter() {
+        return processingStatsReporter;
+    }
 }
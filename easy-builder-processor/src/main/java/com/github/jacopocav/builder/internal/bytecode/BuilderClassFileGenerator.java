@@ -0,0 +1,589 @@
+package com.github.jacopocav.builder.internal.bytecode;
+
+import static com.github.jacopocav.builder.internal.bytecode.ClassFile.ACC_FINAL;
+import static com.github.jacopocav.builder.internal.bytecode.ClassFile.ACC_PRIVATE;
+import static com.github.jacopocav.builder.internal.bytecode.ClassFile.ACC_PUBLIC;
+import static com.github.jacopocav.builder.internal.bytecode.ClassFile.ACC_STATIC;
+import static com.github.jacopocav.builder.internal.bytecode.ClassFile.ACC_SUPER;
+import static com.github.jacopocav.builder.internal.bytecode.Code.CHECKCAST;
+import static com.github.jacopocav.builder.internal.bytecode.Code.DUP;
+import static com.github.jacopocav.builder.internal.bytecode.Code.GETFIELD;
+import static com.github.jacopocav.builder.internal.bytecode.Code.INVOKEINTERFACE;
+import static com.github.jacopocav.builder.internal.bytecode.Code.INVOKESPECIAL;
+import static com.github.jacopocav.builder.internal.bytecode.Code.INVOKESTATIC;
+import static com.github.jacopocav.builder.internal.bytecode.Code.INVOKEVIRTUAL;
+import static com.github.jacopocav.builder.internal.bytecode.Code.NEW;
+import static com.github.jacopocav.builder.internal.bytecode.Code.PUTFIELD;
+import static java.util.stream.Collectors.joining;
+import static javax.lang.model.element.ElementKind.CONSTRUCTOR;
+import static javax.lang.model.element.ElementKind.METHOD;
+
+import com.github.jacopocav.builder.annotation.Builder.BatchBuilderGeneration;
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
+import com.github.jacopocav.builder.annotation.Builder.CollectionMembers;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodMode;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.MapBinding;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.RowBinding;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
+import com.github.jacopocav.builder.annotation.Builder.UnwrappedSetters;
+import com.github.jacopocav.builder.annotation.Builder.WitherMethodGeneration;
+import com.github.jacopocav.builder.annotation.GeneratedBuilder;
+import com.github.jacopocav.builder.internal.bytecode.ClassFile.ClassValue;
+import com.github.jacopocav.builder.internal.bytecode.ClassFile.ElementValuePair;
+import com.github.jacopocav.builder.internal.bytecode.ClassFile.EnumValue;
+import com.github.jacopocav.builder.internal.bytecode.ClassFile.StringValue;
+import com.github.jacopocav.builder.internal.finder.Accessor;
+import com.github.jacopocav.builder.internal.finder.AccessorFinder;
+import com.github.jacopocav.builder.internal.finder.NestedBuilderFinder;
+import com.github.jacopocav.builder.internal.option.BuilderOption;
+import com.github.jacopocav.builder.internal.option.RawOptions;
+import com.github.jacopocav.builder.internal.template.BuilderData;
+import com.github.jacopocav.builder.internal.template.CollectionMember;
+import com.github.jacopocav.builder.internal.template.UnwrappedMember;
+import com.github.jacopocav.builder.internal.util.ElementUtils;
+import com.github.jacopocav.builder.internal.util.StringUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Compiles a builder directly to a class file, with the same API as the one generated from the builder template
+ * ({@code src/main/jte/builder.jte}), so that the compiler does not have to parse and compile its source.
+ * <p>Builders that use any type the template handles and a class file cannot easily express (e.g. type variables or
+ * type annotations) are not supported: their source must be generated instead.
+ */
+public class BuilderClassFileGenerator {
+    /**
+     * The class file major version of {@link SourceVersion#RELEASE_8}: earlier versions are not supported
+     */
+    private static final int JAVA_8_MAJOR_VERSION = 52;
+
+    private final Types types;
+    private final Elements elements;
+    private final AccessorFinder accessorFinder;
+    private final NestedBuilderFinder nestedBuilderFinder;
+    private final SourceVersion sourceVersion;
+
+    public BuilderClassFileGenerator(
+            Types types,
+            Elements elements,
+            AccessorFinder accessorFinder,
+            NestedBuilderFinder nestedBuilderFinder,
+            SourceVersion sourceVersion) {
+        this.types = types;
+        this.elements = elements;
+        this.accessorFinder = accessorFinder;
+        this.nestedBuilderFinder = nestedBuilderFinder;
+        this.sourceVersion = sourceVersion;
+    }
+
+    /**
+     * Must be called on the compiler thread, as it reads the annotation processing model.
+     *
+     * @return the contents of the builder class file, or an empty {@link Optional} if the builder is not supported
+     */
+    public Optional<byte[]> generate(BuilderData builderData) {
+        var majorVersion = sourceVersion.ordinal() - SourceVersion.RELEASE_8.ordinal() + JAVA_8_MAJOR_VERSION;
+        if (majorVersion < JAVA_8_MAJOR_VERSION) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new Generation(builderData, majorVersion).run());
+        } catch (UnsupportedBuilderException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The generation of a single builder class file
+     */
+    private class Generation {
+        private final BuilderData builderData;
+        private final Descriptors descriptors;
+        private final ClassFile classFile;
+        private final String builderClass;
+        private final String builderDescriptor;
+        private final TypeElement targetClass;
+        private final String targetDescriptor;
+        private final List<Member> members;
+
+        private Generation(BuilderData builderData, int majorVersion) {
+            this.builderData = builderData;
+            descriptors = new Descriptors(types, elements);
+            builderClass = builderData.name().qualifiedName().replace('.', '/');
+            builderDescriptor = "L" + builderClass + ";";
+            classFile = new ClassFile(
+                    descriptors, majorVersion, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, builderClass, "java/lang/Object");
+            targetClass = requireSupportedTargetClass(builderData);
+            if (builderData.options().reuse() == Reuse.POOLED) {
+                throw new UnsupportedBuilderException("pooled builder");
+            }
+            if (builderData.options().copyFactoryMethodMode() == CopyFactoryMethodMode.COPY_ON_WRITE
+                    && builderData.options().copyFactoryMethod() != CopyFactoryMethodGeneration.DISABLED) {
+                throw new UnsupportedBuilderException("copy-on-write copy factory method");
+            }
+            if (builderData.creatorMethod().getParameters().stream().anyMatch(ElementUtils::isRequired)) {
+                throw new UnsupportedBuilderException("required members");
+            }
+            if (builderData.options().staging() != Staging.DISABLED) {
+                throw new UnsupportedBuilderException("staged builder");
+            }
+            if (builderData.options().collectionMembers() != CollectionMembers.DISABLED
+                    && builderData.creatorMethod().getParameters().stream()
+                            .anyMatch(parameter -> CollectionMember.Kind.of(parameter.asType()) != null)) {
+                throw new UnsupportedBuilderException("collection members");
+            }
+            if (builderData.options().unwrappedSetters() != UnwrappedSetters.DISABLED
+                    && builderData.creatorMethod().getParameters().stream()
+                            .anyMatch(parameter -> UnwrappedMember.Kind.of(parameter.asType()) != null)) {
+                throw new UnsupportedBuilderException("unwrapped setters");
+            }
+            if (builderData.options().nestedBuilders() != NestedBuilders.DISABLED
+                    && builderData.creatorMethod().getParameters().stream()
+                            .anyMatch(parameter -> nestedBuilderFinder
+                                    .find(parameter)
+                                    .isPresent())) {
+                throw new UnsupportedBuilderException("nested builders");
+            }
+            if (builderData.options().interning() != Interning.DISABLED) {
+                throw new UnsupportedBuilderException("interning");
+            }
+            if (builderData.options().jsonCodec() != JsonCodec.DISABLED) {
+                throw new UnsupportedBuilderException("JSON codec");
+            }
+            if (builderData.options().binaryCodec() != BinaryCodec.DISABLED) {
+                throw new UnsupportedBuilderException("binary codec");
+            }
+            if (builderData.options().mapBinding() != MapBinding.DISABLED) {
+                throw new UnsupportedBuilderException("map binding");
+            }
+            if (builderData.options().rowBinding() != RowBinding.DISABLED) {
+                throw new UnsupportedBuilderException("row binding");
+            }
+            if (builderData.options().batchBuilder() != BatchBuilderGeneration.DISABLED) {
+                throw new UnsupportedBuilderException("batch builder");
+            }
+            targetDescriptor = descriptors.descriptor(targetClass.asType());
+            members = builderData.creatorMethod().getParameters().stream()
+                    .map(this::toMember)
+                    .toList();
+        }
+
+        private byte[] run() {
+            var options = builderData.options();
+
+            addGeneratedBuilderAnnotation(options.raw());
+            members.forEach(member ->
+                    classFile.addField(ACC_PRIVATE, member.name(), member.descriptor(), member.signature()));
+            addConstructor();
+            addStaticFactoryMethod(options.staticFactoryName());
+            if (generatesCopyFactoryMethod(options.copyFactoryMethod())) {
+                addCopyFactoryMethod(options.copyFactoryMethodName(), options.staticFactoryName());
+            }
+            if (generatesWitherMethods(options.witherMethods())) {
+                members.forEach(this::addWitherMethod);
+            }
+            addBuildMethod(options.buildMethodName());
+            members.forEach(this::addSetter);
+            if (options.reuse() == Reuse.RESET) {
+                addResetMethod();
+            }
+
+            return classFile.toByteArray();
+        }
+
+        private String descriptor(Class<?> type) {
+            return descriptors.descriptor(elements.getTypeElement(type.getCanonicalName()).asType());
+        }
+
+        private TypeElement requireSupportedTargetClass(BuilderData builderData) {
+            var creatorMethod = builderData.creatorMethod();
+            var targetClass = builderData.targetClass();
+
+            if (targetClass == null || !targetClass.getTypeParameters().isEmpty()) {
+                throw new UnsupportedBuilderException("generic or non-class target type");
+            }
+            if (!creatorMethod.getTypeParameters().isEmpty() || !creatorMethod.getThrownTypes().isEmpty()) {
+                throw new UnsupportedBuilderException("generic or throwing creator method");
+            }
+            if (creatorMethod.getKind() == METHOD
+                    && !types.isSameType(creatorMethod.getReturnType(), targetClass.asType())) {
+                throw new UnsupportedBuilderException("creator method does not return %s".formatted(targetClass));
+            }
+            descriptors.requireSupported(targetClass.asType());
+            descriptors.requireSupported(builderData.enclosingClass().asType());
+
+            return targetClass;
+        }
+
+        private Member toMember(VariableElement parameter) {
+            var type = parameter.asType();
+            descriptors.requireSupported(type);
+
+            var name = parameter.getSimpleName().toString();
+            var descriptor = descriptors.descriptor(type);
+            var signature = descriptors.signature(type);
+            var setterName = StringUtils.composeSetterName(builderData.options().setterPrefix(), name);
+            var accessor = builderData.options().copyFactoryMethod() == CopyFactoryMethodGeneration.DISABLED
+                            && builderData.options().witherMethods() == WitherMethodGeneration.DISABLED
+                    ? null
+                    : accessorFinder.apply(parameter);
+
+            return new Member(
+                    parameter,
+                    name,
+                    descriptor,
+                    signature.equals(descriptor) ? null : signature,
+                    setterName,
+                    accessor instanceof Accessor.Found found ? found.accessor() : null);
+        }
+
+        private boolean generatesCopyFactoryMethod(CopyFactoryMethodGeneration copyFactoryMethod) {
+            return switch (copyFactoryMethod) {
+                case DISABLED -> false;
+                // missing accessors have already been reported when creating the template model
+                case ENABLED -> true;
+                case DYNAMIC -> members.stream().allMatch(member -> member.accessor() != null);
+            };
+        }
+
+        private boolean generatesWitherMethods(WitherMethodGeneration witherMethods) {
+            return switch (witherMethods) {
+                case DISABLED -> false;
+                // missing accessors have already been reported when creating the template model
+                case ENABLED -> true;
+                case DYNAMIC -> members.stream().allMatch(member -> member.accessor() != null);
+            };
+        }
+
+        private void addGeneratedBuilderAnnotation(RawOptions options) {
+            var values = new ArrayList<ElementValuePair>();
+            values.add(new ElementValuePair("targetClass", new ClassValue(targetDescriptor)));
+
+            for (var option : BuilderOption.all()) {
+                var value =
+                        switch (option) {
+                            case CLASS_NAME -> new StringValue(options.className());
+                            case SETTER_PREFIX -> new StringValue(options.setterPrefix());
+                            case BUILD_METHOD_NAME -> new StringValue(options.buildMethodName());
+                            case FACTORY_METHOD_NAME -> new StringValue(options.staticFactoryName());
+                            case COPY_FACTORY_METHOD -> new EnumValue(
+                                    descriptor(CopyFactoryMethodGeneration.class),
+                                    options.copyFactoryMethod().name());
+                            case COPY_FACTORY_METHOD_NAME -> new StringValue(options.copyFactoryMethodName());
+                            case COPY_FACTORY_METHOD_MODE -> new EnumValue(
+                                    descriptor(CopyFactoryMethodMode.class),
+                                    options.copyFactoryMethodMode().name());
+                            case REUSE -> new EnumValue(descriptor(Reuse.class), options.reuse().name());
+                            case WITHER_METHODS -> new EnumValue(
+                                    descriptor(WitherMethodGeneration.class),
+                                    options.witherMethods().name());
+                            case STAGING -> new EnumValue(descriptor(Staging.class), options.staging().name());
+                            case COLLECTION_MEMBERS -> new EnumValue(
+                                    descriptor(CollectionMembers.class),
+                                    options.collectionMembers().name());
+                            case UNWRAPPED_SETTERS -> new EnumValue(
+                                    descriptor(UnwrappedSetters.class),
+                                    options.unwrappedSetters().name());
+                            case NESTED_BUILDERS -> new EnumValue(
+                                    descriptor(NestedBuilders.class),
+                                    options.nestedBuilders().name());
+                            case INTERNING -> new EnumValue(descriptor(Interning.class), options.interning().name());
+                            case JSON_CODEC -> new EnumValue(descriptor(JsonCodec.class), options.jsonCodec().name());
+                            case BINARY_CODEC -> new EnumValue(
+                                    descriptor(BinaryCodec.class),
+                                    options.binaryCodec().name());
+                            case MAP_BINDING -> new EnumValue(
+                                    descriptor(MapBinding.class),
+                                    options.mapBinding().name());
+                            case ROW_BINDING -> new EnumValue(
+                                    descriptor(RowBinding.class),
+                                    options.rowBinding().name());
+                            case BATCH_BUILDER -> new EnumValue(
+                                    descriptor(BatchBuilderGeneration.class),
+                                    options.batchBuilder().name());
+                        };
+                values.add(new ElementValuePair(option.annotationName(), value));
+            }
+
+            classFile.addAnnotation(descriptor(GeneratedBuilder.class), values);
+        }
+
+        private void addConstructor() {
+            classFile
+                    .addMethod(ACC_PRIVATE, "<init>", "()V", null, 1)
+                    .load(builderDescriptor, 0)
+                    .invoke(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false)
+                    .returnValue("V");
+        }
+
+        private void addStaticFactoryMethod(String name) {
+            classFile
+                    .addMethod(ACC_PUBLIC | ACC_STATIC, name, "()" + builderDescriptor, null, 0)
+                    .typeInstruction(NEW, builderClass)
+                    .instruction(DUP, 1)
+                    .invoke(INVOKESPECIAL, builderClass, "<init>", "()V", false)
+                    .returnValue(builderDescriptor);
+        }
+
+        /**
+         * Equivalent to {@code return factory().setFirst(other.first()).setSecond(other.second())...;}
+         */
+        private void addCopyFactoryMethod(String name, String staticFactoryName) {
+            var code = classFile
+                    .addMethod(ACC_PUBLIC | ACC_STATIC, name, "(" + targetDescriptor + ")" + builderDescriptor, null, 1)
+                    .invoke(INVOKESTATIC, builderClass, staticFactoryName, "()" + builderDescriptor, false);
+
+            for (var member : members) {
+                code.load(targetDescriptor, 0);
+                loadAccessorValue(code, member);
+                code.invoke(
+                        INVOKEVIRTUAL,
+                        builderClass,
+                        member.setterName(),
+                        "(" + member.descriptor() + ")" + builderDescriptor,
+                        false);
+            }
+
+            code.returnValue(builderDescriptor);
+        }
+
+        /**
+         * Equivalent to {@code return new Target(source.first(), value, source.third(), ...);} or
+         * {@code return Enclosing.creatorMethod(source.first(), value, source.third(), ...);}
+         */
+        private void addWitherMethod(Member member) {
+            var code = classFile.addMethod(
+                    ACC_PUBLIC | ACC_STATIC,
+                    StringUtils.composeSetterName("with", member.name()),
+                    "(" + targetDescriptor + member.descriptor() + ")" + targetDescriptor,
+                    member.signature() == null
+                            ? null
+                            : "(" + targetDescriptor + member.signature() + ")" + targetDescriptor,
+                    1 + Descriptors.slotSize(member.descriptor()));
+
+            invokeCreatorMethod(code, argument -> {
+                if (argument == member) {
+                    code.load(argument.descriptor(), 1);
+                } else {
+                    code.load(targetDescriptor, 0);
+                    loadAccessorValue(code, argument);
+                }
+            });
+        }
+
+        /**
+         * Reads the value of {@code member} from the target class instance on top of the stack, converting it to the
+         * type of {@code member} as the compiler would do in an assignment context
+         */
+        private void loadAccessorValue(Code code, Member member) {
+            var accessor = member.accessor();
+            var owner = descriptors.internalName(targetClass);
+            var name = accessor.getSimpleName().toString();
+            var memberType = types.asMemberOf((DeclaredType) targetClass.asType(), accessor);
+
+            TypeMirror valueType;
+            TypeMirror declaredType;
+            if (accessor.getKind() == METHOD) {
+                var method = (ExecutableElement) accessor;
+                if (!method.getThrownTypes().isEmpty()) {
+                    throw new UnsupportedBuilderException("throwing accessor %s".formatted(method));
+                }
+                var isInterface = targetClass.getKind().isInterface();
+                code.invoke(
+                        isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                        owner,
+                        name,
+                        descriptors.descriptor(method),
+                        isInterface);
+                valueType = ((ExecutableType) memberType).getReturnType();
+                declaredType = method.getReturnType();
+            } else {
+                code.fieldInstruction(GETFIELD, owner, name, descriptors.descriptor(accessor.asType()));
+                valueType = memberType;
+                declaredType = accessor.asType();
+            }
+
+            var erasedValueType = types.erasure(valueType);
+            if (!erasedValueType.getKind().isPrimitive()
+                    && !types.isSameType(erasedValueType, types.erasure(declaredType))) {
+                code.typeInstruction(CHECKCAST, descriptors.classRefName(erasedValueType));
+            }
+
+            convert(code, erasedValueType, member.parameter().asType());
+        }
+
+        /**
+         * Applies the boxing, unboxing and widening primitive conversions needed to assign a value of type
+         * {@code from} to a variable of type {@code to}
+         */
+        private void convert(Code code, TypeMirror from, TypeMirror to) {
+            var isFromPrimitive = from.getKind().isPrimitive();
+            var isToPrimitive = to.getKind().isPrimitive();
+
+            if (isFromPrimitive && isToPrimitive) {
+                widen(code, from, to);
+            } else if (isFromPrimitive) {
+                var boxedClass = types.boxedClass((PrimitiveType) from);
+                if (!types.isAssignable(boxedClass.asType(), to)) {
+                    throw new UnsupportedBuilderException("conversion from %s to %s".formatted(from, to));
+                }
+                var boxedClassName = descriptors.internalName(boxedClass);
+                var descriptor = "(" + descriptors.descriptor(from) + ")L" + boxedClassName + ";";
+                code.invoke(INVOKESTATIC, boxedClassName, "valueOf", descriptor, false);
+            } else if (isToPrimitive) {
+                var unboxedType = unboxedType(from);
+                var boxedClassName = descriptors.internalName(types.boxedClass(unboxedType));
+                if (!descriptors.classRefName(from).equals(boxedClassName)) {
+                    code.typeInstruction(CHECKCAST, boxedClassName);
+                }
+                var unboxingMethod = unboxedType.getKind().name().toLowerCase(Locale.ROOT) + "Value";
+                var unboxingDescriptor = "()" + descriptors.descriptor(unboxedType);
+                code.invoke(INVOKEVIRTUAL, boxedClassName, unboxingMethod, unboxingDescriptor, false);
+                widen(code, unboxedType, to);
+            }
+        }
+
+        private PrimitiveType unboxedType(TypeMirror type) {
+            try {
+                return types.unboxedType(type);
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedBuilderException("conversion from %s to a primitive type".formatted(type));
+            }
+        }
+
+        private void widen(Code code, TypeMirror from, TypeMirror to) {
+            if (!types.isAssignable(from, to)) {
+                throw new UnsupportedBuilderException("conversion from %s to %s".formatted(from, to));
+            }
+
+            var fromKind = from.getKind();
+            var toKind = to.getKind();
+            if (fromKind == toKind) {
+                return;
+            }
+
+            var opcode =
+                    switch (fromKind) {
+                        case LONG -> toKind == TypeKind.FLOAT ? 0x89 /* l2f */ : 0x8a /* l2d */;
+                        case FLOAT -> 0x8d; // f2d
+                        default -> switch (toKind) {
+                            case LONG -> 0x85; // i2l
+                            case FLOAT -> 0x86; // i2f
+                            case DOUBLE -> 0x87; // i2d
+                            default -> -1; // byte, short and char are already ints
+                        };
+                    };
+            if (opcode != -1) {
+                code.instruction(
+                        opcode,
+                        Descriptors.slotSize(descriptors.descriptor(to))
+                                - Descriptors.slotSize(descriptors.descriptor(from)));
+            }
+        }
+
+        /**
+         * Equivalent to {@code return new Target(first, second, ...);} or
+         * {@code return Enclosing.creatorMethod(first, second, ...);}
+         */
+        private void addBuildMethod(String name) {
+            var code = classFile.addMethod(ACC_PUBLIC, name, "()" + targetDescriptor, null, 1);
+
+            invokeCreatorMethod(code, member -> code.load(builderDescriptor, 0)
+                    .fieldInstruction(GETFIELD, builderClass, member.name(), member.descriptor()));
+        }
+
+        /**
+         * Calls the creator method and returns its result, after pushing the argument of each member with
+         * {@code argumentLoader}
+         */
+        private void invokeCreatorMethod(Code code, Consumer<Member> argumentLoader) {
+            var creatorMethod = builderData.creatorMethod();
+            var enclosingClass = builderData.enclosingClass();
+
+            if (creatorMethod.getKind() == CONSTRUCTOR) {
+                code.typeInstruction(NEW, descriptors.internalName(targetClass)).instruction(DUP, 1);
+            }
+
+            members.forEach(argumentLoader);
+
+            var creatorMethodDescriptor = members.stream()
+                            .map(Member::descriptor)
+                            .collect(joining("", "(", ")"))
+                    + (creatorMethod.getKind() == CONSTRUCTOR ? "V" : targetDescriptor);
+            code.invoke(
+                            creatorMethod.getKind() == CONSTRUCTOR ? INVOKESPECIAL : INVOKESTATIC,
+                            descriptors.internalName(enclosingClass),
+                            creatorMethod.getSimpleName().toString(),
+                            creatorMethodDescriptor,
+                            enclosingClass.getKind().isInterface())
+                    .returnValue(targetDescriptor);
+        }
+
+        private void addSetter(Member member) {
+            var parameterSignature = member.signature() == null ? member.descriptor() : member.signature();
+
+            classFile
+                    .addMethod(
+                            ACC_PUBLIC,
+                            member.setterName(),
+                            "(" + member.descriptor() + ")" + builderDescriptor,
+                            member.signature() == null ? null : "(" + parameterSignature + ")" + builderDescriptor,
+                            1 + Descriptors.slotSize(member.descriptor()))
+                    .load(builderDescriptor, 0)
+                    .load(member.descriptor(), 1)
+                    .fieldInstruction(PUTFIELD, builderClass, member.name(), member.descriptor())
+                    .load(builderDescriptor, 0)
+                    .returnValue(builderDescriptor);
+        }
+
+        /**
+         * Equivalent to {@code this.first = null; this.second = 0; ...; return this;}
+         */
+        private void addResetMethod() {
+            var code = classFile.addMethod(ACC_PUBLIC, "reset", "()" + builderDescriptor, null, 1);
+
+            for (var member : members) {
+                code.load(builderDescriptor, 0)
+                        .loadDefault(member.descriptor())
+                        .fieldInstruction(PUTFIELD, builderClass, member.name(), member.descriptor());
+            }
+
+            code.load(builderDescriptor, 0).returnValue(builderDescriptor);
+        }
+    }
+
+    /**
+     * A parameter of the creator method, with everything needed to generate its field, setter and accessor call
+     *
+     * @param signature the generic signature of the parameter type, or {@code null} if it is not generic
+     * @param accessor  the getter or field of the target class, or {@code null} if none was found
+     */
+    private record Member(
+            VariableElement parameter,
+            String name,
+            String descriptor,
+            String signature,
+            String setterName,
+            Element accessor) {}
+}
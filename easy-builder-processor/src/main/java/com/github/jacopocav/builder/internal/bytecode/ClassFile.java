@@ -0,0 +1,268 @@
+package com.github.jacopocav.builder.internal.bytecode;
+
+import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PROTECTED;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * A minimal class file writer, supporting only what builders need: fields and methods with straight-line code,
+ * generic signatures and runtime-visible annotations on the class.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">The class File Format</a>
+ */
+final class ClassFile {
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_PROTECTED = 0x0004;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+    static final int ACC_INTERFACE = 0x0200;
+    static final int ACC_ABSTRACT = 0x0400;
+    static final int ACC_ANNOTATION = 0x2000;
+    static final int ACC_ENUM = 0x4000;
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private final ConstantPool constantPool = new ConstantPool();
+    private final Descriptors descriptors;
+    private final int majorVersion;
+    private final int accessFlags;
+    private final String thisClass;
+    private final String superClass;
+    private final List<Field> fields = new ArrayList<>();
+    private final List<Method> methods = new ArrayList<>();
+    private final Set<String> methodKeys = new HashSet<>();
+    private final List<Annotation> annotations = new ArrayList<>();
+
+    ClassFile(Descriptors descriptors, int majorVersion, int accessFlags, String thisClass, String superClass) {
+        this.descriptors = descriptors;
+        this.majorVersion = majorVersion;
+        this.accessFlags = accessFlags;
+        this.thisClass = thisClass;
+        this.superClass = superClass;
+    }
+
+    /**
+     * @param signature the generic signature of the field, or {@code null} if it is the same as its descriptor
+     */
+    void addField(int accessFlags, String name, String descriptor, String signature) {
+        fields.add(new Field(accessFlags, name, descriptor, signature));
+    }
+
+    /**
+     * @param signature the generic signature of the method, or {@code null} if it is the same as its descriptor
+     * @return the (empty) code of the method
+     * @throws UnsupportedBuilderException if a method with the same name and descriptor has already been added
+     */
+    Code addMethod(int accessFlags, String name, String descriptor, String signature, int maxLocals) {
+        if (!methodKeys.add(name + descriptor)) {
+            throw new UnsupportedBuilderException("duplicate method %s%s".formatted(name, descriptor));
+        }
+
+        var code = new Code(constantPool, maxLocals);
+        methods.add(new Method(accessFlags, name, descriptor, signature, code));
+        return code;
+    }
+
+    void addAnnotation(String typeDescriptor, List<ElementValuePair> values) {
+        annotations.add(new Annotation(typeDescriptor, values));
+    }
+
+    byte[] toByteArray() {
+        try {
+            // the body is written first, as it adds all the remaining entries to the constant pool
+            var body = new ByteArrayOutputStream();
+            writeBody(new DataOutputStream(body));
+
+            var classFile = new ByteArrayOutputStream();
+            var output = new DataOutputStream(classFile);
+            output.writeInt(MAGIC);
+            output.writeShort(0); // minor_version
+            output.writeShort(majorVersion);
+            constantPool.writeTo(output);
+            body.writeTo(output);
+
+            return classFile.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeBody(DataOutputStream output) throws IOException {
+        output.writeShort(accessFlags);
+        output.writeShort(constantPool.classRef(thisClass));
+        output.writeShort(constantPool.classRef(superClass));
+        output.writeShort(0); // interfaces_count
+
+        output.writeShort(fields.size());
+        for (var field : fields) {
+            writeMember(output, field.accessFlags(), field.name(), field.descriptor(), field.signature(), null);
+        }
+
+        output.writeShort(methods.size());
+        for (var method : methods) {
+            writeMember(
+                    output,
+                    method.accessFlags(),
+                    method.name(),
+                    method.descriptor(),
+                    method.signature(),
+                    method.code());
+        }
+
+        var nestedClasses = descriptors.nestedClasses();
+        output.writeShort((annotations.isEmpty() ? 0 : 1) + (nestedClasses.isEmpty() ? 0 : 1));
+        if (!annotations.isEmpty()) {
+            writeAttribute(output, "RuntimeVisibleAnnotations", this::writeAnnotations);
+        }
+        if (!nestedClasses.isEmpty()) {
+            writeAttribute(output, "InnerClasses", attribute -> writeInnerClasses(attribute, nestedClasses));
+        }
+    }
+
+    private void writeMember(
+            DataOutputStream output, int accessFlags, String name, String descriptor, String signature, Code code)
+            throws IOException {
+        output.writeShort(accessFlags);
+        output.writeShort(constantPool.utf8(name));
+        output.writeShort(constantPool.utf8(descriptor));
+        output.writeShort((signature == null ? 0 : 1) + (code == null ? 0 : 1));
+        if (code != null) {
+            writeAttribute(output, "Code", code::writeTo);
+        }
+        if (signature != null) {
+            writeAttribute(output, "Signature", attribute -> attribute.writeShort(constantPool.utf8(signature)));
+        }
+    }
+
+    private void writeAnnotations(DataOutputStream output) throws IOException {
+        output.writeShort(annotations.size());
+        for (var annotation : annotations) {
+            output.writeShort(constantPool.utf8(annotation.typeDescriptor()));
+            output.writeShort(annotation.values().size());
+            for (var pair : annotation.values()) {
+                output.writeShort(constantPool.utf8(pair.name()));
+                output.writeByte(pair.value().tag());
+                if (pair.value() instanceof StringValue stringValue) {
+                    output.writeShort(constantPool.utf8(stringValue.value()));
+                } else if (pair.value() instanceof ClassValue classValue) {
+                    output.writeShort(constantPool.utf8(classValue.descriptor()));
+                } else if (pair.value() instanceof EnumValue enumValue) {
+                    output.writeShort(constantPool.utf8(enumValue.typeDescriptor()));
+                    output.writeShort(constantPool.utf8(enumValue.constantName()));
+                }
+            }
+        }
+    }
+
+    private void writeInnerClasses(DataOutputStream output, List<TypeElement> nestedClasses) throws IOException {
+        output.writeShort(nestedClasses.size());
+        for (var nestedClass : nestedClasses) {
+            output.writeShort(constantPool.classRef(descriptors.internalName(nestedClass)));
+            output.writeShort(
+                    constantPool.classRef(descriptors.internalName((TypeElement) nestedClass.getEnclosingElement())));
+            output.writeShort(constantPool.utf8(nestedClass.getSimpleName().toString()));
+            output.writeShort(innerClassAccessFlags(nestedClass));
+        }
+    }
+
+    private static int innerClassAccessFlags(TypeElement nestedClass) {
+        var modifiers = nestedClass.getModifiers();
+        var kind = nestedClass.getKind();
+        var flags = 0;
+
+        if (modifiers.contains(PUBLIC) || nestedClass.getEnclosingElement().getKind().isInterface()) {
+            flags |= ACC_PUBLIC;
+        }
+        if (modifiers.contains(PRIVATE)) {
+            flags |= ACC_PRIVATE;
+        }
+        if (modifiers.contains(PROTECTED)) {
+            flags |= ACC_PROTECTED;
+        }
+        if (modifiers.contains(STATIC) || kind != ElementKind.CLASS) {
+            flags |= ACC_STATIC;
+        }
+        if (modifiers.contains(FINAL) || kind == ElementKind.RECORD) {
+            flags |= ACC_FINAL;
+        }
+        if (kind.isInterface()) {
+            flags |= ACC_INTERFACE | ACC_ABSTRACT;
+        } else if (modifiers.contains(ABSTRACT)) {
+            flags |= ACC_ABSTRACT;
+        }
+        if (kind == ElementKind.ANNOTATION_TYPE) {
+            flags |= ACC_ANNOTATION;
+        }
+        if (kind == ElementKind.ENUM) {
+            flags |= ACC_ENUM;
+        }
+
+        return flags;
+    }
+
+    private void writeAttribute(DataOutputStream output, String name, AttributeWriter writer) throws IOException {
+        var attribute = new ByteArrayOutputStream();
+        writer.write(new DataOutputStream(attribute));
+
+        output.writeShort(constantPool.utf8(name));
+        output.writeInt(attribute.size());
+        attribute.writeTo(output);
+    }
+
+    @FunctionalInterface
+    private interface AttributeWriter {
+        void write(DataOutputStream output) throws IOException;
+    }
+
+    private record Field(int accessFlags, String name, String descriptor, String signature) {}
+
+    private record Method(int accessFlags, String name, String descriptor, String signature, Code code) {}
+
+    private record Annotation(String typeDescriptor, List<ElementValuePair> values) {}
+
+    record ElementValuePair(String name, ElementValue value) {}
+
+    /**
+     * The constant value of an annotation element
+     */
+    sealed interface ElementValue {
+        char tag();
+    }
+
+    record StringValue(String value) implements ElementValue {
+        @Override
+        public char tag() {
+            return 's';
+        }
+    }
+
+    record ClassValue(String descriptor) implements ElementValue {
+        @Override
+        public char tag() {
+            return 'c';
+        }
+    }
+
+    record EnumValue(String typeDescriptor, String constantName) implements ElementValue {
+        @Override
+        public char tag() {
+            return 'e';
+        }
+    }
+}
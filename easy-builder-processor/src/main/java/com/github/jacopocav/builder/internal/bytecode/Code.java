@@ -0,0 +1,167 @@
+package com.github.jacopocav.builder.internal.bytecode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * The straight-line bytecode of a single method, keeping track of the maximum operand stack depth.
+ * <p>Only the instructions needed by builders are supported. No branches are ever emitted, so the method does not
+ * need a {@code StackMapTable}.
+ */
+final class Code {
+    static final int NEW = 0xbb;
+    static final int DUP = 0x59;
+    static final int CHECKCAST = 0xc0;
+    static final int GETFIELD = 0xb4;
+    static final int PUTFIELD = 0xb5;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int INVOKEINTERFACE = 0xb9;
+
+    private static final int ACONST_NULL = 0x01;
+    private static final int ICONST_0 = 0x03;
+    private static final int LCONST_0 = 0x09;
+    private static final int FCONST_0 = 0x0b;
+    private static final int DCONST_0 = 0x0e;
+    private static final int ILOAD_0 = 0x1a;
+    private static final int LLOAD_0 = 0x1e;
+    private static final int FLOAD_0 = 0x22;
+    private static final int DLOAD_0 = 0x26;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int IRETURN = 0xac;
+    private static final int LRETURN = 0xad;
+    private static final int FRETURN = 0xae;
+    private static final int DRETURN = 0xaf;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+
+    private final ConstantPool constantPool;
+    private final int maxLocals;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private int stack = 0;
+    private int maxStack = 0;
+
+    /**
+     * @param maxLocals the size of the local variables (including {@code this} and the method parameters)
+     */
+    Code(ConstantPool constantPool, int maxLocals) {
+        this.constantPool = constantPool;
+        this.maxLocals = maxLocals;
+    }
+
+    /**
+     * Pushes the local variable in {@code slot} (one of the first four), whose type has {@code descriptor}
+     */
+    Code load(String descriptor, int slot) {
+        var base =
+                switch (descriptor.charAt(0)) {
+                    case 'Z', 'B', 'C', 'S', 'I' -> ILOAD_0;
+                    case 'J' -> LLOAD_0;
+                    case 'F' -> FLOAD_0;
+                    case 'D' -> DLOAD_0;
+                    default -> ALOAD_0;
+                };
+        return instruction(base + slot, Descriptors.slotSize(descriptor));
+    }
+
+    /**
+     * Pushes the default value ({@code null}, {@code 0} or {@code false}) of a field with {@code descriptor}
+     */
+    Code loadDefault(String descriptor) {
+        var opcode =
+                switch (descriptor.charAt(0)) {
+                    case 'Z', 'B', 'C', 'S', 'I' -> ICONST_0;
+                    case 'J' -> LCONST_0;
+                    case 'F' -> FCONST_0;
+                    case 'D' -> DCONST_0;
+                    default -> ACONST_NULL;
+                };
+        return instruction(opcode, Descriptors.slotSize(descriptor));
+    }
+
+    /**
+     * Returns a value with {@code descriptor} ({@code V} for {@code void})
+     */
+    Code returnValue(String descriptor) {
+        var opcode =
+                switch (descriptor.charAt(0)) {
+                    case 'Z', 'B', 'C', 'S', 'I' -> IRETURN;
+                    case 'J' -> LRETURN;
+                    case 'F' -> FRETURN;
+                    case 'D' -> DRETURN;
+                    case 'V' -> RETURN;
+                    default -> ARETURN;
+                };
+        return instruction(opcode, -Descriptors.slotSize(descriptor));
+    }
+
+    /**
+     * Emits an instruction without operands, changing the stack depth by {@code stackDelta}
+     */
+    Code instruction(int opcode, int stackDelta) {
+        bytes.write(opcode);
+        return adjustStack(stackDelta);
+    }
+
+    /**
+     * Emits {@code NEW} or {@code CHECKCAST}
+     */
+    Code typeInstruction(int opcode, String internalName) {
+        bytes.write(opcode);
+        writeShort(constantPool.classRef(internalName));
+        return adjustStack(opcode == NEW ? 1 : 0);
+    }
+
+    /**
+     * Emits {@code GETFIELD} or {@code PUTFIELD}
+     */
+    Code fieldInstruction(int opcode, String owner, String name, String descriptor) {
+        bytes.write(opcode);
+        writeShort(constantPool.fieldRef(owner, name, descriptor));
+        var size = Descriptors.slotSize(descriptor);
+        return adjustStack(opcode == GETFIELD ? size - 1 : -size - 1);
+    }
+
+    /**
+     * Emits {@code INVOKEVIRTUAL}, {@code INVOKESPECIAL}, {@code INVOKESTATIC} or {@code INVOKEINTERFACE}
+     */
+    Code invoke(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+        bytes.write(opcode);
+        writeShort(constantPool.methodRef(owner, name, descriptor, isInterface));
+
+        var argumentsSize = Descriptors.argumentsSize(descriptor);
+        var receiverSize = opcode == INVOKESTATIC ? 0 : 1;
+        if (opcode == INVOKEINTERFACE) {
+            // the count of argument slots (including the receiver), followed by a zero byte
+            bytes.write(argumentsSize + receiverSize);
+            bytes.write(0);
+        }
+        var returnSize = Descriptors.slotSize(descriptor.substring(descriptor.indexOf(')') + 1));
+        return adjustStack(returnSize - argumentsSize - receiverSize);
+    }
+
+    private Code adjustStack(int delta) {
+        stack += delta;
+        maxStack = Math.max(maxStack, stack);
+        return this;
+    }
+
+    private void writeShort(int value) {
+        bytes.write(value >>> 8);
+        bytes.write(value);
+    }
+
+    /**
+     * Writes the contents of the {@code Code} attribute (after its length)
+     */
+    void writeTo(DataOutputStream output) throws IOException {
+        output.writeShort(maxStack);
+        output.writeShort(maxLocals);
+        output.writeInt(bytes.size());
+        bytes.writeTo(output);
+        output.writeShort(0); // exception_table_length
+        output.writeShort(0); // attributes_count
+    }
+}
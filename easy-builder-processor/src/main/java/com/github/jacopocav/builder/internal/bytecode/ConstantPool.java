@@ -0,0 +1,101 @@
+package com.github.jacopocav.builder.internal.bytecode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The constant pool of a class file: every constant is added at most once, and referenced by its index.
+ */
+final class ConstantPool {
+    private static final int UTF8 = 1;
+    private static final int CLASS = 7;
+    private static final int FIELD_REF = 9;
+    private static final int METHOD_REF = 10;
+    private static final int INTERFACE_METHOD_REF = 11;
+    private static final int NAME_AND_TYPE = 12;
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream output = new DataOutputStream(bytes);
+    private int size = 1;
+
+    int utf8(String value) {
+        return add("utf8:" + value, () -> {
+            output.writeByte(UTF8);
+            output.writeUTF(value);
+        });
+    }
+
+    /**
+     * @param internalName the internal name of a class (e.g. {@code java/lang/String}), or the descriptor of an
+     *                     array type
+     */
+    int classRef(String internalName) {
+        var nameIndex = utf8(internalName);
+        return add("class:" + internalName, () -> {
+            output.writeByte(CLASS);
+            output.writeShort(nameIndex);
+        });
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+        return memberRef(FIELD_REF, owner, name, descriptor);
+    }
+
+    int methodRef(String owner, String name, String descriptor, boolean isInterface) {
+        return memberRef(isInterface ? INTERFACE_METHOD_REF : METHOD_REF, owner, name, descriptor);
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        var classIndex = classRef(owner);
+        var nameAndTypeIndex = nameAndType(name, descriptor);
+        return add(tag + ":" + owner + "." + name + ":" + descriptor, () -> {
+            output.writeByte(tag);
+            output.writeShort(classIndex);
+            output.writeShort(nameAndTypeIndex);
+        });
+    }
+
+    private int nameAndType(String name, String descriptor) {
+        var nameIndex = utf8(name);
+        var descriptorIndex = utf8(descriptor);
+        return add("nameAndType:" + name + ":" + descriptor, () -> {
+            output.writeByte(NAME_AND_TYPE);
+            output.writeShort(nameIndex);
+            output.writeShort(descriptorIndex);
+        });
+    }
+
+    private int add(String key, Entry entry) {
+        var index = indexes.get(key);
+        if (index != null) {
+            return index;
+        }
+
+        try {
+            entry.write();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        indexes.put(key, size);
+        return size++;
+    }
+
+    /**
+     * Writes {@code constant_pool_count}, followed by all the constants
+     */
+    void writeTo(DataOutputStream classFile) throws IOException {
+        classFile.writeShort(size);
+        bytes.writeTo(classFile);
+    }
+
+    @FunctionalInterface
+    private interface Entry {
+        void write() throws IOException;
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.jacopocav.builder.internal.bytecode;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Computes the descriptors and generic signatures of the types used in a single class file, keeping track of the
+ * nested classes they reference (which must be listed in the {@code InnerClasses} attribute).
+ */
+final class Descriptors {
+    private final Types types;
+    private final Elements elements;
+    private final Set<TypeElement> nestedClasses = new LinkedHashSet<>();
+
+    Descriptors(Types types, Elements elements) {
+        this.types = types;
+        this.elements = elements;
+    }
+
+    /**
+     * @return the number of local variable (or operand stack) slots taken by a value with {@code descriptor}
+     */
+    static int slotSize(String descriptor) {
+        return switch (descriptor.charAt(0)) {
+            case 'J', 'D' -> 2;
+            case 'V' -> 0;
+            default -> 1;
+        };
+    }
+
+    /**
+     * @return the number of slots taken by the arguments of a method with {@code methodDescriptor}
+     */
+    static int argumentsSize(String methodDescriptor) {
+        var size = 0;
+        var i = 1;
+        while (methodDescriptor.charAt(i) != ')') {
+            var argument = methodDescriptor.charAt(i);
+            while (methodDescriptor.charAt(i) == '[') {
+                i++;
+            }
+            if (methodDescriptor.charAt(i) == 'L') {
+                i = methodDescriptor.indexOf(';', i);
+            }
+            size += argument == 'J' || argument == 'D' ? 2 : 1;
+            i++;
+        }
+        return size;
+    }
+
+    /**
+     * Ensures that {@code type} can be written in a class file exactly as the builder template would write it in a
+     * source file: type variables, type annotations, inner classes of generic types and the like are only supported
+     * by the template.
+     *
+     * @throws UnsupportedBuilderException if {@code type} is not supported
+     */
+    void requireSupported(TypeMirror type) {
+        if (!type.getAnnotationMirrors().isEmpty()) {
+            throw new UnsupportedBuilderException("type annotations on %s".formatted(type));
+        }
+
+        switch (type.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE -> {}
+            case ARRAY -> requireSupported(((ArrayType) type).getComponentType());
+            case DECLARED -> {
+                var declaredType = (DeclaredType) type;
+                var nestingKind = ((TypeElement) declaredType.asElement()).getNestingKind();
+                if (declaredType.getEnclosingType().getKind() != TypeKind.NONE
+                        || nestingKind == NestingKind.LOCAL
+                        || nestingKind == NestingKind.ANONYMOUS) {
+                    throw new UnsupportedBuilderException("inner class type %s".formatted(type));
+                }
+                declaredType.getTypeArguments().forEach(this::requireSupported);
+            }
+            case WILDCARD -> {
+                var wildcardType = (WildcardType) type;
+                if (wildcardType.getExtendsBound() != null) {
+                    requireSupported(wildcardType.getExtendsBound());
+                }
+                if (wildcardType.getSuperBound() != null) {
+                    requireSupported(wildcardType.getSuperBound());
+                }
+            }
+            default -> throw new UnsupportedBuilderException("type %s of kind %s".formatted(type, type.getKind()));
+        }
+    }
+
+    /**
+     * @return the descriptor of the erasure of {@code type}
+     */
+    String descriptor(TypeMirror type) {
+        var erasure = types.erasure(type);
+
+        return switch (erasure.getKind()) {
+            case BOOLEAN -> "Z";
+            case BYTE -> "B";
+            case SHORT -> "S";
+            case INT -> "I";
+            case LONG -> "J";
+            case CHAR -> "C";
+            case FLOAT -> "F";
+            case DOUBLE -> "D";
+            case VOID -> "V";
+            case ARRAY -> "[" + descriptor(((ArrayType) erasure).getComponentType());
+            case DECLARED -> "L" + internalName((TypeElement) ((DeclaredType) erasure).asElement()) + ";";
+            default -> throw new UnsupportedBuilderException("type %s of kind %s".formatted(type, type.getKind()));
+        };
+    }
+
+    /**
+     * @return the descriptor of {@code method}, computed from the erasure of its declared parameter and return types
+     */
+    String descriptor(ExecutableElement method) {
+        return method.getParameters().stream()
+                        .map(parameter -> descriptor(parameter.asType()))
+                        .collect(joining("", "(", ")"))
+                + descriptor(method.getReturnType());
+    }
+
+    /**
+     * @return the generic signature of {@code type}, which must be {@link #requireSupported(TypeMirror) supported}
+     */
+    String signature(TypeMirror type) {
+        return switch (type.getKind()) {
+            case ARRAY -> "[" + signature(((ArrayType) type).getComponentType());
+            case DECLARED -> {
+                var declaredType = (DeclaredType) type;
+                var typeArguments = declaredType.getTypeArguments();
+                var internalName = internalName((TypeElement) declaredType.asElement());
+
+                yield typeArguments.isEmpty()
+                        ? "L" + internalName + ";"
+                        : typeArguments.stream()
+                                .map(this::signature)
+                                .collect(joining("", "L" + internalName + "<", ">;"));
+            }
+            case WILDCARD -> {
+                var wildcardType = (WildcardType) type;
+                if (wildcardType.getExtendsBound() != null) {
+                    yield "+" + signature(wildcardType.getExtendsBound());
+                }
+                if (wildcardType.getSuperBound() != null) {
+                    yield "-" + signature(wildcardType.getSuperBound());
+                }
+                yield "*";
+            }
+            default -> descriptor(type);
+        };
+    }
+
+    /**
+     * @return the internal name of the class of {@code type} (e.g. {@code java/lang/String}), or its descriptor if
+     * {@code type} is an array (as expected by {@code CONSTANT_Class} entries)
+     */
+    String classRefName(TypeMirror type) {
+        var erasure = types.erasure(type);
+
+        return erasure.getKind() == TypeKind.DECLARED
+                ? internalName((TypeElement) ((DeclaredType) erasure).asElement())
+                : descriptor(erasure);
+    }
+
+    /**
+     * @return the internal name of {@code typeElement} (e.g. {@code java/util/Map$Entry})
+     */
+    String internalName(TypeElement typeElement) {
+        registerNestedClasses(typeElement);
+
+        return elements.getBinaryName(typeElement).toString().replace('.', '/');
+    }
+
+    /**
+     * @return the nested classes referenced so far by descriptors and signatures, each after its enclosing class
+     */
+    List<TypeElement> nestedClasses() {
+        return List.copyOf(nestedClasses);
+    }
+
+    private void registerNestedClasses(TypeElement typeElement) {
+        var enclosingChain = new ArrayDeque<TypeElement>();
+        for (var current = typeElement;
+                current.getNestingKind() == NestingKind.MEMBER;
+                current = (TypeElement) current.getEnclosingElement()) {
+            enclosingChain.push(current);
+        }
+
+        nestedClasses.addAll(enclosingChain);
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.jacopocav.builder.internal.bytecode;
+
+/**
+ * Thrown when a builder cannot be compiled directly to a class file, so that its source must be generated instead.
+ */
+final class UnsupportedBuilderException extends RuntimeException {
+    UnsupportedBuilderException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -2,12 +2,13 @@ package com.github.jacopocav.builder.internal.finder;
 
 import static javax.lang.model.element.Modifier.*;
 import static javax.lang.model.type.TypeKind.BOOLEAN;
-import static javax.lang.model.type.TypeKind.NONE;
-import static javax.lang.model.util.ElementFilter.fieldsIn;
-import static javax.lang.model.util.ElementFilter.methodsIn;
 
 import com.github.jacopocav.builder.internal.SourceClassRetriever;
+import com.github.jacopocav.builder.internal.finder.AccessorIndex.DeclaredAccessors;
+import com.github.jacopocav.builder.internal.finder.AccessorIndex.IndexedMethod;
 import com.github.jacopocav.builder.internal.util.StringUtils;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import javax.lang.model.element.*;
@@ -18,11 +19,14 @@ public class AccessorFinder implements Function<VariableElement, Accessor> {
     private final Types types;
     private final Elements elements;
     private final SourceClassRetriever sourceClassRetriever;
+    private final AccessorIndex accessorIndex;
 
-    public AccessorFinder(Types types, Elements elements, SourceClassRetriever sourceClassRetriever) {
+    public AccessorFinder(
+            Types types, Elements elements, SourceClassRetriever sourceClassRetriever, AccessorIndex accessorIndex) {
         this.types = types;
         this.elements = elements;
         this.sourceClassRetriever = sourceClassRetriever;
+        this.accessorIndex = accessorIndex;
     }
 
     /**
@@ -37,7 +41,7 @@ public class AccessorFinder implements Function<VariableElement, Accessor> {
         var callerPackage = elements.getPackageOf(argument).getQualifiedName();
         var targetClass = sourceClassRetriever.getElement(argument);
 
-        return findAccessorRecursively(targetClass, argument, callerPackage)
+        return findAccessorRecursively(targetClass, argument, getAccessorNames(argument), callerPackage)
                 .orElseGet(() -> new Accessor.NotFound(argument));
     }
 
@@ -51,45 +55,47 @@ public class AccessorFinder implements Function<VariableElement, Accessor> {
      *
      * The search stops if the accessor has been found, or if no superclass exists for
      * the current class.
+     * The members of each class are looked up by name in the {@link AccessorIndex}, so that every class in the
+     * hierarchy is scanned at most once per round.
      */
     private Optional<Accessor> findAccessorRecursively(
-            TypeElement declaringClass, VariableElement argument, Name callerPackage) {
-
-        return findAccessorMethod(declaringClass, argument, callerPackage)
-                .or(() -> findAccessorField(declaringClass, argument, callerPackage))
-                .or(() -> getSuperClass(declaringClass)
-                        .flatMap(superType -> findAccessorRecursively(superType, argument, callerPackage)));
+            TypeElement declaringClass, VariableElement argument, List<String> accessorNames, Name callerPackage) {
+        var declaredAccessors = accessorIndex.get(declaringClass);
+
+        return findAccessorMethod(declaredAccessors, argument, accessorNames, callerPackage)
+                .or(() -> findAccessorField(declaredAccessors, argument, callerPackage))
+                .or(() -> declaredAccessors
+                        .getSuperClass()
+                        .flatMap(superType ->
+                                findAccessorRecursively(superType, argument, accessorNames, callerPackage)));
     }
 
     /**
-     * Finds a valid getter method in the {@code declaringClass}.
+     * Finds a valid getter method among the {@code declaredAccessors}.
      * The getter must:
      * <ul>
      *     <li>be accessible from {@code callerPackage} (i.e. must not be {@code private} if in the same
      *     package, otherwise it must be {@code public})
      *     <li>have a return type assignable to the {@code argument} type
-     *     <li>have a "standard" getter name, i.e. it must satisfy one of the following:
-     *     <ul>
-     *         <li>it has the same name as {@code argument} (e.g. record getters)
-     *         <li>it has the name as {@code argument}, capitalized and prefixed with {@code get}
-     *         <li>it has the name as {@code argument}, capitalized and prefixed with {@code is}
-     *         (only if {@code argument} is {@code boolean}/{@code Boolean}
-     *     </ul>
+     *     <li>have one of the {@code accessorNames} (see {@link #getAccessorNames(VariableElement)})
      * </ul>
+     * If more than one method is valid, the first one in declaration order is returned.
      */
     private Optional<Accessor> findAccessorMethod(
-            TypeElement declaringClass, VariableElement argument, Name callerPackage) {
-        return methodsIn(declaringClass.getEnclosedElements()).stream()
-                .filter(this::isNotStatic)
-                .filter(method -> isAccessible(method, callerPackage))
-                .filter(method -> hasCompatibleReturnType(argument, method))
-                .filter(method -> hasStandardAccessorName(argument, method))
-                .findFirst()
-                .map(accessor -> new Accessor.Found(argument, accessor));
+            DeclaredAccessors declaredAccessors,
+            VariableElement argument,
+            List<String> accessorNames,
+            Name callerPackage) {
+        return accessorNames.stream()
+                .flatMap(name -> declaredAccessors.methods(name).stream())
+                .filter(indexed -> isAccessible(indexed.method(), declaredAccessors.packageName(), callerPackage))
+                .filter(indexed -> hasCompatibleReturnType(argument, indexed.method()))
+                .min(Comparator.comparingInt(IndexedMethod::position))
+                .map(indexed -> new Accessor.Found(argument, indexed.method()));
     }
 
     /**
-     * Finds a valid field in the {@code declaringClass}.
+     * Finds a valid field among the {@code declaredAccessors}.
      * The field must:
      * <ul>
      *     <li>be accessible from {@code callerPackage} (i.e. must not be {@code private} if in the same
@@ -99,31 +105,18 @@ public class AccessorFinder implements Function<VariableElement, Accessor> {
      * </ul>
      */
     private Optional<Accessor> findAccessorField(
-            TypeElement declaringClass, VariableElement argument, Name callerPackage) {
-        return fieldsIn(declaringClass.getEnclosedElements()).stream()
-                .filter(this::isNotStatic)
-                .filter(field -> isAccessible(field, callerPackage))
+            DeclaredAccessors declaredAccessors, VariableElement argument, Name callerPackage) {
+        return declaredAccessors
+                .field(argument.getSimpleName().toString())
+                .filter(field -> isAccessible(field, declaredAccessors.packageName(), callerPackage))
                 .filter(field -> hasCompatibleType(argument, field))
-                .filter(field -> hasSameName(argument, field))
-                .findFirst()
                 .map(accessor -> new Accessor.Found(argument, accessor));
     }
 
-    private boolean hasSameName(VariableElement argument, VariableElement field) {
-        return argument.getSimpleName().equals(field.getSimpleName());
-    }
-
-    private boolean isNotStatic(Element element) {
-        return !element.getModifiers().contains(STATIC);
-    }
-
-    private boolean isAccessible(Element method, Name callerPackage) {
-        var inSamePackageAsCaller =
-                elements.getPackageOf(method).getQualifiedName().equals(callerPackage);
-
-        return inSamePackageAsCaller
-                ? !method.getModifiers().contains(PRIVATE)
-                : method.getModifiers().contains(PUBLIC);
+    private boolean isAccessible(Element member, Name memberPackage, Name callerPackage) {
+        return memberPackage.equals(callerPackage)
+                ? !member.getModifiers().contains(PRIVATE)
+                : member.getModifiers().contains(PUBLIC);
     }
 
     private boolean hasCompatibleReturnType(VariableElement argument, ExecutableElement method) {
@@ -134,23 +127,25 @@ public class AccessorFinder implements Function<VariableElement, Accessor> {
         return types.isAssignable(field.asType(), argument.asType());
     }
 
-    private boolean hasStandardAccessorName(VariableElement argument, ExecutableElement method) {
-        var methodName = method.getSimpleName();
+    /**
+     * Returns the "standard" getter names for {@code argument}, i.e.:
+     * <ul>
+     *     <li>the same name as {@code argument} (e.g. record getters)
+     *     <li>the name of {@code argument}, capitalized and prefixed with {@code get}
+     *     <li>the name of {@code argument}, capitalized and prefixed with {@code is}
+     *     (only if {@code argument} is {@code boolean}/{@code Boolean})
+     * </ul>
+     */
+    private List<String> getAccessorNames(VariableElement argument) {
         var argumentName = argument.getSimpleName().toString();
+        var capitalized = StringUtils.capitalize(argumentName);
 
-        return methodName.contentEquals(argumentName)
-                || methodName.contentEquals("get" + StringUtils.capitalize(argumentName))
-                || (isBoolean(argument) && methodName.contentEquals("is" + StringUtils.capitalize(argumentName)));
+        return isBoolean(argument)
+                ? List.of(argumentName, "get" + capitalized, "is" + capitalized)
+                : List.of(argumentName, "get" + capitalized);
     }
 
     private boolean isBoolean(VariableElement argument) {
         return types.isAssignable(argument.asType(), types.getPrimitiveType(BOOLEAN));
     }
-
-    private Optional<TypeElement> getSuperClass(TypeElement type) {
-        return Optional.of(type.getSuperclass())
-                .filter(cls -> cls.getKind() != NONE)
-                .map(types::asElement)
-                .map(TypeElement.class::cast);
-    }
 }
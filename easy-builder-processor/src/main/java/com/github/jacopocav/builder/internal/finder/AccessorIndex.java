@@ -0,0 +1,126 @@
+package com.github.jacopocav.builder.internal.finder;
+
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.type.TypeKind.NONE;
+import static javax.lang.model.util.ElementFilter.fieldsIn;
+import static javax.lang.model.util.ElementFilter.methodsIn;
+
+import com.github.jacopocav.builder.internal.util.RoundScopedCache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Index of the candidate accessors (i.e. instance fields and parameterless instance methods) declared by each type,
+ * keyed by name.
+ * <p>Every type is indexed lazily, at most once per processing round, so that a single scan of its members is shared
+ * by all the creator method arguments (and all the builders) that look for accessors in it.
+ */
+public class AccessorIndex implements RoundScopedCache {
+    private final Types types;
+    private final Elements elements;
+    private final Map<TypeElement, DeclaredAccessors> accessorsByType = new HashMap<>();
+
+    public AccessorIndex(Types types, Elements elements) {
+        this.types = types;
+        this.elements = elements;
+    }
+
+    /**
+     * @return the candidate accessors declared directly by {@code type} (i.e. excluding the inherited ones)
+     */
+    public DeclaredAccessors get(TypeElement type) {
+        var accessors = accessorsByType.get(type);
+
+        if (accessors == null) {
+            accessors = index(type);
+            accessorsByType.put(type, accessors);
+        }
+
+        return accessors;
+    }
+
+    @Override
+    public void clear() {
+        accessorsByType.clear();
+    }
+
+    private DeclaredAccessors index(TypeElement type) {
+        var enclosedElements = type.getEnclosedElements();
+        var methodsByName = new HashMap<String, List<IndexedMethod>>();
+        var fieldsByName = new HashMap<String, VariableElement>();
+
+        var methods = methodsIn(enclosedElements);
+        for (int i = 0; i < methods.size(); i++) {
+            var method = methods.get(i);
+
+            if (isNotStatic(method) && method.getParameters().isEmpty()) {
+                methodsByName
+                        .computeIfAbsent(method.getSimpleName().toString(), k -> new ArrayList<>(1))
+                        .add(new IndexedMethod(i, method));
+            }
+        }
+
+        for (var field : fieldsIn(enclosedElements)) {
+            if (isNotStatic(field)) {
+                fieldsByName.put(field.getSimpleName().toString(), field);
+            }
+        }
+
+        return new DeclaredAccessors(
+                elements.getPackageOf(type).getQualifiedName(), methodsByName, fieldsByName, getSuperClass(type));
+    }
+
+    private boolean isNotStatic(Element element) {
+        return !element.getModifiers().contains(STATIC);
+    }
+
+    private TypeElement getSuperClass(TypeElement type) {
+        return Optional.of(type.getSuperclass())
+                .filter(cls -> cls.getKind() != NONE)
+                .map(types::asElement)
+                .map(TypeElement.class::cast)
+                .orElse(null);
+    }
+
+    /**
+     * A parameterless instance method, along with its position among the methods of the declaring type
+     */
+    public record IndexedMethod(int position, ExecutableElement method) {}
+
+    /**
+     * The candidate accessors declared directly by a type.
+     *
+     * @param packageName   the qualified name of the package of the declaring type
+     * @param methodsByName parameterless instance methods, in declaration order
+     * @param fieldsByName  instance fields
+     * @param superClass    the superclass of the declaring type, or {@code null} if it has none
+     */
+    public record DeclaredAccessors(
+            Name packageName,
+            Map<String, List<IndexedMethod>> methodsByName,
+            Map<String, VariableElement> fieldsByName,
+            TypeElement superClass) {
+
+        public List<IndexedMethod> methods(String name) {
+            return methodsByName.getOrDefault(name, List.of());
+        }
+
+        public Optional<VariableElement> field(String name) {
+            return Optional.ofNullable(fieldsByName.get(name));
+        }
+
+        public Optional<TypeElement> getSuperClass() {
+            return Optional.ofNullable(superClass);
+        }
+    }
+}
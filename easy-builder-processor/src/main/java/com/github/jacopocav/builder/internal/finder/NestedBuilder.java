@@ -0,0 +1,18 @@
+package com.github.jacopocav.builder.internal.finder;
+
+/**
+ * The builder generated for the type of a creator method parameter, which can be nested in the builder of the creator
+ * method.
+ *
+ * @param qualifiedName     qualified name of the builder class
+ * @param simpleName        simple name of the builder class
+ * @param factoryMethodName name of the static factory method that returns a new builder instance
+ * @param buildMethodName   name of the build method
+ * @param resettable        whether the builder has a {@code reset()} method
+ */
+public record NestedBuilder(
+        String qualifiedName,
+        String simpleName,
+        String factoryMethodName,
+        String buildMethodName,
+        boolean resettable) {}
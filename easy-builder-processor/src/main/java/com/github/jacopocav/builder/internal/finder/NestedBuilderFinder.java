@@ -0,0 +1,235 @@
+package com.github.jacopocav.builder.internal.finder;
+
+import static javax.lang.model.element.ElementKind.CONSTRUCTOR;
+import static javax.lang.model.element.ElementKind.METHOD;
+import static javax.lang.model.element.Modifier.STATIC;
+
+import com.github.jacopocav.builder.annotation.Builder;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
+import com.github.jacopocav.builder.annotation.GeneratedBuilder;
+import com.github.jacopocav.builder.internal.option.OptionsRepository;
+import com.github.jacopocav.builder.internal.util.RoundScopedCache;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Finds the {@link NestedBuilder builder} generated for a type, looking for:
+ * <ol>
+ *     <li>a {@link Builder @Builder} annotation on the type itself, or on one of its constructors or static methods
+ *     returning it, which are only visible if the type is compiled along with the builder that nests it (in the same
+ *     round or in an earlier one)
+ *     <li>otherwise, a compiled class with the default builder class name, annotated with {@link GeneratedBuilder}
+ *     for that type
+ * </ol>
+ * Staged builders and builders of generic types are never returned, as they can not be configured by a
+ * {@link java.util.function.Consumer} of the builder class, and neither are the builders that failed to be generated
+ * in the current round (see {@link #discardFailed(Collection)}).
+ * <p>Builders declared in other sources are only found when nested builders are enabled by the compiler arguments,
+ * which make the processor aggregating: an isolating processor must generate each builder from its originating
+ * element alone, while the options of a builder declared in another source (or the compiled builder class itself) may
+ * change without recompiling the source of the builder that nests it. Otherwise, only the builders of types declared
+ * in the same source file as the creator method are found.
+ * <p>Every type is looked up at most once per processing round.
+ */
+public class NestedBuilderFinder implements RoundScopedCache {
+    private final Types types;
+    private final Elements elements;
+    private final OptionsRepository optionsRepository;
+    private final Map<TypeElement, Optional<NestedBuilder>> buildersByType = new HashMap<>();
+    private final Set<TypeElement> failedTypes = new HashSet<>();
+    private final Set<TypeElement> annotatedTypes = new HashSet<>();
+    private final boolean acrossSources;
+    private Set<TypeElement> nestedTypes = new HashSet<>();
+
+    /**
+     * @param acrossSources whether builders declared in other sources are found (see the class documentation)
+     */
+    public NestedBuilderFinder(
+            Types types, Elements elements, OptionsRepository optionsRepository, boolean acrossSources) {
+        this.types = types;
+        this.elements = elements;
+        this.optionsRepository = optionsRepository;
+        this.acrossSources = acrossSources;
+    }
+
+    /**
+     * @return the builder generated for the type of the creator method {@code parameter}, if any
+     */
+    public Optional<NestedBuilder> find(VariableElement parameter) {
+        var type = parameter.asType();
+        if (type.getKind() != TypeKind.DECLARED) {
+            return Optional.empty();
+        }
+
+        var typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (failedTypes.contains(typeElement)
+                || (!acrossSources && !outermostTypeOf(typeElement).equals(outermostTypeOf(parameter)))) {
+            return Optional.empty();
+        }
+
+        var builder = buildersByType.get(typeElement);
+
+        if (builder == null) {
+            builder = typeElement.getTypeParameters().isEmpty()
+                    ? findAnnotated(typeElement).or(() -> acrossSources ? findCompiled(typeElement) : Optional.empty())
+                    : Optional.empty();
+            buildersByType.put(typeElement, builder);
+        }
+
+        if (annotatedTypes.contains(typeElement)) {
+            nestedTypes.add(typeElement);
+        }
+        return builder;
+    }
+
+    /**
+     * @return the types annotated in the current compilation whose builders have been returned since the last call
+     */
+    public Set<TypeElement> takeNestedTypes() {
+        var taken = nestedTypes;
+        nestedTypes = new HashSet<>();
+        return taken;
+    }
+
+    /**
+     * Stops returning the builders of {@code annotatedElements}, whose generation failed in the current round, so that
+     * no builder refers to a class that is never generated.
+     *
+     * @return the types of {@code annotatedElements} whose builders are no longer returned (so the builders that
+     * nested them must be prepared again)
+     */
+    public Set<TypeElement> discardFailed(Collection<? extends Element> annotatedElements) {
+        var discarded = new HashSet<TypeElement>();
+        for (var annotatedElement : annotatedElements) {
+            var type = builtType(annotatedElement);
+            if (type != null && failedTypes.add(type)) {
+                buildersByType.remove(type);
+                discarded.add(type);
+            }
+        }
+        return discarded;
+    }
+
+    /**
+     * @return the type whose builder is generated from {@code annotatedElement}, if {@link #findAnnotated} can find it
+     * (i.e. if it is the type itself or one of its creator methods), otherwise {@code null}
+     */
+    private TypeElement builtType(Element annotatedElement) {
+        if (annotatedElement instanceof TypeElement type) {
+            return type;
+        }
+        if (!(annotatedElement.getEnclosingElement() instanceof TypeElement type)) {
+            return null;
+        }
+        return isCreatorMethodOf(annotatedElement, type) ? type : null;
+    }
+
+    @Override
+    public void clear() {
+        buildersByType.clear();
+        failedTypes.clear();
+        annotatedTypes.clear();
+        nestedTypes.clear();
+    }
+
+    private Optional<NestedBuilder> findAnnotated(TypeElement type) {
+        var creatorMethods =
+                type.getEnclosedElements().stream().filter(element -> isCreatorMethodOf(element, type));
+
+        return Stream.concat(Stream.of(type), creatorMethods)
+                .filter(NestedBuilderFinder::isBuilderAnnotated)
+                .findFirst()
+                .flatMap(annotatedElement -> {
+                    var options = optionsRepository.getInterpolated(optionsRepository.getRaw(annotatedElement), type);
+                    if (options.staging() != Staging.DISABLED) {
+                        return Optional.empty();
+                    }
+
+                    annotatedTypes.add(type);
+                    return Optional.of(new NestedBuilder(
+                            packageNameOf(type) + options.className(),
+                            options.className(),
+                            options.staticFactoryName(),
+                            options.buildMethodName(),
+                            options.reuse() != Reuse.DISABLED));
+                });
+    }
+
+    private Optional<NestedBuilder> findCompiled(TypeElement type) {
+        var className = optionsRepository
+                .getInterpolated(optionsRepository.getDefaults(), type)
+                .className();
+        var builderClass = elements.getTypeElement(packageNameOf(type) + className);
+        if (builderClass == null) {
+            return Optional.empty();
+        }
+
+        return builderClass.getAnnotationMirrors().stream()
+                .filter(annotation ->
+                        annotation.getAnnotationType().toString().equals(GeneratedBuilder.class.getName()))
+                .findFirst()
+                .map(NestedBuilderFinder::attributesOf)
+                .filter(attributes -> attributes.get("targetClass") instanceof TypeMirror targetClass
+                        && types.isSameType(targetClass, type.asType()))
+                // attributes added after the builder was compiled are missing, as if they were disabled
+                .filter(attributes -> !(attributes.get("staging") instanceof VariableElement staging)
+                        || staging.getSimpleName().contentEquals(Staging.DISABLED.name()))
+                .map(attributes -> new NestedBuilder(
+                        builderClass.getQualifiedName().toString(),
+                        className,
+                        (String) attributes.get("factoryMethodName"),
+                        (String) attributes.get("buildMethodName"),
+                        attributes.get("reuse") instanceof VariableElement reuse
+                                && !reuse.getSimpleName().contentEquals(Reuse.DISABLED.name())));
+    }
+
+    private boolean isCreatorMethodOf(Element element, TypeElement type) {
+        return element.getKind() == CONSTRUCTOR
+                || (element.getKind() == METHOD
+                        && element.getModifiers().contains(STATIC)
+                        && types.isSameType(((ExecutableElement) element).getReturnType(), type.asType()));
+    }
+
+    private static boolean isBuilderAnnotated(Element element) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(annotation -> annotation.getAnnotationType().toString().equals(Builder.class.getName()));
+    }
+
+    private static Map<String, Object> attributesOf(AnnotationMirror annotation) {
+        var attributes = new HashMap<String, Object>();
+        annotation
+                .getElementValues()
+                .forEach((method, value) -> attributes.put(method.getSimpleName().toString(), value.getValue()));
+        return attributes;
+    }
+
+    private static Element outermostTypeOf(Element element) {
+        var outermost = element;
+        while (!(outermost.getEnclosingElement() instanceof PackageElement)) {
+            outermost = outermost.getEnclosingElement();
+        }
+        return outermost;
+    }
+
+    private String packageNameOf(TypeElement type) {
+        var enclosingPackage = elements.getPackageOf(type);
+        return enclosingPackage.isUnnamed() ? "" : enclosingPackage.getQualifiedName() + ".";
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.jacopocav.builder.internal.generation;
+
+import javax.lang.model.element.Element;
+
+/**
+ * In-memory representation of a generated class file, ready to be written to file.
+ *
+ * @param qualifiedName      the qualified name of the class contained in the file
+ * @param originatingElement the element annotated with {@link com.github.jacopocav.builder.annotation.Builder @Builder}
+ *                           that caused this file to be generated
+ * @param bytecode           the contents of the class file
+ */
+public record GeneratedClassFile(String qualifiedName, Element originatingElement, byte[] bytecode)
+        implements GeneratedFile {}
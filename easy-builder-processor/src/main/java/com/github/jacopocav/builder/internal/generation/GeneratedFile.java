@@ -0,0 +1,20 @@
+package com.github.jacopocav.builder.internal.generation;
+
+import javax.lang.model.element.Element;
+
+/**
+ * In-memory representation of a generated file, ready to be written to file: either a Java source file or a
+ * compiled class file.
+ */
+public sealed interface GeneratedFile permits GeneratedJavaFile, GeneratedClassFile {
+    /**
+     * The qualified name of the main top-level class contained in the file
+     */
+    String qualifiedName();
+
+    /**
+     * The element annotated with {@link com.github.jacopocav.builder.annotation.Builder @Builder} that caused this
+     * file to be generated
+     */
+    Element originatingElement();
+}
@@ -1,9 +1,22 @@
 package com.github.jacopocav.builder.internal.generation;
 
+import javax.lang.model.element.Element;
+
 /**
  * In-memory representation of a generated Java file, ready to be written to file.
  *
- * @param qualifiedName the qualified name of the main top-level class contained in the file
- * @param sourceCode    the java source code contained in the file
+ * @param qualifiedName      the qualified name of the main top-level class contained in the file
+ * @param originatingElement the element annotated with {@link com.github.jacopocav.builder.annotation.Builder @Builder}
+ *                           that caused this file to be generated
+ * @param sourceCode         the java source code contained in the file
  */
-public record GeneratedJavaFile(String qualifiedName, String sourceCode) {}
+public record GeneratedJavaFile(String qualifiedName, Element originatingElement, SourceCode sourceCode)
+        implements GeneratedFile {
+
+    /**
+     * Creates a file whose {@code sourceCode} has already been rendered
+     */
+    public GeneratedJavaFile(String qualifiedName, Element originatingElement, String sourceCode) {
+        this(qualifiedName, originatingElement, new SourceCode.Rendered(sourceCode));
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.jacopocav.builder.internal.generation;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The source code of a {@link GeneratedJavaFile}, which is either already rendered or rendered while being written.
+ */
+public interface SourceCode {
+    /**
+     * Writes the whole source code to {@code writer}
+     */
+    void writeTo(Writer writer) throws IOException;
+
+    /**
+     * Source code that has already been rendered to a string
+     */
+    record Rendered(String sourceCode) implements SourceCode {
+        @Override
+        public void writeTo(Writer writer) throws IOException {
+            writer.write(sourceCode);
+        }
+    }
+}
@@ -6,19 +6,48 @@ import static java.util.stream.Collectors.joining;
 import static javax.lang.model.element.NestingKind.TOP_LEVEL;
 
 import com.github.jacopocav.builder.annotation.Builder;
+import com.github.jacopocav.builder.internal.util.RoundScopedCache;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 
-public class NameTemplateInterpolator {
+/**
+ * Replaces the target class name placeholders of name templates (e.g. {@link Builder#className()}).
+ * <p>Interpolations for model types are cached until the end of the processing round: the full simple name of each
+ * type is computed once, and templates are usually the same for all builders (as they mostly come from defaults and
+ * compiler arguments), including all the builders sharing the same enclosing type.
+ */
+public class NameTemplateInterpolator implements RoundScopedCache {
+    private final Map<TypeElement, Interpolations> interpolationsByType = new HashMap<>();
+
     public String interpolate(String template, Class<?> targetClass) {
         return interpolate(template, fullSimpleNameOf(targetClass));
     }
 
     public String interpolate(String template, TypeElement targetType) {
-        return interpolate(template, fullSimpleNameOf(targetType));
+        var interpolations = interpolationsByType.get(targetType);
+
+        if (interpolations == null) {
+            interpolations = new Interpolations(fullSimpleNameOf(targetType), new HashMap<>());
+            interpolationsByType.put(targetType, interpolations);
+        }
+
+        var result = interpolations.byTemplate().get(template);
+        if (result == null) {
+            result = interpolate(template, interpolations.fullSimpleName());
+            interpolations.byTemplate().put(template, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        interpolationsByType.clear();
     }
 
     private String interpolate(String template, String fullSimpleName) {
@@ -69,4 +98,6 @@ public class NameTemplateInterpolator {
     private static <T> Comparator<T> reversed() {
         return (a, b) -> -1;
     }
+
+    private record Interpolations(String fullSimpleName, Map<String, String> byTemplate) {}
 }
@@ -3,6 +3,8 @@ package com.github.jacopocav.builder.internal.option;
 import com.github.jacopocav.builder.annotation.Builder;
 import com.github.jacopocav.builder.annotation.Builder.Defaults;
 import com.github.jacopocav.builder.processor.BuilderProcessor;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
 
@@ -17,9 +19,23 @@ public enum BuilderOption {
     BUILD_METHOD_NAME("buildMethodName", Defaults.BUILD_METHOD_NAME, false),
     FACTORY_METHOD_NAME("factoryMethodName", Defaults.FACTORY_METHOD_NAME, false),
     COPY_FACTORY_METHOD("copyFactoryMethod", Defaults.COPY_FACTORY_METHOD, false),
-    COPY_FACTORY_METHOD_NAME("copyFactoryMethodName", Defaults.COPY_FACTORY_METHOD_NAME, false);
+    COPY_FACTORY_METHOD_NAME("copyFactoryMethodName", Defaults.COPY_FACTORY_METHOD_NAME, false),
+    COPY_FACTORY_METHOD_MODE("copyFactoryMethodMode", Defaults.COPY_FACTORY_METHOD_MODE, false),
+    REUSE("reuse", Defaults.REUSE, false),
+    WITHER_METHODS("witherMethods", Defaults.WITHER_METHODS, false),
+    STAGING("staging", Defaults.STAGING, false),
+    COLLECTION_MEMBERS("collectionMembers", Defaults.COLLECTION_MEMBERS, false),
+    UNWRAPPED_SETTERS("unwrappedSetters", Defaults.UNWRAPPED_SETTERS, false),
+    NESTED_BUILDERS("nestedBuilders", Defaults.NESTED_BUILDERS, false),
+    INTERNING("interning", Defaults.INTERNING, false),
+    JSON_CODEC("jsonCodec", Defaults.JSON_CODEC, false),
+    BINARY_CODEC("binaryCodec", Defaults.BINARY_CODEC, false),
+    MAP_BINDING("mapBinding", Defaults.MAP_BINDING, false),
+    ROW_BINDING("rowBinding", Defaults.ROW_BINDING, false),
+    BATCH_BUILDER("batchBuilder", Defaults.BATCH_BUILDER, false);
 
-    private static final Set<BuilderOption> ALL = Set.of(values());
+    // declaration order, so that options are listed deterministically in generated sources
+    private static final Set<BuilderOption> ALL = Collections.unmodifiableSet(EnumSet.allOf(BuilderOption.class));
 
     private final String annotationName;
     private final Object defaultValue;
@@ -1,6 +1,19 @@
 package com.github.jacopocav.builder.internal.option;
 
+import com.github.jacopocav.builder.annotation.Builder.BatchBuilderGeneration;
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
+import com.github.jacopocav.builder.annotation.Builder.CollectionMembers;
 import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodMode;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.MapBinding;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.RowBinding;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
+import com.github.jacopocav.builder.annotation.Builder.UnwrappedSetters;
+import com.github.jacopocav.builder.annotation.Builder.WitherMethodGeneration;
 
 public record InterpolatedOptions(
         RawOptions raw,
@@ -9,7 +22,20 @@ public record InterpolatedOptions(
         String buildMethodName,
         String staticFactoryName,
         CopyFactoryMethodGeneration copyFactoryMethod,
-        String copyFactoryMethodName)
+        String copyFactoryMethodName,
+        CopyFactoryMethodMode copyFactoryMethodMode,
+        Reuse reuse,
+        WitherMethodGeneration witherMethods,
+        Staging staging,
+        CollectionMembers collectionMembers,
+        UnwrappedSetters unwrappedSetters,
+        NestedBuilders nestedBuilders,
+        Interning interning,
+        JsonCodec jsonCodec,
+        BinaryCodec binaryCodec,
+        MapBinding mapBinding,
+        RowBinding rowBinding,
+        BatchBuilderGeneration batchBuilder)
         implements Options {
 
     public static Builder builder() {
@@ -24,6 +50,19 @@ public record InterpolatedOptions(
         private String staticFactoryName;
         private CopyFactoryMethodGeneration copyFactoryMethod;
         private String copyFactoryMethodName;
+        private CopyFactoryMethodMode copyFactoryMethodMode;
+        private Reuse reuse;
+        private WitherMethodGeneration witherMethods;
+        private Staging staging;
+        private CollectionMembers collectionMembers;
+        private UnwrappedSetters unwrappedSetters;
+        private NestedBuilders nestedBuilders;
+        private Interning interning;
+        private JsonCodec jsonCodec;
+        private BinaryCodec binaryCodec;
+        private MapBinding mapBinding;
+        private RowBinding rowBinding;
+        private BatchBuilderGeneration batchBuilder;
 
         private Builder() {}
 
@@ -62,6 +101,71 @@ public record InterpolatedOptions(
             return this;
         }
 
+        public Builder copyFactoryMethodMode(CopyFactoryMethodMode copyFactoryMethodMode) {
+            this.copyFactoryMethodMode = copyFactoryMethodMode;
+            return this;
+        }
+
+        public Builder reuse(Reuse reuse) {
+            this.reuse = reuse;
+            return this;
+        }
+
+        public Builder witherMethods(WitherMethodGeneration witherMethods) {
+            this.witherMethods = witherMethods;
+            return this;
+        }
+
+        public Builder staging(Staging staging) {
+            this.staging = staging;
+            return this;
+        }
+
+        public Builder collectionMembers(CollectionMembers collectionMembers) {
+            this.collectionMembers = collectionMembers;
+            return this;
+        }
+
+        public Builder unwrappedSetters(UnwrappedSetters unwrappedSetters) {
+            this.unwrappedSetters = unwrappedSetters;
+            return this;
+        }
+
+        public Builder nestedBuilders(NestedBuilders nestedBuilders) {
+            this.nestedBuilders = nestedBuilders;
+            return this;
+        }
+
+        public Builder interning(Interning interning) {
+            this.interning = interning;
+            return this;
+        }
+
+        public Builder jsonCodec(JsonCodec jsonCodec) {
+            this.jsonCodec = jsonCodec;
+            return this;
+        }
+
+        public Builder binaryCodec(BinaryCodec binaryCodec) {
+            this.binaryCodec = binaryCodec;
+            return this;
+        }
+
+        public Builder mapBinding(MapBinding mapBinding) {
+            this.mapBinding = mapBinding;
+            return this;
+        }
+
+        public Builder rowBinding(RowBinding rowBinding) {
+            this.rowBinding = rowBinding;
+            return this;
+        }
+
+        public Builder batchBuilder(BatchBuilderGeneration batchBuilder) {
+            this.batchBuilder = batchBuilder;
+            return this;
+        }
+
         public InterpolatedOptions build() {
             return new InterpolatedOptions(
                     raw,
@@ -70,7 +174,20 @@ public record InterpolatedOptions(
                     buildMethodName,
                     staticFactoryName,
                     copyFactoryMethod,
-                    copyFactoryMethodName);
+                    copyFactoryMethodName,
+                    copyFactoryMethodMode,
+                    reuse,
+                    witherMethods,
+                    staging,
+                    collectionMembers,
+                    unwrappedSetters,
+                    nestedBuilders,
+                    interning,
+                    jsonCodec,
+                    binaryCodec,
+                    mapBinding,
+                    rowBinding,
+                    batchBuilder);
         }
     }
 }
@@ -13,6 +13,7 @@ public class OptionCompilerArgumentsValidator {
     private static final String ERROR_MESSAGE_TEMPLATE =
             "value \"%s\" of compiler argument %s is not a permitted Java identifier";
     private static final String PREFIX_ERROR_MESSAGE_TEMPLATE = ERROR_MESSAGE_TEMPLATE + " prefix";
+    private static final String VALUE_TYPE_ERROR_MESSAGE_TEMPLATE = "value \"%s\" of compiler argument %s is not a %s";
     private final JavaNameValidator javaNameValidator;
 
     public OptionCompilerArgumentsValidator(JavaNameValidator javaNameValidator) {
@@ -41,7 +42,23 @@ public class OptionCompilerArgumentsValidator {
                 .map(opt ->
                         processingException(null, PREFIX_ERROR_MESSAGE_TEMPLATE.formatted(value, opt.compilerName())))
                 .or(() -> option.filter(opt -> isInvalidName(opt, value))
-                        .map(opt1 -> processingException(null, ERROR_MESSAGE_TEMPLATE.formatted(value, name))));
+                        .map(opt1 -> processingException(null, ERROR_MESSAGE_TEMPLATE.formatted(value, name))))
+                .or(() -> validateProcessorArgument(name, value));
+    }
+
+    private Optional<ProcessingException> validateProcessorArgument(String name, String value) {
+        return ProcessorOption.findByCompilerName(name)
+                .filter(opt -> !opt.valueType().isValid(value))
+                .map(opt -> processingException(
+                        null, VALUE_TYPE_ERROR_MESSAGE_TEMPLATE.formatted(value, name, describe(opt.valueType()))));
+    }
+
+    private static String describe(ProcessorOption.ValueType valueType) {
+        return switch (valueType) {
+            case POSITIVE_INTEGER -> "positive integer";
+            case BOOLEAN -> "boolean";
+            case PATH -> "file path";
+        };
     }
 
     private boolean isInvalidNamePrefix(BuilderOption option, String value) {
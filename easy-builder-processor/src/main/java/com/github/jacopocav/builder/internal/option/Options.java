@@ -1,6 +1,19 @@
 package com.github.jacopocav.builder.internal.option;
 
+import com.github.jacopocav.builder.annotation.Builder.BatchBuilderGeneration;
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
+import com.github.jacopocav.builder.annotation.Builder.CollectionMembers;
 import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodMode;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.MapBinding;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.RowBinding;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
+import com.github.jacopocav.builder.annotation.Builder.UnwrappedSetters;
+import com.github.jacopocav.builder.annotation.Builder.WitherMethodGeneration;
 
 public sealed interface Options permits RawOptions, InterpolatedOptions {
     String className();
@@ -14,4 +27,30 @@ public sealed interface Options permits RawOptions, InterpolatedOptions {
     CopyFactoryMethodGeneration copyFactoryMethod();
 
     String copyFactoryMethodName();
+
+    CopyFactoryMethodMode copyFactoryMethodMode();
+
+    Reuse reuse();
+
+    WitherMethodGeneration witherMethods();
+
+    Staging staging();
+
+    CollectionMembers collectionMembers();
+
+    UnwrappedSetters unwrappedSetters();
+
+    NestedBuilders nestedBuilders();
+
+    Interning interning();
+
+    JsonCodec jsonCodec();
+
+    BinaryCodec binaryCodec();
+
+    MapBinding mapBinding();
+
+    RowBinding rowBinding();
+
+    BatchBuilderGeneration batchBuilder();
 }
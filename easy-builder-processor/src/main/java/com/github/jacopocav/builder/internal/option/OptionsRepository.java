@@ -3,7 +3,20 @@ package com.github.jacopocav.builder.internal.option;
 import static java.util.stream.Collectors.toMap;
 
 import com.github.jacopocav.builder.annotation.Builder;
+import com.github.jacopocav.builder.annotation.Builder.BatchBuilderGeneration;
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
+import com.github.jacopocav.builder.annotation.Builder.CollectionMembers;
 import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodMode;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.MapBinding;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.RowBinding;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
+import com.github.jacopocav.builder.annotation.Builder.UnwrappedSetters;
+import com.github.jacopocav.builder.annotation.Builder.WitherMethodGeneration;
 import com.github.jacopocav.builder.internal.generation.name.NameTemplateInterpolator;
 import java.util.Map;
 import java.util.Optional;
@@ -33,10 +46,57 @@ public class OptionsRepository {
                 .copyFactoryMethodName(compilerOptions.getOrDefault(
                         BuilderOption.COPY_FACTORY_METHOD_NAME.compilerName(),
                         BuilderOption.COPY_FACTORY_METHOD_NAME.defaultValue()))
+                .copyFactoryMethodMode(CopyFactoryMethodMode.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.COPY_FACTORY_METHOD_MODE.compilerName(),
+                        BuilderOption.COPY_FACTORY_METHOD_MODE.defaultValue().toString())))
+                .reuse(Reuse.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.REUSE.compilerName(),
+                        BuilderOption.REUSE.defaultValue().toString())))
+                .witherMethods(WitherMethodGeneration.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.WITHER_METHODS.compilerName(),
+                        BuilderOption.WITHER_METHODS.defaultValue().toString())))
+                .staging(Staging.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.STAGING.compilerName(),
+                        BuilderOption.STAGING.defaultValue().toString())))
+                .collectionMembers(CollectionMembers.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.COLLECTION_MEMBERS.compilerName(),
+                        BuilderOption.COLLECTION_MEMBERS.defaultValue().toString())))
+                .unwrappedSetters(UnwrappedSetters.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.UNWRAPPED_SETTERS.compilerName(),
+                        BuilderOption.UNWRAPPED_SETTERS.defaultValue().toString())))
+                .nestedBuilders(NestedBuilders.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.NESTED_BUILDERS.compilerName(),
+                        BuilderOption.NESTED_BUILDERS.defaultValue().toString())))
+                .interning(Interning.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.INTERNING.compilerName(),
+                        BuilderOption.INTERNING.defaultValue().toString())))
+                .jsonCodec(JsonCodec.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.JSON_CODEC.compilerName(),
+                        BuilderOption.JSON_CODEC.defaultValue().toString())))
+                .binaryCodec(BinaryCodec.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.BINARY_CODEC.compilerName(),
+                        BuilderOption.BINARY_CODEC.defaultValue().toString())))
+                .mapBinding(MapBinding.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.MAP_BINDING.compilerName(),
+                        BuilderOption.MAP_BINDING.defaultValue().toString())))
+                .rowBinding(RowBinding.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.ROW_BINDING.compilerName(),
+                        BuilderOption.ROW_BINDING.defaultValue().toString())))
+                .batchBuilder(BatchBuilderGeneration.valueOf(compilerOptions.getOrDefault(
+                        BuilderOption.BATCH_BUILDER.compilerName(),
+                        BuilderOption.BATCH_BUILDER.defaultValue().toString())))
                 .build();
         this.nameTemplateInterpolator = nameTemplateInterpolator;
     }
 
+    /**
+     * @return the options of a builder whose annotation has no attributes (i.e. the compiler arguments, or the
+     * default values specified in {@link com.github.jacopocav.builder.annotation.Builder.Defaults})
+     */
+    public RawOptions getDefaults() {
+        return defaults;
+    }
+
     /**
      * @return the computed {@link RawOptions} for the given {@code element}.
      * Option values are determined according to this hierarchy:
@@ -76,6 +136,87 @@ public class OptionsRepository {
                         attributes,
                         BuilderOption.COPY_FACTORY_METHOD_NAME.annotationName(),
                         defaults.copyFactoryMethodName()))
+                .copyFactoryMethodMode(
+                        Optional.ofNullable(attributes.get(BuilderOption.COPY_FACTORY_METHOD_MODE.annotationName()))
+                                .map(VariableElement.class::cast)
+                                .map(VariableElement::getSimpleName)
+                                .map(Name::toString)
+                                .map(CopyFactoryMethodMode::valueOf)
+                                .orElse(defaults.copyFactoryMethodMode()))
+                .reuse(Optional.ofNullable(attributes.get(BuilderOption.REUSE.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(Reuse::valueOf)
+                        .orElse(defaults.reuse()))
+                .witherMethods(Optional.ofNullable(attributes.get(BuilderOption.WITHER_METHODS.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(WitherMethodGeneration::valueOf)
+                        .orElse(defaults.witherMethods()))
+                .staging(Optional.ofNullable(attributes.get(BuilderOption.STAGING.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(Staging::valueOf)
+                        .orElse(defaults.staging()))
+                .collectionMembers(Optional.ofNullable(
+                                attributes.get(BuilderOption.COLLECTION_MEMBERS.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(CollectionMembers::valueOf)
+                        .orElse(defaults.collectionMembers()))
+                .unwrappedSetters(Optional.ofNullable(
+                                attributes.get(BuilderOption.UNWRAPPED_SETTERS.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(UnwrappedSetters::valueOf)
+                        .orElse(defaults.unwrappedSetters()))
+                .nestedBuilders(Optional.ofNullable(attributes.get(BuilderOption.NESTED_BUILDERS.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(NestedBuilders::valueOf)
+                        .orElse(defaults.nestedBuilders()))
+                .interning(Optional.ofNullable(attributes.get(BuilderOption.INTERNING.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(Interning::valueOf)
+                        .orElse(defaults.interning()))
+                .jsonCodec(Optional.ofNullable(attributes.get(BuilderOption.JSON_CODEC.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(JsonCodec::valueOf)
+                        .orElse(defaults.jsonCodec()))
+                .binaryCodec(Optional.ofNullable(attributes.get(BuilderOption.BINARY_CODEC.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(BinaryCodec::valueOf)
+                        .orElse(defaults.binaryCodec()))
+                .mapBinding(Optional.ofNullable(attributes.get(BuilderOption.MAP_BINDING.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(MapBinding::valueOf)
+                        .orElse(defaults.mapBinding()))
+                .rowBinding(Optional.ofNullable(attributes.get(BuilderOption.ROW_BINDING.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(RowBinding::valueOf)
+                        .orElse(defaults.rowBinding()))
+                .batchBuilder(Optional.ofNullable(attributes.get(BuilderOption.BATCH_BUILDER.annotationName()))
+                        .map(VariableElement.class::cast)
+                        .map(VariableElement::getSimpleName)
+                        .map(Name::toString)
+                        .map(BatchBuilderGeneration::valueOf)
+                        .orElse(defaults.batchBuilder()))
                 .build();
     }
 
@@ -94,6 +235,19 @@ public class OptionsRepository {
                 .copyFactoryMethod(rawOptions.copyFactoryMethod())
                 .copyFactoryMethodName(
                         nameTemplateInterpolator.interpolate(rawOptions.copyFactoryMethodName(), enclosingType))
+                .copyFactoryMethodMode(rawOptions.copyFactoryMethodMode())
+                .reuse(rawOptions.reuse())
+                .witherMethods(rawOptions.witherMethods())
+                .staging(rawOptions.staging())
+                .collectionMembers(rawOptions.collectionMembers())
+                .unwrappedSetters(rawOptions.unwrappedSetters())
+                .nestedBuilders(rawOptions.nestedBuilders())
+                .interning(rawOptions.interning())
+                .jsonCodec(rawOptions.jsonCodec())
+                .binaryCodec(rawOptions.binaryCodec())
+                .mapBinding(rawOptions.mapBinding())
+                .rowBinding(rawOptions.rowBinding())
+                .batchBuilder(rawOptions.batchBuilder())
                 .build();
     }
 
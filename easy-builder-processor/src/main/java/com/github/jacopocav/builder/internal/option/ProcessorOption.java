@@ -0,0 +1,107 @@
+package com.github.jacopocav.builder.internal.option;
+
+import com.github.jacopocav.builder.processor.BuilderProcessor;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Options that configure {@link BuilderProcessor} itself, rather than the generated builders.
+ * <p>Unlike {@link BuilderOption}, they can only be set as compiler arguments.
+ */
+public enum ProcessorOption {
+    PARALLELISM("parallelism", "1", ValueType.POSITIVE_INTEGER),
+    STATS("stats", "false", ValueType.BOOLEAN),
+    /**
+     * The file the JSON stats report is written to, if {@link #STATS} is enabled. It is written outside the
+     * {@link javax.annotation.processing.Filer Filer}, so that it does not affect incremental processing.
+     */
+    STATS_FILE("statsFile", "", ValueType.PATH),
+    REPRODUCIBLE("reproducible", "false", ValueType.BOOLEAN),
+    /**
+     * Writes builders directly as class files. Only plain builders are supported: setters, the build and static
+     * factory methods, an eager copy factory method, with-er methods and {@code reset()}. Builders that use any other
+     * feature are generated as sources instead, i.e. with a pooled builder, a copy-on-write copy factory method,
+     * required members, stages, interning, the JSON or binary codec, map or row binding or a batch builder, and with
+     * collection members, unwrapped setters or nested builders if any member is affected by them. So are builders
+     * whose target or creator method is generic or throws, or whose member types have type variables or type
+     * annotations.
+     */
+    CLASS_FILES("classFiles", "false", ValueType.BOOLEAN);
+
+    private static final Set<ProcessorOption> ALL = Collections.unmodifiableSet(EnumSet.allOf(ProcessorOption.class));
+
+    private final String name;
+    private final String defaultValue;
+    private final ValueType valueType;
+
+    ProcessorOption(String name, String defaultValue, ValueType valueType) {
+        this.name = name;
+        this.defaultValue = defaultValue;
+        this.valueType = valueType;
+    }
+
+    public static Set<ProcessorOption> all() {
+        return ALL;
+    }
+
+    public static Optional<ProcessorOption> findByCompilerName(String compilerName) {
+        return all().stream()
+                .filter(opt -> opt.compilerName().equals(compilerName))
+                .findFirst();
+    }
+
+    /**
+     * The name of the option when received as a compiler argument (as {@code -AcompilerName=value})
+     */
+    public String compilerName() {
+        return "easy.builder." + name;
+    }
+
+    public String defaultValue() {
+        return defaultValue;
+    }
+
+    public ValueType valueType() {
+        return valueType;
+    }
+
+    /**
+     * The kinds of values accepted by processor options
+     */
+    public enum ValueType {
+        POSITIVE_INTEGER,
+        BOOLEAN,
+        PATH;
+
+        /**
+         * @return {@code true} if {@code value} can be parsed as this type, {@code false} otherwise
+         */
+        public boolean isValid(String value) {
+            return switch (this) {
+                case POSITIVE_INTEGER -> isPositiveInteger(value);
+                case BOOLEAN -> value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false");
+                case PATH -> isPath(value);
+            };
+        }
+
+        private static boolean isPositiveInteger(String value) {
+            try {
+                return Integer.parseInt(value) > 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        private static boolean isPath(String value) {
+            try {
+                return !value.isBlank() && Path.of(value) != null;
+            } catch (InvalidPathException e) {
+                return false;
+            }
+        }
+    }
+}
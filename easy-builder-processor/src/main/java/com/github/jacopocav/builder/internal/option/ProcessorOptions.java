@@ -0,0 +1,47 @@
+package com.github.jacopocav.builder.internal.option;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * The computed {@link ProcessorOption} values received as compiler arguments.
+ *
+ * @param parallelism  number of threads used to render builders within a processing round
+ *                     (if {@code 1}, everything happens on the compiler thread)
+ * @param stats        whether timing and allocation statistics of each processing phase are collected and reported
+ * @param statsFile    the file the JSON stats report is written to (if {@code null}, only a summary is printed)
+ * @param reproducible whether generated sources must be identical across compilations of the same input
+ *                     (i.e. the creation timestamp is omitted, unless provided by {@code SOURCE_DATE_EPOCH})
+ * @param classFiles   whether builders are written directly as class files instead of source files, whenever
+ *                     supported (see {@link com.github.jacopocav.builder.internal.bytecode.BuilderClassFileGenerator})
+ */
+public record ProcessorOptions(
+        int parallelism, boolean stats, Path statsFile, boolean reproducible, boolean classFiles) {
+
+    public static ProcessorOptions defaults() {
+        return from(Map.of());
+    }
+
+    /**
+     * Reads the processor options from the compiler arguments, falling back to the default value of every option
+     * that is missing or invalid (invalid values are reported by {@link OptionCompilerArgumentsValidator}).
+     */
+    public static ProcessorOptions from(Map<String, String> compilerOptions) {
+        return new ProcessorOptions(
+                Integer.parseInt(get(compilerOptions, ProcessorOption.PARALLELISM)),
+                Boolean.parseBoolean(get(compilerOptions, ProcessorOption.STATS)),
+                toPath(get(compilerOptions, ProcessorOption.STATS_FILE)),
+                Boolean.parseBoolean(get(compilerOptions, ProcessorOption.REPRODUCIBLE)),
+                Boolean.parseBoolean(get(compilerOptions, ProcessorOption.CLASS_FILES)));
+    }
+
+    private static String get(Map<String, String> compilerOptions, ProcessorOption option) {
+        var value = compilerOptions.get(option.compilerName());
+
+        return value != null && option.valueType().isValid(value) ? value : option.defaultValue();
+    }
+
+    private static Path toPath(String value) {
+        return value.isEmpty() ? null : Path.of(value);
+    }
+}
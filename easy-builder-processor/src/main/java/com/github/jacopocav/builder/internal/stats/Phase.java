@@ -0,0 +1,35 @@
+package com.github.jacopocav.builder.internal.stats;
+
+/**
+ * The phases of builder generation measured by {@link ProcessingStats}
+ */
+public enum Phase {
+    VALIDATION("ElementValidator.validate"),
+    CREATOR_METHOD_LOOKUP("CreatorMethodFinder.find"),
+    OPTIONS_RETRIEVAL("OptionsRepository.getRaw"),
+    MODEL_CREATION("BuilderTemplateRenderer.prepare"),
+    /**
+     * Only measured when the builders that nest a failed builder are prepared again, which is not counted as part of
+     * the other preparation phases
+     */
+    NESTING_RETRY("BuilderGenerator.prepareAgain"),
+    /**
+     * Only measured when builders are rendered in parallel: otherwise, source code is rendered while being written,
+     * and is measured as part of {@link #WRITING}
+     */
+    RENDERING("RenderableBuilder.render"),
+    WRITING("GeneratedJavaFileWriter.write");
+
+    private final String description;
+
+    Phase(String description) {
+        this.description = description;
+    }
+
+    /**
+     * @return the method that implements this phase, used as the name of the phase in reports
+     */
+    public String description() {
+        return description;
+    }
+}
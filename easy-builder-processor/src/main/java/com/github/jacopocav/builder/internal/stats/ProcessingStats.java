@@ -0,0 +1,149 @@
+package com.github.jacopocav.builder.internal.stats;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+
+/**
+ * Collects the wall time and the thread-allocated bytes of each {@link Phase}, along with the number of processed
+ * elements of each {@link ElementKind}.
+ * <p>Phases can be measured on any thread. If statistics are disabled, phases are executed without being measured.
+ */
+public class ProcessingStats {
+    private static final com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+
+    private final boolean enabled;
+    private final Map<Phase, PhaseCounters> phaseCounters = new EnumMap<>(Phase.class);
+    private final Map<ElementKind, LongAdder> elementCounts = new ConcurrentHashMap<>();
+
+    private ProcessingStats(boolean enabled) {
+        this.enabled = enabled;
+
+        for (var phase : Phase.values()) {
+            phaseCounters.put(phase, new PhaseCounters());
+        }
+    }
+
+    public static ProcessingStats enabled() {
+        return new ProcessingStats(true);
+    }
+
+    public static ProcessingStats disabled() {
+        return new ProcessingStats(false);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Executes {@code action}, recording its wall time and the bytes it allocated on the current thread under
+     * {@code phase} (even if it throws).
+     */
+    public <T> T measure(Phase phase, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+
+        var startAllocatedBytes = currentThreadAllocatedBytes();
+        var startNanos = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            var elapsedNanos = System.nanoTime() - startNanos;
+            var allocatedBytes = currentThreadAllocatedBytes() - startAllocatedBytes;
+            phaseCounters.get(phase).add(elapsedNanos, allocatedBytes);
+        }
+    }
+
+    /**
+     * @see #measure(Phase, Supplier)
+     */
+    public void measure(Phase phase, Runnable action) {
+        measure(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Counts {@code element} among the processed elements of its kind
+     */
+    public void countElement(Element element) {
+        if (enabled) {
+            elementCounts.computeIfAbsent(element.getKind(), k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * @return the statistics collected so far for each phase, in execution order
+     */
+    public Map<Phase, PhaseSnapshot> phases() {
+        var snapshots = new EnumMap<Phase, PhaseSnapshot>(Phase.class);
+        phaseCounters.forEach((phase, counters) -> snapshots.put(phase, counters.snapshot()));
+
+        return snapshots;
+    }
+
+    /**
+     * @return the number of processed elements of each kind
+     */
+    public Map<ElementKind, Long> elementCounts() {
+        var counts = new EnumMap<ElementKind, Long>(ElementKind.class);
+        elementCounts.forEach((kind, count) -> counts.put(kind, count.sum()));
+
+        return counts;
+    }
+
+    /**
+     * @return {@code true} if the bytes allocated by each phase are measured, {@code false} if they are always
+     * reported as zero (i.e. the JVM does not support thread allocation measurement)
+     */
+    public static boolean isAllocationMeasured() {
+        return threadMXBean != null;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return threadMXBean != null ? threadMXBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()
+                && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+
+        return null;
+    }
+
+    /**
+     * Statistics of a single phase
+     *
+     * @param invocations    number of times the phase has been executed
+     * @param wallTimeNanos  total wall time spent in the phase, in nanoseconds
+     * @param allocatedBytes total bytes allocated by the threads executing the phase
+     */
+    public record PhaseSnapshot(long invocations, long wallTimeNanos, long allocatedBytes) {}
+
+    private static class PhaseCounters {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder wallTimeNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        void add(long elapsedNanos, long allocated) {
+            invocations.increment();
+            wallTimeNanos.add(elapsedNanos);
+            allocatedBytes.add(allocated);
+        }
+
+        PhaseSnapshot snapshot() {
+            return new PhaseSnapshot(invocations.sum(), wallTimeNanos.sum(), allocatedBytes.sum());
+        }
+    }
+}
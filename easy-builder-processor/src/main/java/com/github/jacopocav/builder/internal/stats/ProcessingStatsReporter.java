@@ -0,0 +1,107 @@
+package com.github.jacopocav.builder.internal.stats;
+
+import static java.util.stream.Collectors.joining;
+import static javax.tools.Diagnostic.Kind.NOTE;
+import static javax.tools.Diagnostic.Kind.WARNING;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import javax.annotation.processing.Messager;
+
+/**
+ * Reports the {@link ProcessingStats} collected during the whole compilation, both as a human-readable
+ * {@link javax.tools.Diagnostic.Kind#NOTE NOTE} and, if a report file is configured, as a JSON file (so that it can be
+ * archived and compared across builds).
+ * <p>The report file is written directly rather than through the {@link javax.annotation.processing.Filer Filer}:
+ * a resource created by the processor would have no originating element, which makes incremental build tools (such
+ * as Gradle, for isolating processors) fall back to a full recompilation.
+ */
+public class ProcessingStatsReporter {
+    private final Messager messager;
+    private final Path reportFile;
+
+    /**
+     * @param reportFile the file the JSON report is written to, or {@code null} to only print the summary
+     */
+    public ProcessingStatsReporter(Messager messager, Path reportFile) {
+        this.messager = messager;
+        this.reportFile = reportFile;
+    }
+
+    /**
+     * Prints the summary of {@code stats} and writes the JSON report, if a report file is configured.
+     * <p>Failing to write the report does not fail the compilation: a warning is printed instead.
+     */
+    public void report(ProcessingStats stats) {
+        messager.printMessage(NOTE, toSummary(stats));
+
+        if (reportFile == null) {
+            return;
+        }
+
+        try {
+            var parent = reportFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(reportFile, toJson(stats));
+        } catch (IOException e) {
+            messager.printMessage(WARNING, "@Builder could not write stats report %s: %s".formatted(reportFile, e));
+        }
+    }
+
+    static String toSummary(ProcessingStats stats) {
+        var elementCounts = stats.elementCounts();
+        var total = elementCounts.values().stream().mapToLong(Long::longValue).sum();
+
+        var summary = new StringBuilder("@Builder processing stats: %d annotated element(s)".formatted(total));
+        if (!elementCounts.isEmpty()) {
+            summary.append(elementCounts.entrySet().stream()
+                    .map(entry -> entry.getKey() + ": " + entry.getValue())
+                    .collect(joining(", ", " (", ")")));
+        }
+
+        stats.phases().forEach((phase, snapshot) -> summary.append(String.format(
+                Locale.ROOT,
+                "%n  %s: %d invocation(s), %.3f ms, %s",
+                phase.description(),
+                snapshot.invocations(),
+                snapshot.wallTimeNanos() / 1_000_000.0,
+                ProcessingStats.isAllocationMeasured()
+                        ? String.format(Locale.ROOT, "%.1f KiB allocated", snapshot.allocatedBytes() / 1024.0)
+                        : "allocations not measured")));
+
+        return summary.toString();
+    }
+
+    static String toJson(ProcessingStats stats) {
+        var phases = stats.phases().entrySet().stream()
+                .map(entry -> "    \"%s\": {\"invocations\": %d, \"wallTimeNanos\": %d, \"allocatedBytes\": %d}"
+                        .formatted(
+                                entry.getKey().description(),
+                                entry.getValue().invocations(),
+                                entry.getValue().wallTimeNanos(),
+                                entry.getValue().allocatedBytes()))
+                .toList();
+
+        var elementCounts = stats.elementCounts().entrySet().stream()
+                .map(entry -> "    \"%s\": %d".formatted(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return """
+                {
+                  "allocationMeasured": %s,
+                  "phases": %s,
+                  "elementKinds": %s
+                }
+                """
+                .formatted(ProcessingStats.isAllocationMeasured(), toJsonObject(phases), toJsonObject(elementCounts));
+    }
+
+    private static String toJsonObject(List<String> members) {
+        return members.isEmpty() ? "{}" : members.stream().collect(joining(",\n", "{\n", "\n  }"));
+    }
+}
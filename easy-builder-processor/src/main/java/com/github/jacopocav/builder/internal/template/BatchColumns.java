@@ -0,0 +1,25 @@
+package com.github.jacopocav.builder.internal.template;
+
+import com.github.jacopocav.builder.internal.util.StringUtils;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Variables of a builder with a batch builder, which holds the values of each member in an array (a column) named after
+ * the member, so that the names of its other fields must not clash with them.
+ *
+ * @param batchClass    the nested class of the builder that holds the columns
+ * @param sizeField     the field holding the number of rows of the batch
+ * @param capacityField the field holding the length of the columns
+ */
+public record BatchColumns(String batchClass, String sizeField, String capacityField) {
+    /**
+     * @param batchClass  the nested class of the builder that holds the columns
+     * @param memberNames names of the builder members, that the names of the other fields must not clash with
+     */
+    public static BatchColumns of(String batchClass, List<String> memberNames) {
+        var takenNames = Set.copyOf(memberNames);
+        return new BatchColumns(
+                batchClass, StringUtils.uniqueName("size", takenNames), StringUtils.uniqueName("capacity", takenNames));
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.jacopocav.builder.internal.template;
+
+import com.github.jacopocav.builder.internal.util.StringUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Variables of a builder with the binary codec, whose encoding has no member names or tags: the members are written
+ * in the order of the parameters of the creator method, after a fingerprint of their types.
+ *
+ * @param encodingClass    the nested class of the builder that reads and writes the binary encoding
+ * @param fingerprintField the public static field of the builder holding the fingerprint
+ * @param fingerprint      the FNV-1a hash of the description of the types of the members (including the constants of
+ *                         enum types, whose ordinals are written), which changes whenever the encoding does
+ */
+public record BinaryLayout(String encodingClass, String fingerprintField, int fingerprint) {
+    private static final int FNV_OFFSET_BASIS = 0x811c9dc5;
+    private static final int FNV_PRIME = 0x01000193;
+
+    /**
+     * @param encodingClass the nested class of the builder that reads and writes the binary encoding
+     * @param parameters    the parameters of the creator method, all of a type supported by the binary codec
+     * @param memberNames   names of the builder members, that the name of the fingerprint field must not clash with
+     */
+    public static BinaryLayout of(
+            String encodingClass, List<? extends VariableElement> parameters, List<String> memberNames) {
+        var schema = parameters.stream()
+                .map(parameter -> describe(parameter.asType()))
+                .collect(Collectors.joining(";", "v1;", ""));
+
+        var hash = FNV_OFFSET_BASIS;
+        for (var b : schema.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        return new BinaryLayout(
+                encodingClass, StringUtils.uniqueName("SCHEMA_FINGERPRINT", Set.copyOf(memberNames)), hash);
+    }
+
+    private static String describe(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            // type annotations are not part of the kind
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+
+        var element = (TypeElement) ((DeclaredType) type).asElement();
+        var name = element.getQualifiedName().toString();
+        if (element.getKind() != ElementKind.ENUM) {
+            return name;
+        }
+        return element.getEnclosedElements().stream()
+                .filter(enclosed -> enclosed.getKind() == ElementKind.ENUM_CONSTANT)
+                .map(constant -> constant.getSimpleName().toString())
+                .collect(Collectors.joining(",", name + "{", "}"));
+    }
+}
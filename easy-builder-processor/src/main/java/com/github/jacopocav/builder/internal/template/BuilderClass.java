@@ -0,0 +1,23 @@
+package com.github.jacopocav.builder.internal.template;
+
+import com.github.jacopocav.builder.internal.option.InterpolatedOptions;
+import com.github.jacopocav.builder.internal.type.TypeRegistry;
+import java.util.List;
+
+/**
+ * Variables of the builder class that are shared by the templates of all its parts
+ *
+ * @param typeRegistry    the types used by the builder class, and the names they are referred to with
+ * @param className       the simple name of the builder class
+ * @param targetClassName the name the class built by the builder is referred to with
+ * @param members         the builder members, in the order of the creator method
+ * @param options         the options of the builder
+ * @param stages          the stage interfaces of a staged builder, or {@code null}
+ */
+public record BuilderClass(
+        TypeRegistry typeRegistry,
+        String className,
+        String targetClassName,
+        List<Member> members,
+        InterpolatedOptions options,
+        Stages stages) {}
@@ -0,0 +1,47 @@
+package com.github.jacopocav.builder.internal.template;
+
+/**
+ * Variables of the optional features of a builder, each {@code null} (or {@code false}) if the feature is disabled
+ *
+ * @param copyOnWrite   the additional field of a builder with a copy-on-write copy factory method
+ * @param setFlags      the additional fields of a builder that keeps track of the properties set
+ * @param poolField     the static field holding the released builders, with pooled reuse
+ * @param internCache   the variables of a builder whose build method returns canonical instances
+ * @param jsonMapping   the variables of a builder with the JSON codec
+ * @param binaryLayout  the variables of a builder with the binary codec
+ * @param mapValues     the nested class that converts the values of properties set by name or bound from a row, with
+ *                      map or row binding
+ * @param mapBinding    whether properties can be set by name
+ * @param rowBinder     the nested class that binds rows, with row binding
+ * @param batchColumns  the variables of the batch builder
+ */
+public record BuilderFeatures(
+        CopyOnWrite copyOnWrite,
+        SetFlags setFlags,
+        String poolField,
+        InternCache internCache,
+        JsonMapping jsonMapping,
+        BinaryLayout binaryLayout,
+        MapValues mapValues,
+        boolean mapBinding,
+        RowBinder rowBinder,
+        BatchColumns batchColumns) {
+    /**
+     * @return these features without the copy-on-write copy factory method, and without the set flags as well if
+     * they were only needed by it (i.e. if the build method checks no member)
+     */
+    public BuilderFeatures withoutCopyOnWrite() {
+        var requiredSetFlags = setFlags == null || setFlags.requiredMasks().isEmpty() ? null : setFlags;
+        return new BuilderFeatures(
+                null,
+                requiredSetFlags,
+                poolField,
+                internCache,
+                jsonMapping,
+                binaryLayout,
+                mapValues,
+                mapBinding,
+                rowBinder,
+                batchColumns);
+    }
+}
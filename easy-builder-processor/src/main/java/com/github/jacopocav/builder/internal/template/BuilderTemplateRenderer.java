@@ -1,15 +1,17 @@
 package com.github.jacopocav.builder.internal.template;
 
 import com.github.jacopocav.builder.internal.SourceClassRetriever;
-import com.github.jacopocav.builder.internal.generation.GeneratedJavaFile;
+import com.github.jacopocav.builder.internal.bytecode.BuilderClassFileGenerator;
 import com.github.jacopocav.builder.internal.generation.name.GeneratedTypeNameGenerator;
 import com.github.jacopocav.builder.internal.option.OptionsRepository;
 import com.github.jacopocav.builder.internal.option.RawOptions;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 
 /**
- * Renders a builder source file from a jte template ({@code src/main/jte/builder.jte})
+ * Renders a builder source file from a jte template ({@code src/main/jte/builder.jte}), or compiles it directly to a
+ * class file if requested with {@link com.github.jacopocav.builder.internal.option.ProcessorOption#CLASS_FILES}.
  */
 public class BuilderTemplateRenderer {
 
@@ -17,33 +19,51 @@ public class BuilderTemplateRenderer {
     private final OptionsRepository optionsRepository;
     private final GeneratedTypeNameGenerator generatedTypeNameGenerator;
     private final JteModelCreator jteModelCreator;
+    private final BuilderClassFileGenerator classFileGenerator;
+    private final boolean classFiles;
 
     public BuilderTemplateRenderer(
             SourceClassRetriever sourceClassRetriever,
             OptionsRepository optionsRepository,
             GeneratedTypeNameGenerator generatedTypeNameGenerator,
-            JteModelCreator jteModelCreator) {
+            JteModelCreator jteModelCreator,
+            BuilderClassFileGenerator classFileGenerator,
+            boolean classFiles) {
         this.sourceClassRetriever = sourceClassRetriever;
         this.optionsRepository = optionsRepository;
         this.generatedTypeNameGenerator = generatedTypeNameGenerator;
         this.jteModelCreator = jteModelCreator;
+        this.classFileGenerator = classFileGenerator;
+        this.classFiles = classFiles;
     }
 
     /**
-     * Generates a single builder class
+     * Computes everything needed to render a single builder class, without rendering it.
+     * <p>Must be called on the compiler thread, as it reads the annotation processing model.
      *
+     * @param annotatedElement the element annotated with {@code @Builder}
      * @param creatorMethod constructor or static factory method used to build target type instances
-     * @return the declaration of a new builder class
+     * @return the builder, ready to be rendered on any thread. It is already compiled to a class file if class files
+     * were requested and the builder supports them, otherwise it is rendered from the template
      */
-    public GeneratedJavaFile render(RawOptions rawOptions, ExecutableElement creatorMethod) {
+    public RenderableBuilder prepare(Element annotatedElement, RawOptions rawOptions, ExecutableElement creatorMethod) {
         var enclosingClass = (TypeElement) creatorMethod.getEnclosingElement();
         var targetClass = sourceClassRetriever.getElement(creatorMethod);
         var interpolatedOptions = optionsRepository.getInterpolated(rawOptions, targetClass);
         var builderName = generatedTypeNameGenerator.generate(enclosingClass, interpolatedOptions.className());
 
         var builderData = new BuilderData(builderName, interpolatedOptions, creatorMethod, targetClass, enclosingClass);
+        // the template model is always created, as it also reports invalid builders
         var jteModel = jteModelCreator.create(builderData);
+        var qualifiedName = builderName.qualifiedName();
 
-        return new GeneratedJavaFile(builderName.qualifiedName(), jteModel.render());
+        if (classFiles) {
+            var classFile = classFileGenerator.generate(builderData);
+            if (classFile.isPresent()) {
+                return new RenderableBuilder.ClassFile(qualifiedName, annotatedElement, classFile.get());
+            }
+        }
+
+        return new RenderableBuilder.Template(qualifiedName, annotatedElement, jteModel);
     }
 }
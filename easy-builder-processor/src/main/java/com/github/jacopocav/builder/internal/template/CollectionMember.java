@@ -0,0 +1,127 @@
+package com.github.jacopocav.builder.internal.template;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Variables related to a builder member whose type is a {@link List}, {@link Set}, {@link Map} or an array of
+ * primitives, that can be filled one element at a time.
+ * <p>The member holds either the collection passed to its setter (or read from the source instance of a copy-on-write
+ * builder), which is never modified, or a mutable collection created by the builder, which is said to be
+ * <em>owned</em>. Owned arrays grow geometrically, so they come with a size field holding their used length.
+ *
+ * @param kind          the collection interface
+ * @param elementType   the type of the elements (of the keys, for maps; the component type, for arrays)
+ * @param valueType     the type of the values, for maps (otherwise {@code null})
+ * @param mutableType   the class of the mutable collection created by the builder (or {@code null}, for arrays)
+ * @param bulkType      the interface of the collections whose elements can be added all at once (or {@code null}, for
+ *                      arrays, whose elements are appended from a range of another array)
+ * @param ownedField    the {@code boolean} field that is {@code true} when the member holds an owned collection
+ * @param sizeField     for arrays, the {@code int} field holding the number of elements of the array that are used
+ * @param adderName     name of the method that adds (or puts) a single element
+ * @param addAllName    name of the method that adds (or puts) all the elements of another collection
+ * @param capacityName  name of the method that sizes the owned collection for an expected number of elements (or
+ *                      {@code null}, for arrays)
+ * @param mutableName   name of the private method that returns the owned collection, creating it if needed (and,
+ *                      for arrays, growing it to fit a given number of additional elements)
+ * @param immutableCopy the interface whose {@code copyOf} method creates the collection passed to the creator method,
+ *                      or {@code null} if the member is handed off without copying
+ */
+public record CollectionMember(
+        Kind kind,
+        String elementType,
+        String valueType,
+        String mutableType,
+        String bulkType,
+        String ownedField,
+        String sizeField,
+        String adderName,
+        String addAllName,
+        String capacityName,
+        String mutableName,
+        String immutableCopy) {
+
+    public enum Kind {
+        LIST(List.class, ArrayList.class, "add", 10),
+        SET(Set.class, LinkedHashSet.class, "add", 12),
+        MAP(Map.class, LinkedHashMap.class, "put", 12),
+        ARRAY(null, null, "append", 10);
+
+        private final Class<?> type;
+        private final Class<?> mutableType;
+        private final String adderPrefix;
+        private final int defaultSize;
+
+        Kind(Class<?> type, Class<?> mutableType, String adderPrefix, int defaultSize) {
+            this.type = type;
+            this.mutableType = mutableType;
+            this.adderPrefix = adderPrefix;
+            this.defaultSize = defaultSize;
+        }
+
+        /**
+         * @return the kind of {@code type}, or {@code null} if it is not an array of primitives, nor a parameterized
+         * {@link List}, {@link Set} or {@link Map} whose type arguments are not wildcards
+         */
+        public static Kind of(TypeMirror type) {
+            if (type.getKind() == TypeKind.ARRAY) {
+                return ((ArrayType) type).getComponentType().getKind().isPrimitive() ? ARRAY : null;
+            }
+            if (type.getKind() != TypeKind.DECLARED) {
+                return null;
+            }
+
+            var declaredType = (DeclaredType) type;
+            var typeArguments = declaredType.getTypeArguments();
+            if (typeArguments.isEmpty() || typeArguments.stream().anyMatch(t -> t.getKind() == TypeKind.WILDCARD)) {
+                return null;
+            }
+
+            var qualifiedName =
+                    ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+            for (var kind : List.of(LIST, SET, MAP)) {
+                if (kind.type.getName().equals(qualifiedName)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+
+        public Class<?> type() {
+            return type;
+        }
+
+        public Class<?> mutableType() {
+            return mutableType;
+        }
+
+        public String adderPrefix() {
+            return adderPrefix;
+        }
+
+        /**
+         * @return the number of elements the owned collection is sized for, when created without a capacity hint
+         * (the same as the default capacity of {@link #mutableType()})
+         */
+        public int defaultSize() {
+            return defaultSize;
+        }
+    }
+
+    public boolean isMap() {
+        return kind == Kind.MAP;
+    }
+
+    public boolean isArray() {
+        return kind == Kind.ARRAY;
+    }
+}
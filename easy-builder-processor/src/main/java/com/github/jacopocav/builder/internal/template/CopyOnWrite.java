@@ -0,0 +1,20 @@
+package com.github.jacopocav.builder.internal.template;
+
+import com.github.jacopocav.builder.internal.util.StringUtils;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Name of the additional field of a builder whose copy factory method is copy-on-write. The properties set on the
+ * builder are kept track of by its {@link SetFlags}.
+ *
+ * @param sourceField the field holding the instance passed to the copy factory method
+ */
+public record CopyOnWrite(String sourceField) {
+    /**
+     * @param memberNames names of the builder members, that the name of the additional field must not clash with
+     */
+    public static CopyOnWrite of(List<String> memberNames) {
+        return new CopyOnWrite(StringUtils.uniqueName("copySource", Set.copyOf(memberNames)));
+    }
+}
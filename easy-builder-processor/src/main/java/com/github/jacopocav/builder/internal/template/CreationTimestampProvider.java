@@ -0,0 +1,54 @@
+package com.github.jacopocav.builder.internal.template;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * Provides the creation timestamp written in the {@code @Generated} annotation of builders.
+ * <p>The timestamp is taken from the {@value #SOURCE_DATE_EPOCH} environment variable (in seconds since the epoch,
+ * see <a href="https://reproducible-builds.org/specs/source-date-epoch/">the specification</a>) if it is set.
+ * Otherwise, it is the current time, unless the output must be reproducible: in that case, no timestamp is provided.
+ */
+public class CreationTimestampProvider {
+    static final String SOURCE_DATE_EPOCH = "SOURCE_DATE_EPOCH";
+
+    private final Clock clock;
+    private final boolean reproducible;
+    private final OffsetDateTime sourceDateEpoch;
+
+    /**
+     * @param environment returns the value of an environment variable given its name, or {@code null} if not set
+     */
+    public CreationTimestampProvider(Clock clock, boolean reproducible, UnaryOperator<String> environment) {
+        this.clock = clock;
+        this.reproducible = reproducible;
+        this.sourceDateEpoch = parseSourceDateEpoch(environment.apply(SOURCE_DATE_EPOCH));
+    }
+
+    /**
+     * @return the creation timestamp of a builder, or an empty optional if it must be omitted
+     */
+    public Optional<OffsetDateTime> get() {
+        if (sourceDateEpoch != null) {
+            return Optional.of(sourceDateEpoch);
+        }
+
+        return reproducible ? Optional.empty() : Optional.of(OffsetDateTime.now(clock));
+    }
+
+    private static OffsetDateTime parseSourceDateEpoch(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Instant.ofEpochSecond(Long.parseLong(value.strip())).atOffset(ZoneOffset.UTC);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
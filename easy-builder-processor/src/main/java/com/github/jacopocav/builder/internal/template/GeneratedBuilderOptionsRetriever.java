@@ -1,31 +1,69 @@
 package com.github.jacopocav.builder.internal.template;
 
+import com.github.jacopocav.builder.annotation.Builder.BatchBuilderGeneration;
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
+import com.github.jacopocav.builder.annotation.Builder.CollectionMembers;
 import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodMode;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.MapBinding;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.RowBinding;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
+import com.github.jacopocav.builder.annotation.Builder.UnwrappedSetters;
+import com.github.jacopocav.builder.annotation.Builder.WitherMethodGeneration;
 import com.github.jacopocav.builder.internal.option.BuilderOption;
 import com.github.jacopocav.builder.internal.option.RawOptions;
+import com.github.jacopocav.builder.internal.type.TypeRegistry;
 import java.util.List;
 
 public class GeneratedBuilderOptionsRetriever {
     /**
+     * @param typeRegistry registry of the builder, where the types of enum option values are registered
      * @return effective values for all options used to generate a specific builder
      * @see com.github.jacopocav.builder.annotation.GeneratedBuilder
      */
-    public List<GeneratedBuilderOption> get(RawOptions options) {
+    public List<GeneratedBuilderOption> get(RawOptions options, TypeRegistry typeRegistry) {
         return BuilderOption.all().stream()
-                .map(option -> createOptionValue(option, options))
+                .map(option -> createOptionValue(option, options, typeRegistry))
                 .toList();
     }
 
-    private GeneratedBuilderOption createOptionValue(BuilderOption builderOption, RawOptions options) {
+    private GeneratedBuilderOption createOptionValue(
+            BuilderOption builderOption, RawOptions options, TypeRegistry typeRegistry) {
         var value =
                 switch (builderOption) {
                     case CLASS_NAME -> quote(options.className());
                     case SETTER_PREFIX -> quote(options.setterPrefix());
                     case BUILD_METHOD_NAME -> quote(options.buildMethodName());
                     case FACTORY_METHOD_NAME -> quote(options.staticFactoryName());
-                    case COPY_FACTORY_METHOD -> CopyFactoryMethodGeneration.class.getSimpleName() + "."
+                    case COPY_FACTORY_METHOD -> typeRegistry.getUsageName(CopyFactoryMethodGeneration.class) + "."
                             + options.copyFactoryMethod().name();
                     case COPY_FACTORY_METHOD_NAME -> quote(options.copyFactoryMethodName());
+                    case COPY_FACTORY_METHOD_MODE -> typeRegistry.getUsageName(CopyFactoryMethodMode.class) + "."
+                            + options.copyFactoryMethodMode().name();
+                    case REUSE -> typeRegistry.getUsageName(Reuse.class) + "." + options.reuse().name();
+                    case WITHER_METHODS -> typeRegistry.getUsageName(WitherMethodGeneration.class) + "."
+                            + options.witherMethods().name();
+                    case STAGING -> typeRegistry.getUsageName(Staging.class) + "." + options.staging().name();
+                    case COLLECTION_MEMBERS -> typeRegistry.getUsageName(CollectionMembers.class) + "."
+                            + options.collectionMembers().name();
+                    case UNWRAPPED_SETTERS -> typeRegistry.getUsageName(UnwrappedSetters.class) + "."
+                            + options.unwrappedSetters().name();
+                    case NESTED_BUILDERS -> typeRegistry.getUsageName(NestedBuilders.class) + "."
+                            + options.nestedBuilders().name();
+                    case INTERNING -> typeRegistry.getUsageName(Interning.class) + "." + options.interning().name();
+                    case JSON_CODEC -> typeRegistry.getUsageName(JsonCodec.class) + "." + options.jsonCodec().name();
+                    case BINARY_CODEC -> typeRegistry.getUsageName(BinaryCodec.class) + "."
+                            + options.binaryCodec().name();
+                    case MAP_BINDING -> typeRegistry.getUsageName(MapBinding.class) + "."
+                            + options.mapBinding().name();
+                    case ROW_BINDING -> typeRegistry.getUsageName(RowBinding.class) + "."
+                            + options.rowBinding().name();
+                    case BATCH_BUILDER -> typeRegistry.getUsageName(BatchBuilderGeneration.class) + "."
+                            + options.batchBuilder().name();
                 };
 
         return new GeneratedBuilderOption(builderOption.annotationName(), value);
@@ -0,0 +1,45 @@
+package com.github.jacopocav.builder.internal.template;
+
+import com.github.jacopocav.builder.internal.util.StringUtils;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Variables of a builder whose build method returns canonical instances, cached in a static table with a fixed
+ * number of slots. The cache is looked up by a static method of the builder, whose parameters have the names of the
+ * builder members, so that neither its local variables nor the static fields it reads must clash with them.
+ *
+ * @param slots            the number of slots of the table (a power of two)
+ * @param tableField       the static field holding the table
+ * @param hitsField        the static field counting the lookups that returned a cached instance
+ * @param missesField      the static field counting the lookups that created a new instance
+ * @param hashVariable     the local variable holding the hash of the member values
+ * @param instanceVariable the local variable holding the cached instance
+ */
+public record InternCache(
+        int slots,
+        String tableField,
+        String hitsField,
+        String missesField,
+        String hashVariable,
+        String instanceVariable) {
+    /**
+     * The number of instances cached by each builder class
+     */
+    private static final int SLOTS = 1024;
+
+    /**
+     * @param memberNames names of the builder members, that the names of the fields and local variables must not
+     *                    clash with
+     */
+    public static InternCache of(List<String> memberNames) {
+        var takenNames = Set.copyOf(memberNames);
+        return new InternCache(
+                SLOTS,
+                StringUtils.uniqueName("INTERNED", takenNames),
+                StringUtils.uniqueName("INTERN_HITS", takenNames),
+                StringUtils.uniqueName("INTERN_MISSES", takenNames),
+                StringUtils.uniqueName("hash", takenNames),
+                StringUtils.uniqueName("instance", takenNames));
+    }
+}
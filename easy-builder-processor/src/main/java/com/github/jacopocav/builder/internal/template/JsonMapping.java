@@ -0,0 +1,38 @@
+package com.github.jacopocav.builder.internal.template;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Variables of a builder with the JSON codec. Its reader dispatches the members of a JSON object on the hash code of
+ * their names, which is computed while they are parsed, so builder members whose names have the same hash code are
+ * grouped together (and told apart by comparing the names).
+ *
+ * @param parserClass the nested class of the builder that parses and writes JSON
+ */
+public record JsonMapping(String parserClass) {
+
+    /**
+     * @param members the builder members, all with {@link Member#jsonRead()} and {@link Member#jsonWrite()}
+     * @return the builder members, grouped by the {@link String#hashCode() hash code} of their names
+     */
+    public List<NameGroup> nameGroups(Collection<Member> members) {
+        var groups = new LinkedHashMap<Integer, List<Member>>();
+        for (var member : members) {
+            groups.computeIfAbsent(member.name().hashCode(), hash -> new ArrayList<>())
+                    .add(member);
+        }
+
+        return groups.entrySet().stream()
+                .map(group -> new NameGroup(group.getKey(), List.copyOf(group.getValue())))
+                .toList();
+    }
+
+    /**
+     * @param hash    the hash code of the names of the members
+     * @param members the members whose names have that hash code
+     */
+    public record NameGroup(int hash, List<Member> members) {}
+}
@@ -2,35 +2,64 @@ package com.github.jacopocav.builder.internal.template;
 
 import static javax.lang.model.element.ElementKind.METHOD;
 
+import com.github.jacopocav.builder.annotation.Builder.BatchBuilderGeneration;
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
 import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodMode;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.MapBinding;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.RowBinding;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
 import com.github.jacopocav.builder.annotation.GeneratedBuilder;
 import com.github.jacopocav.builder.internal.template.jte.Templates;
 import com.github.jacopocav.builder.internal.type.TypeRegistry;
+import com.github.jacopocav.builder.internal.util.ElementUtils;
+import com.github.jacopocav.builder.internal.util.StringUtils;
 import com.github.jacopocav.builder.processor.BuilderProcessor;
 import gg.jte.models.runtime.JteModel;
-import java.time.Clock;
-import java.time.OffsetDateTime;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
  * Creates a {@link JteModel} of the builder class, ready to be rendered with {@link JteModel#render()}
  */
 public class JteModelCreator {
-    private final Clock clock;
+    private final CreationTimestampProvider creationTimestampProvider;
     private final MembersGenerator membersGenerator;
     private final GeneratedBuilderOptionsRetriever generatedBuilderOptionsRetriever;
     private final Supplier<TypeRegistry> typeRegistryFactory;
     private final Templates templates;
 
     public JteModelCreator(
-            Clock clock,
+            CreationTimestampProvider creationTimestampProvider,
             MembersGenerator membersGenerator,
             GeneratedBuilderOptionsRetriever generatedBuilderOptionsRetriever,
             Supplier<TypeRegistry> typeRegistryFactory,
             Templates templates) {
         this.membersGenerator = membersGenerator;
-        this.clock = clock;
+        this.creationTimestampProvider = creationTimestampProvider;
         this.generatedBuilderOptionsRetriever = generatedBuilderOptionsRetriever;
         this.typeRegistryFactory = typeRegistryFactory;
         this.templates = templates;
@@ -43,14 +72,95 @@ public class JteModelCreator {
 
         var typeRegistry = typeRegistryFactory.get();
 
+        var className = builderName.simpleName();
+        var parameters = creatorMethod.getParameters();
+        var memberNames = parameters.stream()
+                .map(parameter -> parameter.getSimpleName().toString())
+                .toList();
+        var requiredMembers = new BitSet(parameters.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            requiredMembers.set(i, ElementUtils.isRequired(parameters.get(i)));
+        }
+        var stagedMembers =
+                switch (options.staging()) {
+                    case DISABLED -> new BitSet();
+                    case REQUIRED -> requiredMembers;
+                    case ALL -> allMembers(parameters.size());
+                };
+        var stageNames = options.staging() == Staging.DISABLED
+                ? List.<String>of()
+                : Stages.names(memberNames, stagedMembers, Set.of(className));
+        // the parser and encoding classes must not be obscured by a field with the same name
+        var jsonParser = options.jsonCodec() == JsonCodec.DISABLED
+                ? null
+                : StringUtils.uniqueName("JsonParser", union(memberNames, className));
+        var binaryEncoding = options.binaryCodec() == BinaryCodec.DISABLED
+                ? null
+                : StringUtils.uniqueName("BinaryEncoding", union(memberNames, className));
+        var generateMapBinding = options.mapBinding() != MapBinding.DISABLED;
+        var rowBinder = options.rowBinding() == RowBinding.DISABLED
+                ? null
+                : StringUtils.uniqueName("RowBinder", union(memberNames, className));
+        var batchColumns = options.batchBuilder() == BatchBuilderGeneration.DISABLED
+                ? null
+                : BatchColumns.of(StringUtils.uniqueName("BatchBuilder", union(memberNames, className)), memberNames);
+        // values bound from Object[] rows are converted like the ones of a map
+        var mapValues = !generateMapBinding && rowBinder == null
+                ? null
+                : StringUtils.uniqueName("MapValues", union(memberNames, className));
+        // nested types are declared first, so that they take precedence over any other type with the same simple name
+        stageNames.forEach(name -> typeRegistry.registerDeclared(name, builderName.qualifiedName() + "." + name));
+        if (jsonParser != null) {
+            typeRegistry.registerDeclared(jsonParser, builderName.qualifiedName() + "." + jsonParser);
+        }
+        if (binaryEncoding != null) {
+            typeRegistry.registerDeclared(binaryEncoding, builderName.qualifiedName() + "." + binaryEncoding);
+        }
+        if (mapValues != null) {
+            typeRegistry.registerDeclared(mapValues, builderName.qualifiedName() + "." + mapValues);
+        }
+        if (rowBinder != null) {
+            typeRegistry.registerDeclared(rowBinder, builderName.qualifiedName() + "." + rowBinder);
+        }
+        if (batchColumns != null) {
+            var batchClass = batchColumns.batchClass();
+            typeRegistry.registerDeclared(batchClass, builderName.qualifiedName() + "." + batchClass);
+        }
+        // the compiler already checks that staged members are set, unless they are read from JSON, set by name or
+        // bound from a row
+        var checkedMembers = options.staging() == Staging.DISABLED
+                ? requiredMembers
+                : jsonParser != null || mapValues != null ? stagedMembers : new BitSet();
+
         var packageName = builderName.enclosingPackage().getQualifiedName().toString();
         var processorName = BuilderProcessor.class.getName();
-        var creationTimestamp = OffsetDateTime.now(clock);
+        var creationTimestamp = creationTimestampProvider.get().orElse(null);
         var targetClassName = typeRegistry.getUsageName(builderData.targetClass());
         var enclosingClassName = typeRegistry.getUsageName(builderData.enclosingClass());
-        var generatedBuilderOptions = generatedBuilderOptionsRetriever.get(options.raw());
-        var className = builderName.simpleName();
-        var members = membersGenerator.apply(builderData, typeRegistry);
+        var generatedBuilderOptions = generatedBuilderOptionsRetriever.get(options.raw(), typeRegistry);
+        var copyOnWrite = options.copyFactoryMethodMode() == CopyFactoryMethodMode.COPY_ON_WRITE
+                        && options.copyFactoryMethod() != CopyFactoryMethodGeneration.DISABLED
+                ? CopyOnWrite.of(memberNames)
+                : null;
+        var setFlags = copyOnWrite != null || !checkedMembers.isEmpty()
+                ? SetFlags.of(memberNames, checkedMembers)
+                : null;
+        var internCache = options.interning() == Interning.DISABLED ? null : InternCache.of(memberNames);
+        var poolField =
+                options.reuse() == Reuse.POOLED ? StringUtils.uniqueName("POOL", Set.copyOf(memberNames)) : null;
+        var features = new BuilderFeatures(
+                copyOnWrite,
+                setFlags,
+                poolField,
+                internCache,
+                jsonParser == null ? null : new JsonMapping(jsonParser),
+                binaryEncoding == null ? null : BinaryLayout.of(binaryEncoding, parameters, memberNames),
+                mapValues == null ? null : new MapValues(mapValues),
+                generateMapBinding,
+                rowBinder == null ? null : new RowBinder(rowBinder),
+                batchColumns);
+        var members = membersGenerator.apply(builderData, typeRegistry, features);
+        var stages = stageNames.isEmpty() ? null : Stages.of(stageNames, members, stagedMembers);
         var staticCreatorMethod = creatorMethod.getKind() == METHOD
                 ? creatorMethod.getSimpleName().toString()
                 : "";
@@ -60,23 +170,80 @@ public class JteModelCreator {
                     case ENABLED -> true;
                     case DYNAMIC -> members.stream().map(Member::getterName).allMatch(Objects::nonNull);
                 };
+        var generateWitherMethods =
+                switch (options.witherMethods()) {
+                    case DISABLED -> false;
+                    case ENABLED -> true;
+                    case DYNAMIC -> members.stream().map(Member::getterName).allMatch(Objects::nonNull);
+                };
+        if (!generateCopyFactoryMethod) {
+            features = features.withoutCopyOnWrite();
+        }
+        var generateResetMethod = options.reuse() != Reuse.DISABLED;
 
         typeRegistry.register(GeneratedBuilder.class);
-        typeRegistry.register(CopyFactoryMethodGeneration.class);
         typeRegistry.register(javax.annotation.processing.Generated.class);
+        if (poolField != null || internCache != null) {
+            typeRegistry.register(AtomicReferenceArray.class);
+        }
+        if (internCache != null) {
+            typeRegistry.register(LongAdder.class);
+        }
+        if (features.copyOnWrite() != null) {
+            typeRegistry.register(Objects.class);
+        }
+        if (jsonParser != null) {
+            typeRegistry.register(Arrays.class);
+            typeRegistry.register(IOException.class);
+            typeRegistry.register(Reader.class);
+            typeRegistry.register(UncheckedIOException.class);
+        }
+        if (generateMapBinding) {
+            typeRegistry.register(Map.class);
+        }
+        if (rowBinder != null) {
+            typeRegistry.register(Locale.class);
+            typeRegistry.register(ResultSet.class);
+            typeRegistry.register(ResultSetMetaData.class);
+            typeRegistry.register(SQLException.class);
+        }
+        if (batchColumns != null) {
+            typeRegistry.register(Arrays.class);
+            typeRegistry.register(Consumer.class);
+            typeRegistry.register(Objects.class);
+            typeRegistry.register(Spliterator.class);
+        }
+        if (binaryEncoding != null) {
+            typeRegistry.register(ByteBuffer.class);
+            typeRegistry.register(StandardCharsets.class);
+        }
+        if (!checkedMembers.isEmpty()) {
+            typeRegistry.register(StringJoiner.class);
+        }
 
         return templates.builder(
                 packageName,
-                typeRegistry,
                 processorName,
                 creationTimestamp,
                 generatedBuilderOptions,
-                className,
-                members,
-                options,
-                targetClassName,
+                new BuilderClass(typeRegistry, className, targetClassName, members, options, stages),
                 enclosingClassName,
                 staticCreatorMethod,
-                generateCopyFactoryMethod);
+                generateCopyFactoryMethod,
+                generateWitherMethods,
+                generateResetMethod,
+                features);
+    }
+
+    private static Set<String> union(List<String> names, String name) {
+        var union = new HashSet<>(names);
+        union.add(name);
+        return union;
+    }
+
+    private static BitSet allMembers(int memberCount) {
+        var members = new BitSet(memberCount);
+        members.set(0, memberCount);
+        return members;
     }
 }
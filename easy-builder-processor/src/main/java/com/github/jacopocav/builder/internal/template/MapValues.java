@@ -0,0 +1,9 @@
+package com.github.jacopocav.builder.internal.template;
+
+/**
+ * Name of the nested class of a builder with map or row binding, which converts the values of members set by name or
+ * bound from {@code Object[]} rows to the types of the members.
+ *
+ * @param valuesClass the nested class of the builder that converts the values
+ */
+public record MapValues(String valuesClass) {}
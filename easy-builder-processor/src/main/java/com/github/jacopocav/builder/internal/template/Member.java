@@ -2,8 +2,66 @@ package com.github.jacopocav.builder.internal.template;
 
 /**
  * Variables related to a single builder "member" (i.e. property)
+ *
+ * @param witherName   name of the static with-er method of the member
+ * @param required     whether the member must be set before building
+ * @param flagsField   with {@link SetFlags}, the field holding the flag set by the setter
+ * @param flag         with {@link SetFlags}, the flag set by the setter in {@code flagsField}
+ * @param sameAsSource with a copy-on-write copy factory method, an expression that is {@code true} when the value of
+ *                     the member is identical to the one of the source instance (or {@code null}, if they can not be
+ *                     compared)
+ * @param internHash   with {@link InternCache}, an expression of the hash code of the value of the member
+ * @param internEquals with {@link InternCache}, an expression that is {@code true} when the value of the member is
+ *                     equal to the one of the cached instance
+ * @param jsonRead     with the JSON codec, an expression of the value of the member read by the JSON parser
+ * @param jsonWrite    with the JSON codec, a statement that writes the value of the member of the written instance
+ * @param binaryRead   with the binary codec, an expression of the value of the member read from the buffer
+ * @param binaryWrite  with the binary codec, a statement that writes the value of the member of the written instance
+ * @param binaryConstants with the binary codec, the static field holding the constants of an enum member (or
+ *                     {@code null}, for other types)
+ * @param mapValue     with map or row binding, an expression of the {@code value} variable converted to the type of
+ *                     the member
+ * @param rowRead      with row binding, an expression of the value of the member read from the {@code column} of the
+ *                     {@code resultSet} variable
+ * @param rowParse     with row binding, an expression of the {@code text} variable parsed as the type of the member
+ *                     (or {@code null}, if the type can not be parsed)
+ * @param batchColumn  with the batch builder, the component type of the array holding the values of the member
+ * @param batchRead    with the batch builder, an expression of the value of the member in the {@code row} of its array
+ * @param collection   with collection members enabled, the variables of a {@link java.util.List}, {@link java.util.Set},
+ *                     {@link java.util.Map} or primitive array member (or {@code null}, for other types)
+ * @param unwrapped    with unwrapped setters enabled, the variables of a primitive wrapper or optional member (or
+ *                     {@code null}, for other types)
+ * @param nested       with nested builders enabled, the variables of a member whose type has a builder (or
+ *                     {@code null}, for other types)
+ * @param buildValue   the expression passed to the creator method by the build method
  */
-public record Member(String type, String name, String setterName, String getterName) {
+public record Member(
+        String type,
+        String name,
+        String setterName,
+        String getterName,
+        String defaultValue,
+        String witherName,
+        boolean required,
+        String flagsField,
+        String flag,
+        String sameAsSource,
+        String internHash,
+        String internEquals,
+        String jsonRead,
+        String jsonWrite,
+        String binaryRead,
+        String binaryWrite,
+        String binaryConstants,
+        String mapValue,
+        String rowRead,
+        String rowParse,
+        String batchColumn,
+        String batchRead,
+        CollectionMember collection,
+        UnwrappedMember unwrapped,
+        NestedMember nested,
+        String buildValue) {
     public static Builder builder() {
         return new Builder();
     }
@@ -13,6 +71,28 @@ public record Member(String type, String name, String setterName, String getterN
         private String name;
         private String setterName;
         private String getterName;
+        private String defaultValue;
+        private String witherName;
+        private boolean required;
+        private String flagsField;
+        private String flag;
+        private String sameAsSource;
+        private String internHash;
+        private String internEquals;
+        private String jsonRead;
+        private String jsonWrite;
+        private String binaryRead;
+        private String binaryWrite;
+        private String binaryConstants;
+        private String mapValue;
+        private String rowRead;
+        private String rowParse;
+        private String batchColumn;
+        private String batchRead;
+        private CollectionMember collection;
+        private UnwrappedMember unwrapped;
+        private NestedMember nested;
+        private String buildValue;
 
         private Builder() {}
 
@@ -36,8 +116,144 @@ public record Member(String type, String name, String setterName, String getterN
             return this;
         }
 
+        public Builder withDefaultValue(String defaultValue) {
+            this.defaultValue = defaultValue;
+            return this;
+        }
+
+        public Builder withWitherName(String witherName) {
+            this.witherName = witherName;
+            return this;
+        }
+
+        public Builder withRequired(boolean required) {
+            this.required = required;
+            return this;
+        }
+
+        public Builder withFlagsField(String flagsField) {
+            this.flagsField = flagsField;
+            return this;
+        }
+
+        public Builder withFlag(String flag) {
+            this.flag = flag;
+            return this;
+        }
+
+        public Builder withSameAsSource(String sameAsSource) {
+            this.sameAsSource = sameAsSource;
+            return this;
+        }
+
+        public Builder withInternHash(String internHash) {
+            this.internHash = internHash;
+            return this;
+        }
+
+        public Builder withInternEquals(String internEquals) {
+            this.internEquals = internEquals;
+            return this;
+        }
+
+        public Builder withJsonRead(String jsonRead) {
+            this.jsonRead = jsonRead;
+            return this;
+        }
+
+        public Builder withJsonWrite(String jsonWrite) {
+            this.jsonWrite = jsonWrite;
+            return this;
+        }
+
+        public Builder withBinaryRead(String binaryRead) {
+            this.binaryRead = binaryRead;
+            return this;
+        }
+
+        public Builder withBinaryWrite(String binaryWrite) {
+            this.binaryWrite = binaryWrite;
+            return this;
+        }
+
+        public Builder withBinaryConstants(String binaryConstants) {
+            this.binaryConstants = binaryConstants;
+            return this;
+        }
+
+        public Builder withMapValue(String mapValue) {
+            this.mapValue = mapValue;
+            return this;
+        }
+
+        public Builder withRowRead(String rowRead) {
+            this.rowRead = rowRead;
+            return this;
+        }
+
+        public Builder withRowParse(String rowParse) {
+            this.rowParse = rowParse;
+            return this;
+        }
+
+        public Builder withBatchColumn(String batchColumn) {
+            this.batchColumn = batchColumn;
+            return this;
+        }
+
+        public Builder withBatchRead(String batchRead) {
+            this.batchRead = batchRead;
+            return this;
+        }
+
+        public Builder withCollection(CollectionMember collection) {
+            this.collection = collection;
+            return this;
+        }
+
+        public Builder withUnwrapped(UnwrappedMember unwrapped) {
+            this.unwrapped = unwrapped;
+            return this;
+        }
+
+        public Builder withNested(NestedMember nested) {
+            this.nested = nested;
+            return this;
+        }
+
+        public Builder withBuildValue(String buildValue) {
+            this.buildValue = buildValue;
+            return this;
+        }
+
         public Member build() {
-            return new Member(type, name, setterName, getterName);
+            return new Member(
+                    type,
+                    name,
+                    setterName,
+                    getterName,
+                    defaultValue,
+                    witherName,
+                    required,
+                    flagsField,
+                    flag,
+                    sameAsSource,
+                    internHash,
+                    internEquals,
+                    jsonRead,
+                    jsonWrite,
+                    binaryRead,
+                    binaryWrite,
+                    binaryConstants,
+                    mapValue,
+                    rowRead,
+                    rowParse,
+                    batchColumn,
+                    batchRead,
+                    collection,
+                    unwrapped,
+                    nested,
+                    buildValue);
         }
     }
 }
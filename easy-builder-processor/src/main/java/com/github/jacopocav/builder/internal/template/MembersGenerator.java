@@ -4,24 +4,57 @@ import static com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodG
 import static com.github.jacopocav.builder.internal.error.AggregatedProcessingException.processingExceptions;
 import static com.github.jacopocav.builder.internal.error.ProcessingException.processingException;
 import static java.util.stream.Collectors.partitioningBy;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 import static javax.lang.model.element.ElementKind.METHOD;
 
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
+import com.github.jacopocav.builder.annotation.Builder.CollectionMembers;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
+import com.github.jacopocav.builder.annotation.Builder.UnwrappedSetters;
+import com.github.jacopocav.builder.annotation.Builder.WitherMethodGeneration;
 import com.github.jacopocav.builder.internal.error.ProcessingException;
 import com.github.jacopocav.builder.internal.finder.Accessor.Found;
 import com.github.jacopocav.builder.internal.finder.Accessor.NotFound;
 import com.github.jacopocav.builder.internal.finder.AccessorFinder;
+import com.github.jacopocav.builder.internal.finder.NestedBuilder;
+import com.github.jacopocav.builder.internal.finder.NestedBuilderFinder;
 import com.github.jacopocav.builder.internal.option.BuilderOption;
 import com.github.jacopocav.builder.internal.option.InterpolatedOptions;
 import com.github.jacopocav.builder.internal.type.TypeRegistry;
+import com.github.jacopocav.builder.internal.util.ElementUtils;
 import com.github.jacopocav.builder.internal.util.StringUtils;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
 
 public class MembersGenerator {
     private final AccessorFinder accessorFinder;
+    private final NestedBuilderFinder nestedBuilderFinder;
+    private final Types types;
 
-    public MembersGenerator(AccessorFinder accessorFinder) {
+    public MembersGenerator(AccessorFinder accessorFinder, NestedBuilderFinder nestedBuilderFinder, Types types) {
         this.accessorFinder = accessorFinder;
+        this.nestedBuilderFinder = nestedBuilderFinder;
+        this.types = types;
     }
 
     /**
@@ -29,11 +62,22 @@ public class MembersGenerator {
      * will be used in the builder template to generate multiple parts of the builder class
      * (i.e. the private fields, the setters, etc.).
      *
+     * @param features the optional features of the builder, that add some variables to its members
      * @return list of all template context objects related to the parameters in {@code creatorMethod}
      */
-    public List<Member> apply(BuilderData builderData, TypeRegistry typeRegistry) {
-        var partitionedResults = builderData.creatorMethod().getParameters().stream()
-                .map(param -> toMember(param, typeRegistry, builderData.options()))
+    public List<Member> apply(BuilderData builderData, TypeRegistry typeRegistry, BuilderFeatures features) {
+        var parameters = builderData.creatorMethod().getParameters();
+        var memberNames = parameters.stream()
+                .map(parameter -> parameter.getSimpleName().toString())
+                .collect(toUnmodifiableSet());
+        var partitionedResults = IntStream.range(0, parameters.size())
+                .mapToObj(i -> toMember(
+                        parameters.get(i),
+                        i,
+                        typeRegistry,
+                        builderData.options(),
+                        features,
+                        memberNames))
                 .collect(partitioningBy(MemberResult.Success.class::isInstance));
         var successes = partitionedResults.get(true);
         var failures = partitionedResults.get(false);
@@ -46,45 +90,656 @@ public class MembersGenerator {
                 .toList();
     }
 
-    private MemberResult toMember(VariableElement parameter, TypeRegistry typeRegistry, InterpolatedOptions options) {
+    private MemberResult toMember(
+            VariableElement parameter,
+            int index,
+            TypeRegistry typeRegistry,
+            InterpolatedOptions options,
+            BuilderFeatures features,
+            Set<String> memberNames) {
+        var copyOnWrite = features.copyOnWrite();
+        var setFlags = features.setFlags();
+        var internCache = features.internCache();
+        var jsonParser = features.jsonMapping() == null ? null : features.jsonMapping().parserClass();
+        var binaryEncoding = features.binaryLayout() == null ? null : features.binaryLayout().encodingClass();
+        var mapValues = features.mapValues() == null ? null : features.mapValues().valuesClass();
+        var rowBinder = features.rowBinder() == null ? null : features.rowBinder().binderClass();
+        var batchColumns = features.batchColumns();
         var name = parameter.getSimpleName().toString();
         var memberBuilder = Member.builder()
                 .withType(typeRegistry.getUsageName(parameter.asType()))
                 .withName(name)
-                .withSetterName(StringUtils.composeSetterName(options.setterPrefix(), name));
+                .withSetterName(StringUtils.composeSetterName(options.setterPrefix(), name))
+                .withDefaultValue(defaultValueOf(parameter.asType()))
+                .withWitherName(StringUtils.composeSetterName("with", name))
+                // members of a builder with all stages are required, when checked by the build method
+                .withRequired(ElementUtils.isRequired(parameter) || options.staging() == Staging.ALL)
+                .withBuildValue(name);
+
+        if (setFlags != null) {
+            memberBuilder.withFlagsField(setFlags.flagsField(index)).withFlag(setFlags.flag(index));
+        }
+
+        var collectionKind = options.collectionMembers() == CollectionMembers.DISABLED
+                ? null
+                : CollectionMember.Kind.of(parameter.asType());
+        if (collectionKind != null) {
+            var collection = collectionMember(parameter, collectionKind, typeRegistry, options, memberNames);
+            memberBuilder.withCollection(collection);
+            if (collection.isArray()) {
+                // the array is handed off as it is, unless it has some unused elements
+                memberBuilder.withBuildValue("%1$s == null || %2$s == %1$s.length ? %1$s : %3$s.copyOf(%1$s, %2$s)"
+                        .formatted(name, collection.sizeField(), typeRegistry.getUsageName(Arrays.class)));
+            } else if (collection.immutableCopy() != null) {
+                memberBuilder.withBuildValue(
+                        "%1$s == null ? null : %2$s.copyOf(%1$s)".formatted(name, collection.immutableCopy()));
+            }
+        }
+
+        var unwrappedKind = options.unwrappedSetters() == UnwrappedSetters.DISABLED
+                ? null
+                : UnwrappedMember.Kind.of(parameter.asType());
+        var unwrapped = unwrappedKind == null
+                ? null
+                : unwrappedMember(parameter, unwrappedKind, typeRegistry, memberNames);
+        if (unwrapped != null) {
+            // the unwrapped value is wrapped only if it was set after the wrapped one
+            memberBuilder
+                    .withUnwrapped(unwrapped)
+                    .withBuildValue("%s ? %s.%s(%s) : %s"
+                            .formatted(
+                                    unwrapped.unwrappedField(),
+                                    typeRegistry.getUsageName(
+                                            (TypeElement) ((DeclaredType) parameter.asType()).asElement()),
+                                    unwrappedKind.wrapMethod(),
+                                    unwrapped.valueField(),
+                                    name));
+        }
+
+        var nested = options.nestedBuilders() == NestedBuilders.DISABLED
+                ? null
+                : nestedBuilderFinder
+                        .find(parameter)
+                        .map(builder -> nestedMember(parameter, builder, typeRegistry, memberNames))
+                        .orElse(null);
+        if (nested != null) {
+            // the nested object is built only if the nested builder was configured after the member was set
+            memberBuilder
+                    .withNested(nested)
+                    .withBuildValue("%s ? %s.%s() : %s"
+                            .formatted(nested.nestedField(), nested.builderField(), nested.buildMethodName(), name));
+        }
+
+        if (jsonParser != null) {
+            var jsonRead = jsonRead(parameter.asType(), typeRegistry);
+            if (jsonRead == null) {
+                return codecTypeNotSupported(parameter, "JSON codec", BuilderOption.JSON_CODEC, JsonCodec.DISABLED);
+            }
+            memberBuilder.withJsonRead(jsonRead);
+        }
+        if (binaryEncoding != null) {
+            var binaryConstants =
+                    isEnum(parameter.asType()) ? StringUtils.uniqueName(name + "Constants", memberNames) : null;
+            var binaryRead = binaryRead(parameter.asType(), binaryEncoding, binaryConstants);
+            if (binaryRead == null) {
+                return codecTypeNotSupported(
+                        parameter, "binary codec", BuilderOption.BINARY_CODEC, BinaryCodec.DISABLED);
+            }
+            memberBuilder.withBinaryRead(binaryRead).withBinaryConstants(binaryConstants);
+        }
+        if (mapValues != null) {
+            memberBuilder.withMapValue(mapValue(parameter.asType(), name, mapValues, typeRegistry));
+        }
+        if (rowBinder != null) {
+            memberBuilder
+                    .withRowRead(rowRead(parameter.asType(), name, rowBinder, typeRegistry))
+                    .withRowParse(rowParse(parameter.asType(), name, rowBinder, typeRegistry));
+        }
+        if (batchColumns != null) {
+            // values of primitive members are not boxed, the others are cast back to the type of the member
+            var type = parameter.asType();
+            var primitive = type.getKind().isPrimitive();
+            memberBuilder
+                    .withBatchColumn(primitive ? typeName(type.getKind()) : "Object")
+                    .withBatchRead(
+                            primitive
+                                    ? "this.%s[row]".formatted(name)
+                                    : "(%s) this.%s[row]".formatted(typeRegistry.getUsageName(type), name));
+        }
 
         var copyFactoryMethodGeneration = options.copyFactoryMethod();
+        var witherMethodGeneration = options.witherMethods();
 
-        if (copyFactoryMethodGeneration == DISABLED) {
+        if (copyFactoryMethodGeneration == DISABLED
+                && witherMethodGeneration == WitherMethodGeneration.DISABLED
+                && internCache == null
+                && jsonParser == null
+                && binaryEncoding == null) {
             return new MemberResult.Success(memberBuilder.build());
         }
 
         var accessorResult = accessorFinder.apply(parameter);
 
         if (accessorResult instanceof NotFound) {
-            return copyFactoryMethodGeneration == ENABLED
-                    ? new MemberResult.Failure(
-                            parameter,
-                            processingException(
-                                    parameter,
-                                    "could not find any accessor (getter or field) for parameter %s. "
-                                            + "Add it or disable static copy method generation with %s=%s or %s=%s",
-                                    parameter.getSimpleName(),
-                                    BuilderOption.COPY_FACTORY_METHOD.annotationName(),
-                                    DISABLED,
-                                    BuilderOption.COPY_FACTORY_METHOD.annotationName(),
-                                    DYNAMIC))
-                    : new MemberResult.Success(memberBuilder.build());
+            if (copyFactoryMethodGeneration == ENABLED) {
+                return accessorNotFound(parameter, "static copy method", BuilderOption.COPY_FACTORY_METHOD);
+            }
+            if (witherMethodGeneration == WitherMethodGeneration.ENABLED) {
+                return accessorNotFound(parameter, "with-er method", BuilderOption.WITHER_METHODS);
+            }
+            if (internCache != null) {
+                return internAccessorNotFound(parameter, "for");
+            }
+            if (jsonParser != null) {
+                return codecAccessorNotFound(parameter, "JSON codec", BuilderOption.JSON_CODEC, JsonCodec.DISABLED);
+            }
+            if (binaryEncoding != null) {
+                return codecAccessorNotFound(
+                        parameter, "binary codec", BuilderOption.BINARY_CODEC, BinaryCodec.DISABLED);
+            }
+            return new MemberResult.Success(memberBuilder.build());
         }
 
         var accessor = ((Found) accessorResult).accessor();
         var suffix = accessor.getKind() == METHOD ? "()" : "";
+        var getterName = accessor.getSimpleName().toString() + suffix;
 
-        memberBuilder.withGetterName(accessor.getSimpleName().toString() + suffix);
+        memberBuilder.withGetterName(getterName);
+
+        if (copyOnWrite != null) {
+            var sameAsSource =
+                    sameAsSource(parameter, accessor, copyOnWrite.sourceField() + "." + getterName, typeRegistry);
+            // values set through the unwrapped setter or built by a nested builder are not compared with the ones of
+            // the source instance
+            if (sameAsSource != null && unwrapped != null) {
+                sameAsSource = "!" + unwrapped.unwrappedField() + " && " + sameAsSource;
+            }
+            if (sameAsSource != null && nested != null) {
+                sameAsSource = "!" + nested.nestedField() + " && " + sameAsSource;
+            }
+            memberBuilder.withSameAsSource(sameAsSource);
+        }
+        if (internCache != null) {
+            // values are hashed according to the type of the member, so they must be compared as such
+            if (!types.isSameType(parameter.asType(), accessorType(accessor))) {
+                return internAccessorNotFound(parameter, "of the same type as");
+            }
+            var internedValue = internCache.instanceVariable() + "." + getterName;
+            memberBuilder
+                    .withInternHash(hashOf(parameter, typeRegistry))
+                    .withInternEquals(equalTo(parameter, internedValue, typeRegistry));
+        }
+        if (jsonParser != null) {
+            // values are written according to the type of the member, so that they can be read back
+            if (!types.isSameType(parameter.asType(), accessorType(accessor))) {
+                return codecAccessorNotFound(parameter, "JSON codec", BuilderOption.JSON_CODEC, JsonCodec.DISABLED);
+            }
+            memberBuilder.withJsonWrite(jsonWrite(parameter.asType(), "value." + getterName, jsonParser));
+        }
+        if (binaryEncoding != null) {
+            if (!types.isSameType(parameter.asType(), accessorType(accessor))) {
+                return codecAccessorNotFound(
+                        parameter, "binary codec", BuilderOption.BINARY_CODEC, BinaryCodec.DISABLED);
+            }
+            memberBuilder.withBinaryWrite(binaryWrite(parameter.asType(), "value." + getterName, binaryEncoding));
+        }
 
         return new MemberResult.Success(memberBuilder.build());
     }
 
+    private static CollectionMember collectionMember(
+            VariableElement parameter,
+            CollectionMember.Kind kind,
+            TypeRegistry typeRegistry,
+            InterpolatedOptions options,
+            Set<String> memberNames) {
+        var name = parameter.getSimpleName().toString();
+        var capitalizedName = StringUtils.capitalize(name);
+        var adderName = kind.adderPrefix() + StringUtils.capitalize(StringUtils.singularize(name));
+        var ownedField = StringUtils.uniqueName(name + "Owned", memberNames);
+        var mutableName = StringUtils.uniqueName("mutable" + capitalizedName, memberNames);
+
+        if (kind == CollectionMember.Kind.ARRAY) {
+            return new CollectionMember(
+                    kind,
+                    typeRegistry.getUsageName(((ArrayType) parameter.asType()).getComponentType()),
+                    null,
+                    null,
+                    null,
+                    ownedField,
+                    StringUtils.uniqueName(name + "Size", memberNames),
+                    adderName,
+                    kind.adderPrefix() + capitalizedName,
+                    null,
+                    mutableName,
+                    null);
+        }
+
+        var typeArguments = ((DeclaredType) parameter.asType()).getTypeArguments();
+
+        return new CollectionMember(
+                kind,
+                typeRegistry.getUsageName(typeArguments.get(0)),
+                kind == CollectionMember.Kind.MAP ? typeRegistry.getUsageName(typeArguments.get(1)) : null,
+                typeRegistry.getUsageName(kind.mutableType()),
+                typeRegistry.getUsageName(kind == CollectionMember.Kind.MAP ? Map.class : Collection.class),
+                ownedField,
+                null,
+                adderName,
+                kind.adderPrefix() + "All" + capitalizedName,
+                StringUtils.uniqueName("ensure" + capitalizedName + "Capacity", memberNames),
+                mutableName,
+                options.collectionMembers() == CollectionMembers.IMMUTABLE_COPY
+                        ? typeRegistry.getUsageName(kind.type())
+                        : null);
+    }
+
+    private UnwrappedMember unwrappedMember(
+            VariableElement parameter,
+            UnwrappedMember.Kind kind,
+            TypeRegistry typeRegistry,
+            Set<String> memberNames) {
+        var name = parameter.getSimpleName().toString();
+        var unwrappedType = kind.unwrappedType((DeclaredType) parameter.asType(), types);
+
+        return new UnwrappedMember(
+                kind,
+                typeRegistry.getUsageName(unwrappedType),
+                StringUtils.uniqueName(name + "Value", memberNames),
+                StringUtils.uniqueName(name + "Unwrapped", memberNames),
+                defaultValueOf(unwrappedType));
+    }
+
+    private static NestedMember nestedMember(
+            VariableElement parameter, NestedBuilder builder, TypeRegistry typeRegistry, Set<String> memberNames) {
+        var name = parameter.getSimpleName().toString();
+        var builderType = typeRegistry.getUsageName(builder.simpleName(), builder.qualifiedName());
+
+        return new NestedMember(
+                builderType,
+                typeRegistry.getUsageName(Consumer.class) + "<" + builderType + ">",
+                builder.factoryMethodName(),
+                builder.buildMethodName(),
+                builder.resettable(),
+                StringUtils.uniqueName(name + "Builder", memberNames),
+                StringUtils.uniqueName(name + "Nested", memberNames));
+    }
+
+    private static MemberResult accessorNotFound(
+            VariableElement parameter, String generatedMethods, BuilderOption generationOption) {
+        return new MemberResult.Failure(
+                parameter,
+                processingException(
+                        parameter,
+                        "could not find any accessor (getter or field) for parameter %s. "
+                                + "Add it or disable %s generation with %s=%s or %s=%s",
+                        parameter.getSimpleName(),
+                        generatedMethods,
+                        generationOption.annotationName(),
+                        DISABLED,
+                        generationOption.annotationName(),
+                        DYNAMIC));
+    }
+
+    private static MemberResult internAccessorNotFound(VariableElement parameter, String relation) {
+        return new MemberResult.Failure(
+                parameter,
+                processingException(
+                        parameter,
+                        "could not find any accessor (getter or field) %s parameter %s. "
+                                + "Add it or disable interning with %s=%s",
+                        relation,
+                        parameter.getSimpleName(),
+                        BuilderOption.INTERNING.annotationName(),
+                        Interning.DISABLED));
+    }
+
+    private static MemberResult codecAccessorNotFound(
+            VariableElement parameter, String codec, BuilderOption codecOption, Enum<?> disabledValue) {
+        return new MemberResult.Failure(
+                parameter,
+                processingException(
+                        parameter,
+                        "could not find any accessor (getter or field) of the same type as parameter %s. "
+                                + "Add it or disable the %s with %s=%s",
+                        parameter.getSimpleName(),
+                        codec,
+                        codecOption.annotationName(),
+                        disabledValue));
+    }
+
+    private static MemberResult codecTypeNotSupported(
+            VariableElement parameter, String codec, BuilderOption codecOption, Enum<?> disabledValue) {
+        return new MemberResult.Failure(
+                parameter,
+                processingException(
+                        parameter,
+                        "type %s of parameter %s is not supported by the %s. Change it or disable the %s with %s=%s",
+                        parameter.asType(),
+                        parameter.getSimpleName(),
+                        codec,
+                        codec,
+                        codecOption.annotationName(),
+                        disabledValue));
+    }
+
+    /**
+     * @return an expression that is {@code true} if the builder field of {@code parameter} is identical to
+     * {@code sourceValue} (i.e. the same reference or the same primitive value, including the sign of zero and the
+     * payload of {@code NaN}), or {@code null} if {@code accessor} has a different type than {@code parameter}
+     */
+    private String sameAsSource(
+            VariableElement parameter, Element accessor, String sourceValue, TypeRegistry typeRegistry) {
+        var type = parameter.asType();
+        var accessorType = accessorType(accessor);
+
+        if (!types.isSameType(type, accessorType)) {
+            return null;
+        }
+
+        var name = parameter.getSimpleName();
+        return switch (type.getKind()) {
+            case FLOAT -> "%1$s.floatToRawIntBits(%2$s) == %1$s.floatToRawIntBits(%3$s)"
+                    .formatted(typeRegistry.getUsageName(Float.class), name, sourceValue);
+            case DOUBLE -> "%1$s.doubleToRawLongBits(%2$s) == %1$s.doubleToRawLongBits(%3$s)"
+                    .formatted(typeRegistry.getUsageName(Double.class), name, sourceValue);
+            default -> name + " == " + sourceValue;
+        };
+    }
+
+    /**
+     * @return an expression of the hash code of the value of {@code parameter}, consistent with
+     * {@link #equalTo(VariableElement, String, TypeRegistry)}
+     */
+    private static String hashOf(VariableElement parameter, TypeRegistry typeRegistry) {
+        var hashedType =
+                switch (parameter.asType().getKind()) {
+                    case BOOLEAN -> Boolean.class;
+                    case BYTE -> Byte.class;
+                    case SHORT -> Short.class;
+                    case CHAR -> Character.class;
+                    case INT -> Integer.class;
+                    case LONG -> Long.class;
+                    case FLOAT -> Float.class;
+                    case DOUBLE -> Double.class;
+                    default -> Objects.class;
+                };
+        return "%s.hashCode(%s)".formatted(typeRegistry.getUsageName(hashedType), parameter.getSimpleName());
+    }
+
+    /**
+     * @return an expression that is {@code true} if the value of {@code parameter} is equal to {@code otherValue},
+     * like the {@code equals} method of a record: {@link Objects#equals(Object, Object)} for references, and the
+     * {@code compare} method of the wrapper class for primitives (which only differs from {@code ==} for
+     * {@code float} and {@code double}). {@code otherValue} must have the same type as {@code parameter}.
+     */
+    private static String equalTo(VariableElement parameter, String otherValue, TypeRegistry typeRegistry) {
+        var type = parameter.asType();
+
+        var name = parameter.getSimpleName();
+        if (!type.getKind().isPrimitive()) {
+            return "%s.equals(%s, %s)".formatted(typeRegistry.getUsageName(Objects.class), name, otherValue);
+        }
+        return switch (type.getKind()) {
+            case FLOAT -> "%s.compare(%s, %s) == 0".formatted(typeRegistry.getUsageName(Float.class), name, otherValue);
+            case DOUBLE -> "%s.compare(%s, %s) == 0"
+                    .formatted(typeRegistry.getUsageName(Double.class), name, otherValue);
+            default -> name + " == " + otherValue;
+        };
+    }
+
+    /**
+     * @return an expression of a value of {@code type} read by the {@code parser} variable, or {@code null} if
+     * {@code type} is not supported by the JSON codec (i.e. it is not a primitive, a primitive wrapper, a
+     * {@link String} or an enum)
+     */
+    private String jsonRead(TypeMirror type, TypeRegistry typeRegistry) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "parser.readBoolean()";
+            case BYTE -> readLong("byte", Byte.class, typeRegistry);
+            case SHORT -> readLong("short", Short.class, typeRegistry);
+            case CHAR -> "parser.readChar()";
+            case INT -> readLong("int", Integer.class, typeRegistry);
+            case LONG -> readLong("long", Long.class, typeRegistry);
+            case FLOAT -> "parser.readFloat()";
+            case DOUBLE -> "parser.readDouble()";
+            case DECLARED -> {
+                if (isEnum(type)) {
+                    yield "parser.readNull() ? null : %s.valueOf(parser.readString())"
+                            .formatted(typeRegistry.getUsageName(type));
+                }
+                if (isString(type)) {
+                    yield "parser.readString()";
+                }
+                if (UnwrappedMember.Kind.of(type) == UnwrappedMember.Kind.BOXED) {
+                    yield "parser.readNull() ? null : " + jsonRead(types.unboxedType(type), typeRegistry);
+                }
+                yield null;
+            }
+            default -> null;
+        };
+    }
+
+    private static String readLong(String type, Class<?> boxedType, TypeRegistry typeRegistry) {
+        var cast = type.equals("long") ? "" : "(" + type + ") ";
+        return "%sparser.readLong(%2$s.MIN_VALUE, %2$s.MAX_VALUE)"
+                .formatted(cast, typeRegistry.getUsageName(boxedType));
+    }
+
+    /**
+     * @return a statement (without the trailing semicolon) that writes {@code value}, of type {@code type}, to the
+     * {@code out} variable
+     */
+    private static String jsonWrite(TypeMirror type, String value, String jsonParser) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "out.append(%s ? \"true\" : \"false\")".formatted(value);
+            case BYTE, SHORT, INT, LONG -> "%s.writeLong(out, %s)".formatted(jsonParser, value);
+            case CHAR -> "%s.writeString(out, String.valueOf(%s))".formatted(jsonParser, value);
+            case FLOAT -> "%s.writeFloat(out, %s)".formatted(jsonParser, value);
+            case DOUBLE -> "%s.writeDouble(out, %s)".formatted(jsonParser, value);
+            default -> "%s.writeValue(out, %s)".formatted(jsonParser, value);
+        };
+    }
+
+    /**
+     * @return an expression of a value of {@code type} read from the {@code buffer} variable, or {@code null} if
+     * {@code type} is not supported by the binary codec (i.e. it is not a primitive, a primitive wrapper, a
+     * {@link String} or an enum, whose constants are in the static field {@code enumConstants})
+     */
+    private String binaryRead(TypeMirror type, String binaryEncoding, String enumConstants) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "buffer.get() != 0";
+            case BYTE -> "buffer.get()";
+            case SHORT -> "(short) %s.readInt(buffer)".formatted(binaryEncoding);
+            case CHAR -> "(char) %s.readUnsignedInt(buffer)".formatted(binaryEncoding);
+            case INT -> "%s.readInt(buffer)".formatted(binaryEncoding);
+            case LONG -> "%s.readLong(buffer)".formatted(binaryEncoding);
+            case FLOAT -> "buffer.getFloat()";
+            case DOUBLE -> "buffer.getDouble()";
+            case DECLARED -> {
+                if (isEnum(type)) {
+                    yield "%s.readEnum(buffer, %s)".formatted(binaryEncoding, enumConstants);
+                }
+                if (isString(type)) {
+                    yield "%s.readString(buffer)".formatted(binaryEncoding);
+                }
+                if (UnwrappedMember.Kind.of(type) == UnwrappedMember.Kind.BOXED) {
+                    // a presence byte precedes the value
+                    yield "buffer.get() == 0 ? null : "
+                            + binaryRead(types.unboxedType(type), binaryEncoding, enumConstants);
+                }
+                yield null;
+            }
+            default -> null;
+        };
+    }
+
+    /**
+     * @return a statement (without the trailing semicolon) that writes {@code value}, of type {@code type}, to the
+     * {@code buffer} variable
+     */
+    private static String binaryWrite(TypeMirror type, String value, String binaryEncoding) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "buffer.put((byte) (%s ? 1 : 0))".formatted(value);
+            case BYTE -> "buffer.put(%s)".formatted(value);
+            case SHORT, INT -> "%s.writeInt(buffer, %s)".formatted(binaryEncoding, value);
+            case CHAR -> "%s.writeUnsignedInt(buffer, %s)".formatted(binaryEncoding, value);
+            case LONG -> "%s.writeLong(buffer, %s)".formatted(binaryEncoding, value);
+            case FLOAT -> "buffer.putFloat(%s)".formatted(value);
+            case DOUBLE -> "buffer.putDouble(%s)".formatted(value);
+            default -> {
+                if (isEnum(type)) {
+                    yield "%s.writeEnum(buffer, %s)".formatted(binaryEncoding, value);
+                }
+                if (isString(type)) {
+                    yield "%s.writeString(buffer, %s)".formatted(binaryEncoding, value);
+                }
+                yield "%s.writeNullable(buffer, %s)".formatted(binaryEncoding, value);
+            }
+        };
+    }
+
+    /**
+     * @return an expression of the {@code value} variable converted to {@code type}, by the methods of the
+     * {@code mapValues} class that throw an exception naming the property {@code name} if it can not be converted
+     */
+    private String mapValue(TypeMirror type, String name, String mapValues, TypeRegistry typeRegistry) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "%s.toBoolean(\"%s\", value)".formatted(mapValues, name);
+            case BYTE -> toLong("byte", Byte.class, name, mapValues, typeRegistry);
+            case SHORT -> toLong("short", Short.class, name, mapValues, typeRegistry);
+            case CHAR -> "%s.toChar(\"%s\", value)".formatted(mapValues, name);
+            case INT -> toLong("int", Integer.class, name, mapValues, typeRegistry);
+            case LONG -> toLong("long", Long.class, name, mapValues, typeRegistry);
+            case FLOAT -> "%s.toFloat(\"%s\", value)".formatted(mapValues, name);
+            case DOUBLE -> "%s.toDouble(\"%s\", value)".formatted(mapValues, name);
+            default -> {
+                if (UnwrappedMember.Kind.of(type) == UnwrappedMember.Kind.BOXED) {
+                    yield "value == null ? null : "
+                            + mapValue(types.unboxedType(type), name, mapValues, typeRegistry);
+                }
+                yield "%s.cast(\"%s\", value, %s.class)"
+                        .formatted(mapValues, name, typeRegistry.getUsageName(types.erasure(type)));
+            }
+        };
+    }
+
+    private static String toLong(
+            String type, Class<?> boxedType, String name, String mapValues, TypeRegistry typeRegistry) {
+        var cast = type.equals("long") ? "" : "(" + type + ") ";
+        return "%s%s.toLong(\"%s\", value, %4$s.MIN_VALUE, %4$s.MAX_VALUE)"
+                .formatted(cast, mapValues, name, typeRegistry.getUsageName(boxedType));
+    }
+
+    /**
+     * @return an expression of the value of {@code type} read from the {@code column} of the {@code resultSet}
+     * variable, with the getter of the primitive type, if any (whose SQL {@code NULL} is zero), followed by
+     * {@code wasNull()} for primitive wrappers
+     */
+    private String rowRead(TypeMirror type, String name, String rowBinder, TypeRegistry typeRegistry) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "resultSet.getBoolean(column)";
+            case BYTE -> "resultSet.getByte(column)";
+            case SHORT -> "resultSet.getShort(column)";
+            case CHAR -> "%s.getChar(\"%s\", resultSet, column)".formatted(rowBinder, name);
+            case INT -> "resultSet.getInt(column)";
+            case LONG -> "resultSet.getLong(column)";
+            case FLOAT -> "resultSet.getFloat(column)";
+            case DOUBLE -> "resultSet.getDouble(column)";
+            default -> {
+                if (isEnum(type)) {
+                    yield "%s.parseEnum(\"%s\", resultSet.getString(column), %s.class)"
+                            .formatted(rowBinder, name, typeRegistry.getUsageName(type));
+                }
+                if (isString(type)) {
+                    yield "resultSet.getString(column)";
+                }
+                if (UnwrappedMember.Kind.of(type) == UnwrappedMember.Kind.BOXED) {
+                    var unboxedKind = types.unboxedType(type).getKind();
+                    yield unboxedKind == TypeKind.CHAR
+                            ? "%s.getCharacter(\"%s\", resultSet, column)".formatted(rowBinder, name)
+                            : "%s.getNullable%s(resultSet, column)"
+                                    .formatted(rowBinder, StringUtils.capitalize(typeName(unboxedKind)));
+                }
+                yield "%s.getObject(resultSet, column, %s.class)"
+                        .formatted(rowBinder, typeRegistry.getUsageName(types.erasure(type)));
+            }
+        };
+    }
+
+    /**
+     * @return an expression of the {@code text} variable parsed as a value of {@code type}, or {@code null} if
+     * {@code type} can not be parsed (i.e. it is not a primitive, a primitive wrapper, a {@link String} or an enum)
+     */
+    private String rowParse(TypeMirror type, String name, String rowBinder, TypeRegistry typeRegistry) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "%s.parseBoolean(\"%s\", text)".formatted(rowBinder, name);
+            case BYTE -> parseLong("byte", Byte.class, name, rowBinder, typeRegistry);
+            case SHORT -> parseLong("short", Short.class, name, rowBinder, typeRegistry);
+            case CHAR -> "%s.parseChar(\"%s\", text)".formatted(rowBinder, name);
+            case INT -> parseLong("int", Integer.class, name, rowBinder, typeRegistry);
+            case LONG -> parseLong("long", Long.class, name, rowBinder, typeRegistry);
+            case FLOAT -> "%s.parseFloat(\"%s\", text)".formatted(rowBinder, name);
+            case DOUBLE -> "%s.parseDouble(\"%s\", text)".formatted(rowBinder, name);
+            case DECLARED -> {
+                if (isEnum(type)) {
+                    yield "%s.parseEnum(\"%s\", text, %s.class)"
+                            .formatted(rowBinder, name, typeRegistry.getUsageName(type));
+                }
+                if (isString(type)) {
+                    yield "text";
+                }
+                if (UnwrappedMember.Kind.of(type) == UnwrappedMember.Kind.BOXED) {
+                    yield "text == null || text.isEmpty() ? null : "
+                            + rowParse(types.unboxedType(type), name, rowBinder, typeRegistry);
+                }
+                yield null;
+            }
+            default -> null;
+        };
+    }
+
+    private static String parseLong(
+            String type, Class<?> boxedType, String name, String rowBinder, TypeRegistry typeRegistry) {
+        var cast = type.equals("long") ? "" : "(" + type + ") ";
+        return "%s%s.parseLong(\"%s\", text, %4$s.MIN_VALUE, %4$s.MAX_VALUE)"
+                .formatted(cast, rowBinder, name, typeRegistry.getUsageName(boxedType));
+    }
+
+    private static String typeName(TypeKind primitiveKind) {
+        return primitiveKind.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isEnum(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+    }
+
+    private static boolean isString(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement())
+                        .getQualifiedName()
+                        .contentEquals(String.class.getName());
+    }
+
+    /**
+     * @return the type of the value of {@code accessor} (i.e. the return type of a getter, or the type of a field)
+     */
+    private static TypeMirror accessorType(Element accessor) {
+        return accessor.getKind() == METHOD ? ((ExecutableElement) accessor).getReturnType() : accessor.asType();
+    }
+
+    /**
+     * @return the value of a field of type {@code type} that has not been assigned yet
+     */
+    private static String defaultValueOf(TypeMirror type) {
+        if (type.getKind() == TypeKind.BOOLEAN) {
+            return "false";
+        }
+
+        return type.getKind().isPrimitive() ? "0" : "null";
+    }
+
     private static void requireEmpty(List<MemberResult> failures) {
         if (!failures.isEmpty()) {
             var exceptions = failures.stream()
@@ -0,0 +1,25 @@
+package com.github.jacopocav.builder.internal.template;
+
+/**
+ * Variables related to a builder member whose type has a builder of its own, that has an additional setter taking a
+ * {@link java.util.function.Consumer} of the nested builder.
+ * <p>The nested builder is created (or reset) by the first call to that setter, and reused by the following ones,
+ * until the member is set through any other setter. The nested object is built by the build method.
+ *
+ * @param builderType       the usage name of the nested builder class
+ * @param consumerType      the type of the parameter of the setter ({@code Consumer<builderType>})
+ * @param factoryMethodName name of the static factory method of the nested builder
+ * @param buildMethodName   name of the build method of the nested builder
+ * @param resettable        whether the nested builder has a {@code reset()} method
+ * @param builderField      the field holding the nested builder
+ * @param nestedField       the {@code boolean} field that is {@code true} when the member has been set through the
+ *                          nested builder (i.e. the value of the member is built from {@code builderField})
+ */
+public record NestedMember(
+        String builderType,
+        String consumerType,
+        String factoryMethodName,
+        String buildMethodName,
+        boolean resettable,
+        String builderField,
+        String nestedField) {}
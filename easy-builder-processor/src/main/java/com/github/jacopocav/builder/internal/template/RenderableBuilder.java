@@ -0,0 +1,77 @@
+package com.github.jacopocav.builder.internal.template;
+
+import com.github.jacopocav.builder.internal.generation.GeneratedClassFile;
+import com.github.jacopocav.builder.internal.generation.GeneratedFile;
+import com.github.jacopocav.builder.internal.generation.GeneratedJavaFile;
+import gg.jte.models.runtime.JteModel;
+import javax.lang.model.element.Element;
+
+/**
+ * A builder whose contents have been fully computed from the annotation processing model, and is ready to be
+ * rendered.
+ * <p>Rendering does not access the annotation processing model (the {@code originatingElement} is only carried
+ * over to the {@link GeneratedFile}), so it can safely happen outside the compiler thread.
+ */
+public sealed interface RenderableBuilder {
+    /**
+     * The qualified name of the builder class
+     */
+    String qualifiedName();
+
+    /**
+     * The element annotated with {@link com.github.jacopocav.builder.annotation.Builder @Builder}
+     */
+    Element originatingElement();
+
+    /**
+     * Renders the builder file
+     */
+    GeneratedFile render();
+
+    /**
+     * Returns the builder file, deferring as much rendering as possible to the moment it is written
+     * (so it must be written on the compiler thread, like any other file).
+     */
+    GeneratedFile renderLazily();
+
+    /**
+     * A builder rendered as a source file from the jte template
+     *
+     * @param model the template model of the builder class
+     */
+    record Template(String qualifiedName, Element originatingElement, JteModel model) implements RenderableBuilder {
+        /**
+         * Renders the builder source file to a string
+         */
+        @Override
+        public GeneratedJavaFile render() {
+            return new GeneratedJavaFile(qualifiedName, originatingElement, model.render());
+        }
+
+        /**
+         * Returns the builder source file without rendering it: its source code is rendered directly into the file
+         * writer when written.
+         */
+        @Override
+        public GeneratedJavaFile renderLazily() {
+            return new GeneratedJavaFile(qualifiedName, originatingElement, new StreamedSourceCode(model));
+        }
+    }
+
+    /**
+     * A builder that has already been compiled to a class file
+     *
+     * @param bytecode the contents of the class file
+     */
+    record ClassFile(String qualifiedName, Element originatingElement, byte[] bytecode) implements RenderableBuilder {
+        @Override
+        public GeneratedClassFile render() {
+            return new GeneratedClassFile(qualifiedName, originatingElement, bytecode);
+        }
+
+        @Override
+        public GeneratedClassFile renderLazily() {
+            return render();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.jacopocav.builder.internal.template;
+
+/**
+ * Name of the nested class of a builder with row binding, which maps the columns of a row to the builder members once,
+ * and then binds each row by index.
+ *
+ * @param binderClass the nested class of the builder that binds rows
+ */
+public record RowBinder(String binderClass) {}
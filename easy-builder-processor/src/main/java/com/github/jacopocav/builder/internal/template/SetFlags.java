@@ -0,0 +1,60 @@
+package com.github.jacopocav.builder.internal.template;
+
+import com.github.jacopocav.builder.internal.util.StringUtils;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Names of the additional fields whose bits keep track of the properties set on a builder, 64 properties per field
+ *
+ * @param fields        the names of the fields
+ * @param requiredMasks the bits of the required properties, for each field that has some
+ */
+public record SetFlags(List<String> fields, List<RequiredMask> requiredMasks) {
+    private static final int FLAGS_PER_FIELD = Long.SIZE;
+
+    /**
+     * @param memberNames     names of the builder members, that the names of the fields must not clash with
+     * @param requiredMembers indexes of the required members
+     */
+    public static SetFlags of(List<String> memberNames, BitSet requiredMembers) {
+        var takenNames = Set.copyOf(memberNames);
+        var fieldCount = (memberNames.size() + FLAGS_PER_FIELD - 1) / FLAGS_PER_FIELD;
+        var masks = requiredMembers.toLongArray();
+        var fields = new ArrayList<String>();
+        var requiredMasks = new ArrayList<RequiredMask>();
+
+        for (int i = 0; i < fieldCount; i++) {
+            var field = StringUtils.uniqueName(fieldCount == 1 ? "setFlags" : "setFlags" + i, takenNames);
+            fields.add(field);
+            if (i < masks.length && masks[i] != 0) {
+                requiredMasks.add(new RequiredMask(field, "0x%xL".formatted(masks[i])));
+            }
+        }
+
+        return new SetFlags(List.copyOf(fields), List.copyOf(requiredMasks));
+    }
+
+    /**
+     * @return the name of the field holding the flag of the member at {@code memberIndex}
+     */
+    public String flagsField(int memberIndex) {
+        return fields.get(memberIndex / FLAGS_PER_FIELD);
+    }
+
+    /**
+     * @return the bit of the member at {@code memberIndex} in its {@link #flagsField(int) flags field}, as a
+     * {@code long} expression
+     */
+    public String flag(int memberIndex) {
+        return "1L << " + memberIndex % FLAGS_PER_FIELD;
+    }
+
+    /**
+     * @param field the name of the flags field
+     * @param mask  a {@code long} literal with the bits of the required properties in {@code field}
+     */
+    public record RequiredMask(String field, String mask) {}
+}
@@ -0,0 +1,89 @@
+package com.github.jacopocav.builder.internal.template;
+
+import com.github.jacopocav.builder.internal.util.StringUtils;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Stage interfaces of a staged builder, which are declared in the builder class and implemented by a private subclass
+ * of the builder class (a class cannot implement its own member interfaces)
+ *
+ * @param stages            one interface for each member that must be set, in order
+ * @param finalStage        the name of the last interface, which declares the build method
+ * @param finalStageMembers the members whose setters are declared by the last interface
+ * @param implementation    the name of the subclass that implements all the interfaces
+ */
+public record Stages(List<Stage> stages, String finalStage, List<Member> finalStageMembers, String implementation) {
+    /**
+     * @param name      the name of the interface
+     * @param member    the member whose setter is the only method of the interface
+     * @param nextStage the name of the interface returned by the setter
+     */
+    public record Stage(String name, Member member, String nextStage) {}
+
+    /**
+     * @param memberNames   names of the builder members
+     * @param stagedMembers indexes of the members that must be set in order
+     * @param takenNames    names that the interfaces must not have (i.e. the name of the builder class)
+     * @return the names of the interfaces (one for each staged member, in order, followed by the final stage),
+     * followed by the name of the class that implements them
+     */
+    public static List<String> names(List<String> memberNames, BitSet stagedMembers, Set<String> takenNames) {
+        var names = new ArrayList<String>();
+        var allTakenNames = new HashSet<>(takenNames);
+
+        stagedMembers.stream().forEach(i -> {
+            var name = StringUtils.uniqueName(StringUtils.capitalize(memberNames.get(i)) + "Stage", allTakenNames);
+            names.add(name);
+            allTakenNames.add(name);
+        });
+        var finalStage = StringUtils.uniqueName("FinalStage", allTakenNames);
+        names.add(finalStage);
+        allTakenNames.add(finalStage);
+        names.add(StringUtils.uniqueName("Staged", allTakenNames));
+
+        return List.copyOf(names);
+    }
+
+    /**
+     * @param names the names returned by {@link #names(List, BitSet, Set)}
+     */
+    public static Stages of(List<String> names, List<Member> members, BitSet stagedMembers) {
+        var stages = new ArrayList<Stage>();
+        var finalStageMembers = new ArrayList<Member>();
+
+        for (int i = 0; i < members.size(); i++) {
+            if (stagedMembers.get(i)) {
+                var stageIndex = stages.size();
+                stages.add(new Stage(names.get(stageIndex), members.get(i), names.get(stageIndex + 1)));
+            } else {
+                finalStageMembers.add(members.get(i));
+            }
+        }
+
+        return new Stages(
+                List.copyOf(stages),
+                names.get(names.size() - 2),
+                List.copyOf(finalStageMembers),
+                names.get(names.size() - 1));
+    }
+
+    /**
+     * @return the name of the interface returned by the static factory method
+     */
+    public String initialStage() {
+        return stages.isEmpty() ? finalStage : stages.get(0).name();
+    }
+
+    /**
+     * @return the names of all the interfaces, in order
+     */
+    public List<String> names() {
+        return Stream.concat(stages.stream().map(Stage::name), Stream.of(finalStage))
+                .toList();
+    }
+}
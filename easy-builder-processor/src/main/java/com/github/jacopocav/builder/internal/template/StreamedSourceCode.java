@@ -0,0 +1,19 @@
+package com.github.jacopocav.builder.internal.template;
+
+import com.github.jacopocav.builder.internal.generation.SourceCode;
+import gg.jte.models.runtime.JteModel;
+import gg.jte.output.WriterOutput;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Source code rendered by {@code model} directly into the writer of the generated file, so that the whole source
+ * is never held in memory.
+ * <p>{@link java.io.IOException}s thrown by the writer are rethrown as {@link UncheckedIOException}.
+ */
+record StreamedSourceCode(JteModel model) implements SourceCode {
+    @Override
+    public void writeTo(Writer writer) {
+        model.render(new WriterOutput(writer));
+    }
+}
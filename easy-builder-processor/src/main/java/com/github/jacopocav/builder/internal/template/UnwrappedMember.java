@@ -0,0 +1,118 @@
+package com.github.jacopocav.builder.internal.template;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+/**
+ * Variables related to a builder member whose type is a primitive wrapper, a primitive optional or a parameterized
+ * {@link Optional}, that has an additional setter taking the unwrapped value.
+ * <p>The unwrapped value is stored in a field of its own, and wrapped by the build method only if it was set after the
+ * value of the member type.
+ *
+ * @param kind           the kind of wrapper
+ * @param type           the type of the unwrapped value
+ * @param valueField     the field holding the unwrapped value
+ * @param unwrappedField the {@code boolean} field that is {@code true} when the member has been set through the
+ *                       unwrapped setter (i.e. the value of the member is in {@code valueField})
+ * @param defaultValue   the value of {@code valueField} that has not been assigned yet
+ */
+public record UnwrappedMember(Kind kind, String type, String valueField, String unwrappedField, String defaultValue) {
+
+    public enum Kind {
+        /**
+         * {@link Integer}, {@link Long}, {@link Double}, etc., wrapped with their {@code valueOf} method (which may
+         * return a cached instance)
+         */
+        BOXED("valueOf"),
+        /**
+         * {@link java.util.OptionalInt}, {@link java.util.OptionalLong} and {@link java.util.OptionalDouble}, wrapped
+         * with their {@code of} method
+         */
+        OPTIONAL_PRIMITIVE("of"),
+        /**
+         * {@link Optional}, wrapped with {@link Optional#ofNullable(Object)}, so that setting a {@code null} value
+         * results in an empty optional
+         */
+        OPTIONAL("ofNullable");
+
+        private static final Set<String> BOXED_TYPES = Set.of(
+                Boolean.class.getName(),
+                Byte.class.getName(),
+                Short.class.getName(),
+                Character.class.getName(),
+                Integer.class.getName(),
+                Long.class.getName(),
+                Float.class.getName(),
+                Double.class.getName());
+        private static final Map<String, TypeKind> OPTIONAL_PRIMITIVES = Map.of(
+                "java.util.OptionalInt", TypeKind.INT,
+                "java.util.OptionalLong", TypeKind.LONG,
+                "java.util.OptionalDouble", TypeKind.DOUBLE);
+
+        private final String wrapMethod;
+
+        Kind(String wrapMethod) {
+            this.wrapMethod = wrapMethod;
+        }
+
+        /**
+         * @return the kind of {@code type}, or {@code null} if it is not a primitive wrapper, a primitive optional or
+         * an {@link Optional} whose type argument is neither a wildcard nor an {@link Optional} (whose setters would
+         * have the same erasure)
+         */
+        public static Kind of(TypeMirror type) {
+            if (type.getKind() != TypeKind.DECLARED) {
+                return null;
+            }
+
+            var declaredType = (DeclaredType) type;
+            var qualifiedName = qualifiedName(declaredType);
+            if (BOXED_TYPES.contains(qualifiedName)) {
+                return BOXED;
+            }
+            if (OPTIONAL_PRIMITIVES.containsKey(qualifiedName)) {
+                return OPTIONAL_PRIMITIVE;
+            }
+            if (!Optional.class.getName().equals(qualifiedName)
+                    || declaredType.getTypeArguments().size() != 1) {
+                return null;
+            }
+
+            var typeArgument = declaredType.getTypeArguments().get(0);
+            if (typeArgument.getKind() == TypeKind.WILDCARD
+                    || (typeArgument.getKind() == TypeKind.DECLARED
+                            && Optional.class.getName().equals(qualifiedName((DeclaredType) typeArgument)))) {
+                return null;
+            }
+            return OPTIONAL;
+        }
+
+        /**
+         * @return the type of the value wrapped by {@code type}, which must be of this kind
+         */
+        public TypeMirror unwrappedType(DeclaredType type, Types types) {
+            return switch (this) {
+                case BOXED -> types.unboxedType(type);
+                case OPTIONAL_PRIMITIVE -> types.getPrimitiveType(OPTIONAL_PRIMITIVES.get(qualifiedName(type)));
+                case OPTIONAL -> type.getTypeArguments().get(0);
+            };
+        }
+
+        /**
+         * @return name of the static method of the wrapper type that wraps a value
+         */
+        public String wrapMethod() {
+            return wrapMethod;
+        }
+
+        private static String qualifiedName(DeclaredType type) {
+            return ((TypeElement) type.asElement()).getQualifiedName().toString();
+        }
+    }
+}
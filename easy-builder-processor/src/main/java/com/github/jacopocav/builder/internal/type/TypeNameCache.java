@@ -0,0 +1,148 @@
+package com.github.jacopocav.builder.internal.type;
+
+import com.github.jacopocav.builder.internal.util.RoundScopedCache;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+
+/**
+ * Cache of the names of the types referenced by builders, shared by all the builders generated in the same
+ * processing round.
+ * <p>Names are cached independently of how they are used in a specific builder: {@link TypeRegistry} only decides
+ * whether each class is referenced by its simple or qualified name.
+ * <p>Type mirrors are not a usable key, as equal types are often represented by distinct instances, which compare by
+ * identity: names are only cached by {@link TypeElement} (which the compiler keeps unique per class) and by
+ * {@link TypeKind}, for the types whose name only depends on them.
+ */
+public class TypeNameCache implements RoundScopedCache {
+    private final Map<TypeElement, ClassName> classNames = new HashMap<>();
+    private final Map<TypeElement, TypeName> nonGenericTypeNames = new HashMap<>();
+    private final Map<TypeKind, TypeName> primitiveTypeNames = new EnumMap<>(TypeKind.class);
+
+    /**
+     * @return the simple and qualified names of {@code typeElement}
+     */
+    public ClassName get(TypeElement typeElement) {
+        var className = classNames.get(typeElement);
+
+        if (className == null) {
+            className = new ClassName(
+                    typeElement.getSimpleName().toString(),
+                    typeElement.getQualifiedName().toString());
+            classNames.put(typeElement, className);
+        }
+
+        return className;
+    }
+
+    /**
+     * @return the name of {@code mirror}, split into the classes it references and the text in between
+     */
+    public TypeName get(TypeMirror mirror) {
+        if (mirror.getKind().isPrimitive()) {
+            return get(primitiveTypeNames, mirror.getKind(), mirror);
+        }
+        if (mirror.getKind() == TypeKind.DECLARED
+                && mirror instanceof DeclaredType declaredType
+                && declaredType.getTypeArguments().isEmpty()) {
+            return get(nonGenericTypeNames, (TypeElement) declaredType.asElement(), mirror);
+        }
+
+        return build(mirror);
+    }
+
+    private <K> TypeName get(Map<K, TypeName> typeNames, K key, TypeMirror mirror) {
+        var typeName = typeNames.get(key);
+
+        if (typeName == null) {
+            typeName = build(mirror);
+            typeNames.put(key, typeName);
+        }
+
+        return typeName;
+    }
+
+    private TypeName build(TypeMirror mirror) {
+        var builder = new TypeNameBuilder();
+        builder.append(mirror);
+        return builder.build();
+    }
+
+    @Override
+    public void clear() {
+        classNames.clear();
+        nonGenericTypeNames.clear();
+        primitiveTypeNames.clear();
+    }
+
+    /**
+     * The simple and qualified name of a class
+     */
+    public record ClassName(String simpleName, String qualifiedName) {}
+
+    /**
+     * The name of a type, e.g. {@code Map<String, List<? extends Number>>[]}, split into the referenced classes
+     * ({@code Map}, {@code String}, {@code List} and {@code Number}) and the text surrounding them
+     * ({@code ""}, {@code "<"}, {@code ", "}, {@code "<? extends "} and {@code ">>[]"}).
+     *
+     * @param separators the text before, between and after {@code classNames} (there is always one more separator
+     *                   than class names)
+     */
+    public record TypeName(List<ClassName> classNames, List<String> separators) {}
+
+    private class TypeNameBuilder {
+        private final List<ClassName> classNames = new ArrayList<>();
+        private final List<String> separators = new ArrayList<>();
+        private final StringBuilder separator = new StringBuilder();
+
+        private void append(TypeMirror mirror) {
+            switch (mirror.getKind()) {
+                case DECLARED -> {
+                    var declaredType = (DeclaredType) mirror;
+                    separators.add(separator.toString());
+                    separator.setLength(0);
+                    classNames.add(get((TypeElement) declaredType.asElement()));
+
+                    var typeArguments = declaredType.getTypeArguments();
+                    for (int i = 0; i < typeArguments.size(); i++) {
+                        separator.append(i == 0 ? "<" : ", ");
+                        append(typeArguments.get(i));
+                    }
+                    if (!typeArguments.isEmpty()) {
+                        separator.append(">");
+                    }
+                }
+                case ARRAY -> {
+                    append(((ArrayType) mirror).getComponentType());
+                    separator.append("[]");
+                }
+                case WILDCARD -> {
+                    var wildcardType = (WildcardType) mirror;
+                    if (wildcardType.getExtendsBound() != null) {
+                        separator.append("? extends ");
+                        append(wildcardType.getExtendsBound());
+                    } else if (wildcardType.getSuperBound() != null) {
+                        separator.append("? super ");
+                        append(wildcardType.getSuperBound());
+                    } else {
+                        separator.append("?");
+                    }
+                }
+                default -> separator.append(mirror);
+            }
+        }
+
+        private TypeName build() {
+            separators.add(separator.toString());
+            return new TypeName(List.copyOf(classNames), List.copyOf(separators));
+        }
+    }
+}
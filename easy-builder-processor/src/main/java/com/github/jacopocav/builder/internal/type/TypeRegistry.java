@@ -4,23 +4,29 @@ import static com.github.jacopocav.builder.internal.util.IterableUtils.getFirst;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
 
+import com.github.jacopocav.builder.internal.type.TypeNameCache.ClassName;
 import com.github.jacopocav.builder.internal.util.IterableUtils;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.type.ArrayType;
-import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.type.WildcardType;
 
 /**
  * Keeps track of all types directly referenced in a generated java file
+ * <p>Names of model types are taken from a {@link TypeNameCache} shared by all builders of the same round: each
+ * registry only keeps track of the ambiguities among the types referenced by its own file.
  */
 public class TypeRegistry {
     private static final Type[] EXTENDS_OBJECT_BOUND = {Object.class};
+    private final TypeNameCache typeNameCache;
     private final Map<String, LinkedHashSet<String>> ambiguitiesBySimpleName = new HashMap<>();
+    private final Set<String> declaredTypes = new HashSet<>();
+
+    public TypeRegistry(TypeNameCache typeNameCache) {
+        this.typeNameCache = typeNameCache;
+    }
 
     /**
      * Adds {@code type} to the referenced types
@@ -29,6 +35,16 @@ public class TypeRegistry {
         getUsageName(type);
     }
 
+    /**
+     * Adds a type declared in the generated file itself (i.e. a nested type), so that other types with the same
+     * simple name are referenced by their qualified name. Declared types are never imported.
+     * <p>It must be called before registering any other type.
+     */
+    public void registerDeclared(String simpleName, String qualifiedName) {
+        visit(simpleName, qualifiedName);
+        declaredTypes.add(qualifiedName);
+    }
+
     /**
      * Registers {@code type } and returns a representation of it that's safe to use in source code
      * as a usage (in parameter/field/variable/return types, for example), while avoiding name clashes with other types.
@@ -80,6 +96,14 @@ public class TypeRegistry {
         return type.getTypeName();
     }
 
+    /**
+     * Registers a type that may not exist yet (e.g. a builder generated in the same processing round) and returns a
+     * representation of it that's safe to use in source code, like {@link #getUsageName(TypeElement)}.
+     */
+    public String getUsageName(String simpleName, String qualifiedName) {
+        return getUsageName(new ClassName(simpleName, qualifiedName));
+    }
+
     /**
      * Registers {@code typeElement} and returns a representation of it that's safe to use in source code
      * as a usage (in parameter/field/variable/return types, for example), while avoiding name clashes with other types.
@@ -88,10 +112,7 @@ public class TypeRegistry {
      * types; the qualified name otherwise.
      */
     public String getUsageName(TypeElement typeElement) {
-        return switch (visit(typeElement)) {
-            case SAFE -> typeElement.getSimpleName().toString();
-            case AMBIGUOUS -> typeElement.getQualifiedName().toString();
-        };
+        return getUsageName(typeNameCache.get(typeElement));
     }
 
     /**
@@ -102,57 +123,48 @@ public class TypeRegistry {
      * and qualified names otherwise.
      */
     public String getUsageName(TypeMirror mirror) {
-        return switch (mirror.getKind()) {
-            case DECLARED -> {
-                var declaredType = (DeclaredType) mirror;
-                var typeElement = (TypeElement) declaredType.asElement();
-
-                var name = getUsageName(typeElement);
-                var typeArguments = declaredType.getTypeArguments();
-                if (!typeArguments.isEmpty()) {
-                    name += "<" + typeArguments.stream().map(this::getUsageName).collect(joining(", ")) + ">";
-                }
-                yield name;
-            }
+        var typeName = typeNameCache.get(mirror);
+        var classNames = typeName.classNames();
+        var separators = typeName.separators();
 
-            case ARRAY -> getUsageName(((ArrayType) mirror).getComponentType()) + "[]";
-            case WILDCARD -> {
-                var wildcardType = (WildcardType) mirror;
-
-                yield Optional.ofNullable(wildcardType.getExtendsBound())
-                        .map(bound -> "? extends " + getUsageName(bound))
-                        .or(() -> Optional.ofNullable(wildcardType.getSuperBound())
-                                .map(bound -> "? super " + getUsageName(bound)))
-                        .orElse("?");
-            }
+        if (classNames.isEmpty()) {
+            return separators.get(0);
+        }
 
-            default -> mirror.toString();
-        };
+        var name = new StringBuilder(separators.get(0));
+        for (int i = 0; i < classNames.size(); i++) {
+            name.append(getUsageName(classNames.get(i))).append(separators.get(i + 1));
+        }
+        return name.toString();
     }
 
     /**
      * Returns the qualified names of all types that have been registered, excluding all ambiguous types for which
      * {@link #getUsageName(Type)}, {@link #getUsageName(TypeMirror)} or {@link #getUsageName(TypeElement)} returns
      * a qualified name.
+     * <p>Names are sorted, so that imports do not depend on registration order or hashing.
      */
     public Collection<String> getSafeImports() {
         return ambiguitiesBySimpleName.values().stream()
                 .map(IterableUtils::getFirst)
+                .filter(qualifiedName -> !declaredTypes.contains(qualifiedName))
+                .sorted()
                 .toList();
     }
 
-    private VisitedType visit(TypeElement typeElement) {
-        var ambiguities = ambiguitiesBySimpleName.computeIfAbsent(
-                typeElement.getSimpleName().toString(), k -> new LinkedHashSet<>());
-        var qualifiedName = typeElement.getQualifiedName().toString();
-        ambiguities.add(qualifiedName);
-
-        return isAmbiguous(ambiguities, qualifiedName) ? VisitedType.AMBIGUOUS : VisitedType.SAFE;
+    private String getUsageName(ClassName className) {
+        return switch (visit(className.simpleName(), className.qualifiedName())) {
+            case SAFE -> className.simpleName();
+            case AMBIGUOUS -> className.qualifiedName();
+        };
     }
 
     private VisitedType visit(Class<?> cls) {
-        var ambiguities = ambiguitiesBySimpleName.computeIfAbsent(cls.getSimpleName(), k -> new LinkedHashSet<>());
-        var qualifiedName = cls.getCanonicalName();
+        return visit(cls.getSimpleName(), cls.getCanonicalName());
+    }
+
+    private VisitedType visit(String simpleName, String qualifiedName) {
+        var ambiguities = ambiguitiesBySimpleName.computeIfAbsent(simpleName, k -> new LinkedHashSet<>());
         ambiguities.add(qualifiedName);
 
         return isAmbiguous(ambiguities, qualifiedName) ? VisitedType.AMBIGUOUS : VisitedType.SAFE;
@@ -1,6 +1,8 @@
 package com.github.jacopocav.builder.internal.util;
 
+import com.github.jacopocav.builder.annotation.Builder;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.VariableElement;
 
 public class ElementUtils {
     private ElementUtils() {}
@@ -8,4 +10,13 @@ public class ElementUtils {
     public static boolean isDeclaredType(ElementKind elementKind) {
         return elementKind.isClass() || elementKind.isInterface();
     }
+
+    /**
+     * Returns {@code true} if {@code parameter} is annotated with {@link Builder.Required @Builder.Required}
+     */
+    public static boolean isRequired(VariableElement parameter) {
+        return parameter.getAnnotationMirrors().stream()
+                .anyMatch(annotation ->
+                        annotation.getAnnotationType().toString().equals(Builder.Required.class.getCanonicalName()));
+    }
 }
@@ -0,0 +1,13 @@
+package com.github.jacopocav.builder.internal.util;
+
+/**
+ * A cache whose content is only valid within a single annotation processing round, and is cleared by
+ * {@link com.github.jacopocav.builder.processor.BuilderProcessor BuilderProcessor} when the round ends.
+ * <p>Caches are only accessed from the compiler thread, as they hold elements of the annotation processing model.
+ */
+public interface RoundScopedCache {
+    /**
+     * Removes all cached entries
+     */
+    void clear();
+}
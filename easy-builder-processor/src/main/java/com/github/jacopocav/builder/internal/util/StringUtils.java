@@ -3,6 +3,8 @@ package com.github.jacopocav.builder.internal.util;
 import static java.lang.Character.toLowerCase;
 import static java.lang.Character.toTitleCase;
 
+import java.util.Set;
+
 public class StringUtils {
     private StringUtils() {}
 
@@ -36,4 +38,33 @@ public class StringUtils {
     public static String composeSetterName(String prefix, String argumentName) {
         return isNullOrBlank(prefix) ? argumentName : prefix + capitalize(argumentName);
     }
+
+    /**
+     * Returns the singular form of the English plural noun {@code name} (e.g. {@code entries -> entry},
+     * {@code boxes -> box}, {@code items -> item}), or {@code name} itself if it does not look like a plural.
+     */
+    public static String singularize(String name) {
+        if (name.length() > 3 && name.endsWith("ies")) {
+            return name.substring(0, name.length() - 3) + "y";
+        }
+        if (name.length() > 4 && (name.endsWith("sses") || name.endsWith("shes") || name.endsWith("ches"))
+                || name.length() > 3 && name.endsWith("xes")) {
+            return name.substring(0, name.length() - 2);
+        }
+        if (name.length() > 1 && name.endsWith("s") && !name.endsWith("ss")) {
+            return name.substring(0, name.length() - 1);
+        }
+        return name;
+    }
+
+    /**
+     * Returns {@code name}, followed by as many underscores as needed not to be contained in {@code takenNames}
+     */
+    public static String uniqueName(String name, Set<String> takenNames) {
+        var uniqueName = name;
+        while (takenNames.contains(uniqueName)) {
+            uniqueName += "_";
+        }
+        return uniqueName;
+    }
 }
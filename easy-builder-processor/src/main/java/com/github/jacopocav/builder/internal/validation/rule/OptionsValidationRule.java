@@ -77,7 +77,20 @@ class OptionsValidationRule implements ValidationRule {
             case CLASS_NAME -> value.isEmpty() || javaNameValidator.isValidName(value);
             case BUILD_METHOD_NAME, FACTORY_METHOD_NAME, COPY_FACTORY_METHOD_NAME -> javaNameValidator.isValidName(
                     value);
-            case COPY_FACTORY_METHOD -> true;
+            case COPY_FACTORY_METHOD,
+                    COPY_FACTORY_METHOD_MODE,
+                    REUSE,
+                    WITHER_METHODS,
+                    STAGING,
+                    COLLECTION_MEMBERS,
+                    UNWRAPPED_SETTERS,
+                    NESTED_BUILDERS,
+                    INTERNING,
+                    JSON_CODEC,
+                    BINARY_CODEC,
+                    MAP_BINDING,
+                    ROW_BINDING,
+                    BATCH_BUILDER -> true;
         };
     }
 }
@@ -1,12 +1,15 @@
 package com.github.jacopocav.builder.internal.writer;
 
+import com.github.jacopocav.builder.internal.generation.GeneratedClassFile;
+import com.github.jacopocav.builder.internal.generation.GeneratedFile;
 import com.github.jacopocav.builder.internal.generation.GeneratedJavaFile;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import javax.annotation.processing.Filer;
 
 /**
- * Writes generated java sources to file.
+ * Writes generated java sources and class files to file.
  */
 public class GeneratedJavaFileWriter {
     private final Filer filer;
@@ -16,17 +19,39 @@ public class GeneratedJavaFileWriter {
     }
 
     /**
-     * Writes {@code generatedJavaFile} to a new file using {@link Filer}
+     * Writes {@code generatedFile} to a new file using {@link Filer}.
+     * <p>The file declares {@link GeneratedFile#originatingElement()} as its only originating element, as
+     * required by isolating incremental annotation processing (e.g. in Gradle).
+     * <p>The source code is written through a buffer, so that sources rendered while being written (see
+     * {@link com.github.jacopocav.builder.internal.generation.SourceCode SourceCode}) do not reach the file writer
+     * with many small writes.
      * @throws UncheckedIOException if any {@link IOException} is thrown while writing to file
      */
-    public void write(GeneratedJavaFile generatedJavaFile) throws UncheckedIOException {
+    public void write(GeneratedFile generatedFile) throws UncheckedIOException {
         try {
-            var javaFileObject = filer.createSourceFile(generatedJavaFile.qualifiedName());
-            try (var writer = javaFileObject.openWriter()) {
-                writer.write(generatedJavaFile.sourceCode());
+            if (generatedFile instanceof GeneratedClassFile classFile) {
+                writeClassFile(classFile);
+            } else {
+                writeJavaFile((GeneratedJavaFile) generatedFile);
             }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
+
+    private void writeJavaFile(GeneratedJavaFile generatedJavaFile) throws IOException {
+        var javaFileObject =
+                filer.createSourceFile(generatedJavaFile.qualifiedName(), generatedJavaFile.originatingElement());
+        try (var writer = new BufferedWriter(javaFileObject.openWriter())) {
+            generatedJavaFile.sourceCode().writeTo(writer);
+        }
+    }
+
+    private void writeClassFile(GeneratedClassFile generatedClassFile) throws IOException {
+        var javaFileObject =
+                filer.createClassFile(generatedClassFile.qualifiedName(), generatedClassFile.originatingElement());
+        try (var outputStream = javaFileObject.openOutputStream()) {
+            outputStream.write(generatedClassFile.bytecode());
+        }
+    }
 }
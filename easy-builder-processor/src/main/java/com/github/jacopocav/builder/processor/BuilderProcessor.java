@@ -3,18 +3,35 @@ package com.github.jacopocav.builder.processor;
 import static com.github.jacopocav.builder.internal.error.ProcessingException.processingException;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.Objects.requireNonNullElseGet;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 
 import com.github.jacopocav.builder.annotation.Builder;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.internal.BuilderGenerator.PreparedBuilder;
 import com.github.jacopocav.builder.internal.Context;
 import com.github.jacopocav.builder.internal.error.AggregatedProcessingException;
 import com.github.jacopocav.builder.internal.error.ProcessingException;
+import com.github.jacopocav.builder.internal.generation.GeneratedFile;
 import com.github.jacopocav.builder.internal.option.BuilderOption;
+import com.github.jacopocav.builder.internal.option.ProcessorOption;
+import com.github.jacopocav.builder.internal.stats.Phase;
+import com.github.jacopocav.builder.internal.template.RenderableBuilder;
+import com.github.jacopocav.builder.internal.util.RoundScopedCache;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
@@ -26,10 +43,14 @@ import javax.lang.model.element.TypeElement;
  * Annotation processor that generates builder classes from elements annotated with {@link Builder}
  */
 public class BuilderProcessor extends AbstractProcessor {
+    private static final String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
+    private static final String GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+
     private Context context;
     private Map<String, String> nonNullArguments;
 
     private boolean argsValidated = false;
+    private ForkJoinPool renderingPool;
 
     @SuppressWarnings("unused") // necessary for SPI mechanism
     public BuilderProcessor() {}
@@ -43,9 +64,19 @@ public class BuilderProcessor extends AbstractProcessor {
         return Set.of(Builder.class.getName());
     }
 
+    /**
+     * Also declares the kind of Gradle incremental processing: the processor is aggregating if nested builders are
+     * enabled by the compiler arguments (as they may then be found in other sources, see
+     * {@link com.github.jacopocav.builder.internal.finder.NestedBuilderFinder}), isolating otherwise.
+     */
     @Override
     public Set<String> getSupportedOptions() {
-        return BuilderOption.all().stream().map(BuilderOption::compilerName).collect(toUnmodifiableSet());
+        return Stream.of(
+                        BuilderOption.all().stream().map(BuilderOption::compilerName),
+                        ProcessorOption.all().stream().map(ProcessorOption::compilerName),
+                        Stream.of(isAggregating() ? GRADLE_AGGREGATING : GRADLE_ISOLATING))
+                .flatMap(identity())
+                .collect(toUnmodifiableSet());
     }
 
     @Override
@@ -63,13 +94,31 @@ public class BuilderProcessor extends AbstractProcessor {
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         if (validateCompilerArguments()) {
-            annotations.forEach(
-                    annotation -> roundEnv.getElementsAnnotatedWith(annotation).forEach(this::processElement));
+            generate(annotations, roundEnv);
+        }
+
+        // elements of the annotation processing model must not be reused across rounds
+        context.roundScopedCaches().forEach(RoundScopedCache::clear);
+
+        if (renderingPool != null && roundEnv.processingOver()) {
+            renderingPool.shutdown();
+            renderingPool = null;
+        }
+
+        if (context.processingStats().isEnabled() && roundEnv.processingOver()) {
+            context.processingStatsReporter().report(context.processingStats());
         }
 
         return true;
     }
 
+    private boolean isAggregating() {
+        return processingEnv != null
+                && NestedBuilders.ENABLED
+                        .name()
+                        .equals(processingEnv.getOptions().get(BuilderOption.NESTED_BUILDERS.compilerName()));
+    }
+
     private void initNonNullOptions(ProcessingEnvironment processingEnv) {
         nonNullArguments = processingEnv.getOptions().entrySet().stream()
                 .collect(toUnmodifiableMap(Entry::getKey, e -> requireNonNullElse(e.getValue(), "")));
@@ -91,11 +140,94 @@ public class BuilderProcessor extends AbstractProcessor {
         return errors.isEmpty();
     }
 
-    private void processElement(Element element) {
+    /**
+     * Prepares and writes the builder of every annotated element, in order.
+     * <p>The builders that nest the builder of another type annotated in the current compilation are written last: if
+     * some builders fail, the ones that nest them are prepared again without nesting them, so that no written builder
+     * refers to a class that is never generated.
+     */
+    private void generate(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var builderGenerator = context.builderGenerator();
+        var renderings = new ArrayList<Rendering>();
+        var nestingBuilders = new LinkedHashMap<Element, PreparedBuilder>();
+        var failedElements = new ArrayList<Element>();
+
+        annotations.forEach(annotation -> roundEnv.getElementsAnnotatedWith(annotation).forEach(element -> {
+            var prepared = getHandlingErrors(element, () -> builderGenerator.prepare(element));
+            if (prepared.isEmpty()) {
+                failedElements.add(element);
+            } else if (prepared.get().nestedTypes().isEmpty()) {
+                output(element, prepared.get().builder(), renderings);
+            } else {
+                nestingBuilders.put(element, prepared.get());
+            }
+        }));
+
+        var failedTypes = builderGenerator.discardNestedBuilders(failedElements);
+        while (!failedTypes.isEmpty()) {
+            var newlyFailedElements = new ArrayList<Element>();
+            for (var iterator = nestingBuilders.entrySet().iterator(); iterator.hasNext(); ) {
+                var entry = iterator.next();
+                if (Collections.disjoint(entry.getValue().nestedTypes(), failedTypes)) {
+                    continue;
+                }
+
+                var prepared = getHandlingErrors(entry.getKey(), () -> builderGenerator.prepareAgain(entry.getKey()));
+                if (prepared.isPresent()) {
+                    entry.setValue(prepared.get());
+                } else {
+                    iterator.remove();
+                    newlyFailedElements.add(entry.getKey());
+                }
+            }
+            failedTypes = builderGenerator.discardNestedBuilders(newlyFailedElements);
+        }
+
+        nestingBuilders.forEach((element, prepared) -> output(element, prepared.builder(), renderings));
+        renderings.forEach(rendering -> handleErrors(rendering.element(), () -> write(rendering.task().join())));
+    }
+
+    /**
+     * Writes the {@code builder} right away, unless builders are rendered in parallel: then, it is rendered on
+     * {@link #renderingPool} and added to {@code renderings}, which are written on the compiler thread in the same
+     * order as they would be by a single thread (so that the output does not depend on thread scheduling).
+     */
+    private void output(Element element, RenderableBuilder builder, List<Rendering> renderings) {
+        if (context.processorOptions().parallelism() > 1) {
+            var stats = context.processingStats();
+            renderings.add(new Rendering(
+                    element, getRenderingPool().submit(() -> stats.measure(Phase.RENDERING, builder::render))));
+        } else {
+            handleErrors(element, () -> write(builder.renderLazily()));
+        }
+    }
+
+    private void write(GeneratedFile generatedFile) {
+        context.processingStats().measure(Phase.WRITING, () -> context.generatedJavaFileWriter().write(generatedFile));
+    }
+
+    private ForkJoinPool getRenderingPool() {
+        if (renderingPool == null) {
+            renderingPool = new ForkJoinPool(context.processorOptions().parallelism());
+        }
+
+        return renderingPool;
+    }
+
+    private void handleErrors(Element element, Runnable action) {
+        getHandlingErrors(element, () -> {
+            action.run();
+            return true;
+        });
+    }
+
+    /**
+     * @return the result of {@code action}, or an empty optional if an error was printed
+     */
+    private <T> Optional<T> getHandlingErrors(Element element, Supplier<T> action) {
         var exceptionPrinter = context.processingExceptionPrinter();
         try {
-            var generatedJavaFile = context.builderGenerator().generate(element);
-            context.generatedJavaFileWriter().write(generatedJavaFile);
+            return Optional.of(action.get());
         } catch (ProcessingException e) {
             exceptionPrinter.print(e);
         } catch (AggregatedProcessingException e) {
@@ -106,5 +238,8 @@ public class BuilderProcessor extends AbstractProcessor {
                     "I/O error occurred while writing builder source: %s",
                     e.getCause().getMessage()));
         }
+        return Optional.empty();
     }
+
+    private record Rendering(Element element, ForkJoinTask<GeneratedFile> task) {}
 }
@@ -4,6 +4,8 @@ import javax.annotation.processing.Processor;
 module com.github.jacopocav.easybuilder.processor {
     requires com.github.jacopocav.easybuilder;
     requires java.compiler;
+    requires java.management;
+    requires jdk.management;
     requires gg.jte.runtime;
     requires gg.jte.models;
 
@@ -5,7 +5,20 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.junit.jupiter.params.provider.EnumSource.Mode.EXCLUDE;
 
+import com.github.jacopocav.builder.annotation.Builder.BatchBuilderGeneration;
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
+import com.github.jacopocav.builder.annotation.Builder.CollectionMembers;
 import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodMode;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.MapBinding;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.RowBinding;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
+import com.github.jacopocav.builder.annotation.Builder.UnwrappedSetters;
+import com.github.jacopocav.builder.annotation.Builder.WitherMethodGeneration;
 import com.github.jacopocav.builder.internal.option.BuilderOption;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -66,6 +79,19 @@ class BuilderOptionTest {
                                 FACTORY_METHOD_NAME,
                                 COPY_FACTORY_METHOD_NAME -> String.class;
                         case COPY_FACTORY_METHOD -> CopyFactoryMethodGeneration.class;
+                        case COPY_FACTORY_METHOD_MODE -> CopyFactoryMethodMode.class;
+                        case REUSE -> Reuse.class;
+                        case WITHER_METHODS -> WitherMethodGeneration.class;
+                        case STAGING -> Staging.class;
+                        case COLLECTION_MEMBERS -> CollectionMembers.class;
+                        case UNWRAPPED_SETTERS -> UnwrappedSetters.class;
+                        case NESTED_BUILDERS -> NestedBuilders.class;
+                        case INTERNING -> Interning.class;
+                        case JSON_CODEC -> JsonCodec.class;
+                        case BINARY_CODEC -> BinaryCodec.class;
+                        case MAP_BINDING -> MapBinding.class;
+                        case ROW_BINDING -> RowBinding.class;
+                        case BATCH_BUILDER -> BatchBuilderGeneration.class;
                     };
             return arguments(option, type);
         });
@@ -207,6 +207,59 @@ class AnnotatedClassCompileTest {
             }
         """;
 
+        // language=Java
+        var internedClassWithoutAccessor =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(copyFactoryMethod = Builder.CopyFactoryMethodGeneration.DISABLED, interning = Builder.Interning.ENABLED)
+            public class SomeClass {
+                public SomeClass(String someString) {
+                }
+            }
+        """;
+        // language=Java
+        var internedClassWithAccessorOfOtherType =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(copyFactoryMethod = Builder.CopyFactoryMethodGeneration.DISABLED, interning = Builder.Interning.ENABLED)
+            public class SomeClass {
+                public SomeClass(long someLong) {
+                }
+
+                public int getSomeLong() {
+                    return 0;
+                }
+            }
+        """;
+        // language=Java
+        var jsonClassWithUnsupportedType =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(copyFactoryMethod = Builder.CopyFactoryMethodGeneration.DISABLED, jsonCodec = Builder.JsonCodec.ENABLED)
+            public class SomeClass {
+                public SomeClass(Object someObject) {
+                }
+            }
+        """;
+        // language=Java
+        var binaryClassWithoutAccessor =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(copyFactoryMethod = Builder.CopyFactoryMethodGeneration.DISABLED, binaryCodec = Builder.BinaryCodec.ENABLED)
+            public class SomeClass {
+                public SomeClass(int someInt) {
+                }
+            }
+        """;
+
         return Stream.of(
                 arguments(
                         classWithOnlyZeroArgConstructor,
@@ -237,7 +290,27 @@ class AnnotatedClassCompileTest {
                         classWithoutAccessor,
                         classQualifiedName,
                         "could not find any accessor (getter or field) for parameter someString. Add it or disable static copy method generation with copyFactoryMethod=DISABLED or copyFactoryMethod=DYNAMIC",
-                        "someString)"));
+                        "someString)"),
+                arguments(
+                        internedClassWithoutAccessor,
+                        classQualifiedName,
+                        "could not find any accessor (getter or field) for parameter someString. Add it or disable interning with interning=DISABLED",
+                        "someString)"),
+                arguments(
+                        internedClassWithAccessorOfOtherType,
+                        classQualifiedName,
+                        "could not find any accessor (getter or field) of the same type as parameter someLong. Add it or disable interning with interning=DISABLED",
+                        "someLong)"),
+                arguments(
+                        jsonClassWithUnsupportedType,
+                        classQualifiedName,
+                        "type java.lang.Object of parameter someObject is not supported by the JSON codec. Change it or disable the JSON codec with jsonCodec=DISABLED",
+                        "someObject)"),
+                arguments(
+                        binaryClassWithoutAccessor,
+                        classQualifiedName,
+                        "could not find any accessor (getter or field) of the same type as parameter someInt. Add it or disable the binary codec with binaryCodec=DISABLED",
+                        "someInt)"));
     }
 
     static Stream<Arguments> innerClassSources() {
@@ -109,9 +109,50 @@ class AnnotatedConstructorCompileTest {
 
             """;
 
+        // language=Java
+        var subClass =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            public class SomeClass extends BaseClass {
+                private final List<Integer> someList;
+
+                @Builder(copyFactoryMethodName = "copyFrom")
+                public SomeClass(String someString, Long someLong, List<? extends Integer> someList) {
+                    super(someString, someLong);
+                    this.someList = List.copyOf(someList);
+                }
+
+                public String someString(String prefix) {
+                    return prefix + getSomeString();
+                }
+
+                public List<Integer> getSomeList() {
+                    return someList;
+                }
+            }
+
+            class BaseClass {
+                private final String someString;
+                protected final long someLong;
+
+                BaseClass(String someString, long someLong) {
+                    this.someString = someString;
+                    this.someLong = someLong;
+                }
+
+                public String getSomeString() {
+                    return someString;
+                }
+            }
+            """;
+
         return Stream.of(
                 arguments(topLevelClass, classQualifiedName, classQualifiedName + "Builder"),
-                arguments(nestedClass, classQualifiedName + "$InnerClass", classQualifiedName + "_InnerClassBuilder"));
+                arguments(nestedClass, classQualifiedName + "$InnerClass", classQualifiedName + "_InnerClassBuilder"),
+                arguments(subClass, classQualifiedName, classQualifiedName + "Builder"));
     }
 
     @Test
@@ -1,18 +1,24 @@
 package com.github.jacopocav.builder.compile;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import com.github.jacopocav.builder.processor.BuilderProcessor;
 import com.github.jacopocav.builder.util.BuilderAssert;
 import com.github.jacopocav.builder.util.Generated;
 import com.github.jacopocav.builder.util.SourceUtils;
+import com.github.jacopocav.builder.util.TestCompiler;
 import io.toolisticon.cute.Cute;
 import io.toolisticon.cute.CuteApi.BlackBoxTestSourceFilesInterface;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.instancio.TypeToken;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -98,6 +104,39 @@ class AnnotatedRecordCompileTest {
                 .executeTest();
     }
 
+    @Test
+    void shouldResolveTypeClashesOfEachBuilderIndependently(@TempDir Path workDir) {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            public class SomeRecords {
+                @Builder
+                public record Clashing(java.awt.List awtList, List<String> someListOfStrings) {}
+
+                @Builder
+                public record NotClashing(List<String> someListOfStrings) {}
+            }
+            """;
+
+        // when
+        var result = TestCompiler.compile(
+                workDir, new BuilderProcessor(), Map.of(packageName + ".SomeRecords", source), List.of());
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.generatedSource(packageName + ".SomeRecords_ClashingBuilder"))
+                .contains("import java.awt.List;")
+                .contains("private java.util.List<String> someListOfStrings;");
+        assertThat(result.generatedSource(packageName + ".SomeRecords_NotClashingBuilder"))
+                .contains("import java.util.List;")
+                .contains("private List<String> someListOfStrings;")
+                .doesNotContain("java.awt");
+    }
+
     private static Stream<Arguments> compilableRecords() {
         // language=Java
         var topLevelRecord =
@@ -131,6 +170,56 @@ class AnnotatedRecordCompileTest {
                         recordQualifiedName + "_NestedRecordBuilder"));
     }
 
+    @Test
+    void shouldCompileWithRequiredComponents() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder
+            public record SomeRecord(
+                    @Builder.Required String someString,
+                    @Builder.Required long someLong,
+                    List<Integer> someListOfIntegers) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(recordQualifiedName + "Builder")
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                            .withProperty(String.class, "someString")
+                            .withProperty(long.class, "someLong")
+                            .withProperty(listOfIntegers, "someListOfIntegers")
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var create = builderClass.getMethod("create");
+                    var someString = builderClass.getMethod("someString", String.class);
+                    var someLong = builderClass.getMethod("someLong", long.class);
+                    var build = builderClass.getMethod("build");
+
+                    // null and zero are valid values, as long as they are set explicitly
+                    assertThat(build.invoke(someLong.invoke(someString.invoke(create.invoke(null), (Object) null), 0L)))
+                            .hasFieldOrPropertyWithValue("someString", null)
+                            .hasFieldOrPropertyWithValue("someLong", 0L);
+                    assertThatThrownBy(() -> build.invoke(someString.invoke(create.invoke(null), "string")))
+                            .hasRootCauseInstanceOf(IllegalStateException.class)
+                            .hasRootCauseMessage("required properties not set: someLong");
+                    assertThatThrownBy(() -> build.invoke(create.invoke(null)))
+                            .hasRootCauseInstanceOf(IllegalStateException.class)
+                            .hasRootCauseMessage("required properties not set: someString, someLong");
+                })
+                .executeTest();
+    }
+
     @Test
     void shouldNotCompileRecordWithZeroComponents() {
         // language=Java
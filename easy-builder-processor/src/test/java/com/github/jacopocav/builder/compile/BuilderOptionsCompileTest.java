@@ -1,71 +1,1253 @@
 package com.github.jacopocav.builder.compile;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+import com.github.jacopocav.builder.annotation.Builder.BatchBuilderGeneration;
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
+import com.github.jacopocav.builder.annotation.Builder.CollectionMembers;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodMode;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.MapBinding;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.RowBinding;
+import com.github.jacopocav.builder.annotation.Builder.UnwrappedSetters;
+import com.github.jacopocav.builder.annotation.Builder.WitherMethodGeneration;
 import com.github.jacopocav.builder.processor.BuilderProcessor;
 import com.github.jacopocav.builder.util.BuilderAssert;
 import com.github.jacopocav.builder.util.SourceUtils;
+import com.github.jacopocav.builder.util.TestCompiler;
 import io.toolisticon.cute.Cute;
 import io.toolisticon.cute.CuteApi.BlackBoxTestSourceFilesInterface;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import javax.tools.Diagnostic;
 import org.instancio.TypeToken;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class BuilderOptionsCompileTest {
+    private static final String packageName = "org.example";
+    private static final String recordSimpleName = "SomeRecord";
+    private static final String recordQualifiedName = packageName + "." + recordSimpleName;
+    public static final String builderQualifiedName = recordQualifiedName + "Builder";
+    private static final String errorPositionTarget = "record " + recordSimpleName;
+    private static final Type listOfIntegers = new TypeToken<List<Integer>>() {}.get();
+
+    private final BlackBoxTestSourceFilesInterface sut =
+            Cute.blackBoxTest().given().processor(BuilderProcessor.class);
+
+    @Test
+    void shouldCompileGivenValidOptions() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(factoryMethodName = "newBuilder")
+            public record SomeRecord(String someString, long someLong, List<Integer> someListOfIntegers) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .andUseCompilerOptions(
+                        "-Aeasy.builder.setterPrefix=set",
+                        "-Aeasy.builder.factoryMethodName=giveMeNewBuilder",
+                        "-Aeasy.builder.buildMethodName=construct")
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(recordQualifiedName)
+                .exists()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    var targetClass = cuteClassLoader.getClass(recordQualifiedName);
+
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(targetClass)
+                            .withProperty(String.class, "someString")
+                            .withProperty(long.class, "someLong")
+                            .withProperty(listOfIntegers, "someListOfIntegers")
+                            .withSetterPrefix("set")
+                            .withBuildMethodName("construct")
+                            .withFactoryMethodName("newBuilder")
+                            .isWellFormed()
+                            .isWellBehaved();
+                })
+                .executeTest();
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {"RESET", "POOLED"})
+    void shouldCompileReusableBuilder(Reuse reuse) {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder
+            public record SomeRecord(
+                    String someString, long someLong, boolean someBoolean, List<Integer> someListOfIntegers) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .andUseCompilerOptions("-Aeasy.builder.reuse=" + reuse)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> BuilderAssert.assertThatBuilder(builderClass)
+                        .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                        .withProperty(String.class, "someString")
+                        .withProperty(long.class, "someLong")
+                        .withProperty(boolean.class, "someBoolean")
+                        .withProperty(listOfIntegers, "someListOfIntegers")
+                        .withReuse(reuse)
+                        .isWellFormed()
+                        .isWellBehaved())
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompilePooledBuilderGivenMemberNamedLikeThePool() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(reuse = Builder.Reuse.POOLED)
+            public record SomeRecord(String POOL, String POOL_) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> BuilderAssert.assertThatBuilder(builderClass)
+                        .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                        .withProperty(String.class, "POOL")
+                        .withProperty(String.class, "POOL_")
+                        .withReuse(Reuse.POOLED)
+                        .isWellFormed()
+                        .isWellBehaved())
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileCopyOnWriteCopyFactoryMethod() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(copyFactoryMethodMode = Builder.CopyFactoryMethodMode.COPY_ON_WRITE)
+            public record SomeRecord(String someString, double someDouble, List<Integer> someListOfIntegers) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    var targetClass = cuteClassLoader.getClass(recordQualifiedName);
+
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(targetClass)
+                            .withProperty(String.class, "someString")
+                            .withProperty(double.class, "someDouble")
+                            .withProperty(listOfIntegers, "someListOfIntegers")
+                            .withCopyFactoryMethodMode(CopyFactoryMethodMode.COPY_ON_WRITE)
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var create = builderClass.getMethod("create");
+                    var from = builderClass.getMethod("from", targetClass);
+                    var someString = builderClass.getMethod("someString", String.class);
+                    var someDouble = builderClass.getMethod("someDouble", double.class);
+                    var someListOfIntegers = builderClass.getMethod("someListOfIntegers", List.class);
+                    var build = builderClass.getMethod("build");
+
+                    var original = build.invoke(someListOfIntegers.invoke(
+                            someDouble.invoke(someString.invoke(create.invoke(null), "string"), 0.0), List.of(1)));
+
+                    // setting the same values returns the original itself
+                    var unchanged = build.invoke(
+                            someDouble.invoke(someString.invoke(from.invoke(null, original), "string"), 0.0));
+                    assertThat(unchanged).isSameAs(original);
+
+                    // -0.0 == 0.0, but it is not the same value
+                    var changed = build.invoke(someDouble.invoke(from.invoke(null, original), -0.0));
+                    assertThat(changed)
+                            .isNotSameAs(original)
+                            .hasFieldOrPropertyWithValue("someString", "string")
+                            .hasFieldOrPropertyWithValue("someDouble", -0.0)
+                            .hasFieldOrPropertyWithValue("someListOfIntegers", List.of(1));
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileWitherMethods() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(
+                    copyFactoryMethod = Builder.CopyFactoryMethodGeneration.DISABLED,
+                    witherMethods = Builder.WitherMethodGeneration.ENABLED)
+            public record SomeRecord(String source, long value, List<Integer> someListOfIntegers) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> BuilderAssert.assertThatBuilder(builderClass)
+                        .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                        .withProperty(String.class, "source")
+                        .withProperty(long.class, "value")
+                        .withProperty(listOfIntegers, "someListOfIntegers")
+                        .withoutCopyFactoryMethod()
+                        .withWitherMethods(WitherMethodGeneration.ENABLED)
+                        .isWellFormed()
+                        .isWellBehaved())
+                .executeTest();
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {"IMMUTABLE_COPY", "HAND_OFF"})
+    void shouldCompileCollectionMembers(CollectionMembers collectionMembers) {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import java.util.Map;
+            import java.util.Set;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder
+            public record SomeRecord(List<Integer> someIntegers, Set<String> someStrings, Map<String, Long> entries) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .andUseCompilerOptions("-Aeasy.builder.collectionMembers=" + collectionMembers)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                            .withProperty(listOfIntegers, "someIntegers")
+                            .withProperty(new TypeToken<Set<String>>() {}.get(), "someStrings")
+                            .withProperty(new TypeToken<Map<String, Long>>() {}.get(), "entries")
+                            .withCollectionMembers(collectionMembers)
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var create = builderClass.getMethod("create");
+                    var someIntegers = builderClass.getMethod("someIntegers", List.class);
+                    var addSomeInteger = builderClass.getMethod("addSomeInteger", Integer.class);
+                    var addAllSomeIntegers = builderClass.getMethod("addAllSomeIntegers", Collection.class);
+                    var ensureSomeIntegersCapacity = builderClass.getMethod("ensureSomeIntegersCapacity", int.class);
+                    var addSomeString = builderClass.getMethod("addSomeString", String.class);
+                    var putEntry = builderClass.getMethod("putEntry", String.class, Long.class);
+                    var build = builderClass.getMethod("build");
+
+                    var builder = create.invoke(null);
+                    var integers = new ArrayList<>(List.of(1));
+                    someIntegers.invoke(builder, integers);
+                    ensureSomeIntegersCapacity.invoke(builder, 10);
+                    addSomeInteger.invoke(builder, 2);
+                    addAllSomeIntegers.invoke(builder, List.of(3, 4));
+                    addSomeString.invoke(builder, "string");
+                    putEntry.invoke(builder, "key", 1L);
+                    var built = build.invoke(builder);
+
+                    // the collection passed to the setter is never modified
+                    assertThat(integers).containsExactly(1);
+                    assertThat(built)
+                            .hasFieldOrPropertyWithValue("someIntegers", List.of(1, 2, 3, 4))
+                            .hasFieldOrPropertyWithValue("someStrings", Set.of("string"))
+                            .hasFieldOrPropertyWithValue("entries", Map.of("key", 1L));
+
+                    // neither are the collections of built instances
+                    addSomeInteger.invoke(builder, 5);
+                    assertThat(build.invoke(builder))
+                            .hasFieldOrPropertyWithValue("someIntegers", List.of(1, 2, 3, 4, 5));
+                    assertThat(built).hasFieldOrPropertyWithValue("someIntegers", List.of(1, 2, 3, 4));
+
+                    var builtIntegers = cuteClassLoader
+                            .getClass(recordQualifiedName)
+                            .getMethod("someIntegers")
+                            .invoke(built);
+                    if (collectionMembers == CollectionMembers.IMMUTABLE_COPY) {
+                        assertThatThrownBy(() -> ((List<?>) builtIntegers).clear())
+                                .isInstanceOf(UnsupportedOperationException.class);
+                    } else {
+                        assertThat(builtIntegers).isInstanceOf(ArrayList.class);
+                    }
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompilePrimitiveArrayMembers() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(collectionMembers = Builder.CollectionMembers.HAND_OFF)
+            public record SomeRecord(int[] someInts, byte[] someBytes) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                            .withProperty(int[].class, "someInts")
+                            .withProperty(byte[].class, "someBytes")
+                            .withCollectionMembers(CollectionMembers.HAND_OFF)
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var create = builderClass.getMethod("create");
+                    var someInts = builderClass.getMethod("someInts", int[].class);
+                    var appendSomeInt = builderClass.getMethod("appendSomeInt", int.class);
+                    var appendSomeBytes =
+                            builderClass.getMethod("appendSomeBytes", byte[].class, int.class, int.class);
+                    var build = builderClass.getMethod("build");
+                    var recordClass = cuteClassLoader.getClass(recordQualifiedName);
+                    var getSomeInts = recordClass.getMethod("someInts");
+
+                    var builder = create.invoke(null);
+                    for (int i = 0; i < 20; i++) {
+                        appendSomeInt.invoke(builder, i);
+                    }
+                    appendSomeBytes.invoke(builder, new byte[] {1, 2, 3, 4}, 1, 2);
+                    var built = build.invoke(builder);
+
+                    // built arrays are exactly sized
+                    assertThat((int[]) getSomeInts.invoke(built))
+                            .containsExactly(IntStream.range(0, 20).toArray());
+                    assertThat((byte[]) recordClass.getMethod("someBytes").invoke(built))
+                            .containsExactly(2, 3);
+
+                    // arrays passed to the setter are never modified, but handed off if nothing is appended
+                    var ints = new int[] {1, 2};
+                    someInts.invoke(builder, (Object) ints);
+                    assertThat(getSomeInts.invoke(build.invoke(builder))).isSameAs(ints);
+                    appendSomeInt.invoke(builder, 3);
+                    assertThat((int[]) getSomeInts.invoke(build.invoke(builder))).containsExactly(1, 2, 3);
+                    assertThat(ints).containsExactly(1, 2);
+
+                    assertThatThrownBy(() -> appendSomeBytes.invoke(builder, new byte[1], 0, 2))
+                            .hasCauseInstanceOf(IndexOutOfBoundsException.class);
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileCollectionMembersGivenMembersNamedLikeTheHelpers() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(collectionMembers = Builder.CollectionMembers.IMMUTABLE_COPY)
+            public record SomeRecord(
+                    List<String> tags, int ensureTagsCapacity, int mutableTags, int[] ids, int mutableIds) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    var builder = builderClass.getMethod("create").invoke(null);
+                    builderClass.getMethod("addTag", String.class).invoke(builder, "a");
+                    builderClass.getMethod("ensureTagsCapacity", int.class).invoke(builder, 1);
+                    builderClass.getMethod("mutableTags", int.class).invoke(builder, 2);
+                    builderClass.getMethod("appendId", int.class).invoke(builder, 3);
+                    builderClass.getMethod("mutableIds", int.class).invoke(builder, 4);
+
+                    var recordClass = cuteClassLoader.getClass(recordQualifiedName);
+                    var expected = recordClass.getConstructors()[0].newInstance(List.of("a"), 1, 2, new int[] {3}, 4);
+                    var built = builderClass.getMethod("build").invoke(builder);
+
+                    assertThat(built)
+                            .usingRecursiveComparison()
+                            .isEqualTo(expected);
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileUnwrappedSetters() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.Optional;
+            import java.util.OptionalInt;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(unwrappedSetters = Builder.UnwrappedSetters.ENABLED)
+            public record SomeRecord(Integer someInteger, OptionalInt someOptionalInt, Optional<String> someString) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                            .withProperty(Integer.class, "someInteger")
+                            .withProperty(new TypeToken<Optional<String>>() {}.get(), "someString")
+                            .withUnwrappedSetters(UnwrappedSetters.ENABLED)
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var create = builderClass.getMethod("create");
+                    var someInteger = builderClass.getMethod("someInteger", Integer.class);
+                    var someUnwrappedInteger = builderClass.getMethod("someInteger", int.class);
+                    var someUnwrappedOptionalInt = builderClass.getMethod("someOptionalInt", int.class);
+                    var someUnwrappedString = builderClass.getMethod("someString", String.class);
+                    var build = builderClass.getMethod("build");
+
+                    var builder = create.invoke(null);
+                    someUnwrappedInteger.invoke(builder, 1);
+                    someUnwrappedOptionalInt.invoke(builder, 2);
+                    someUnwrappedString.invoke(builder, "string");
+                    assertThat(build.invoke(builder))
+                            .hasFieldOrPropertyWithValue("someInteger", 1)
+                            .hasFieldOrPropertyWithValue("someOptionalInt", OptionalInt.of(2))
+                            .hasFieldOrPropertyWithValue("someString", Optional.of("string"));
+
+                    // the last setter called wins, and null unwrapped values are empty optionals
+                    someInteger.invoke(builder, (Object) null);
+                    someUnwrappedString.invoke(builder, (Object) null);
+                    assertThat(build.invoke(builder))
+                            .hasFieldOrPropertyWithValue("someInteger", null)
+                            .hasFieldOrPropertyWithValue("someString", Optional.empty());
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileNestedBuilders() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(nestedBuilders = Builder.NestedBuilders.ENABLED)
+            public record SomeRecord(String someString, SomeRecord.Nested nested) {
+                @Builder(reuse = Builder.Reuse.RESET)
+                public record Nested(String someString, int someInt) {}
+            }
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    var nestedClass = cuteClassLoader.getClass(recordQualifiedName + "$Nested");
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                            .withProperty(String.class, "someString")
+                            .withProperty(nestedClass, "nested")
+                            .withNestedBuilders(NestedBuilders.ENABLED)
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var nestedBuilderClass = cuteClassLoader.getClass(packageName + ".SomeRecord_NestedBuilder");
+                    var nestedSomeString = nestedBuilderClass.getMethod("someString", String.class);
+                    var nestedSomeInt = nestedBuilderClass.getMethod("someInt", int.class);
+                    var create = builderClass.getMethod("create");
+                    var nested = builderClass.getMethod("nested", nestedClass);
+                    var configureNested = builderClass.getMethod("nested", Consumer.class);
+                    var build = builderClass.getMethod("build");
+
+                    // consecutive calls configure the same nested builder
+                    var builder = create.invoke(null);
+                    configureNested.invoke(builder, (Consumer<Object>) b -> invoke(nestedSomeString, b, "string"));
+                    configureNested.invoke(builder, (Consumer<Object>) b -> invoke(nestedSomeInt, b, 1));
+                    assertThat(build.invoke(builder))
+                            .extracting("nested")
+                            .hasFieldOrPropertyWithValue("someString", "string")
+                            .hasFieldOrPropertyWithValue("someInt", 1);
+
+                    // setting the member discards the nested builder, and configuring it again starts anew
+                    nested.invoke(builder, (Object) null);
+                    assertThat(build.invoke(builder)).hasFieldOrPropertyWithValue("nested", null);
+                    configureNested.invoke(builder, (Consumer<Object>) b -> invoke(nestedSomeInt, b, 2));
+                    assertThat(build.invoke(builder))
+                            .extracting("nested")
+                            .hasFieldOrPropertyWithValue("someString", null)
+                            .hasFieldOrPropertyWithValue("someInt", 2);
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldNotNestBuilderThatFailed(@TempDir Path workDir) {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(nestedBuilders = Builder.NestedBuilders.ENABLED)
+            public record SomeRecord(String someString, SomeRecord.Nested nested) {
+                @Builder(jsonCodec = Builder.JsonCodec.ENABLED)
+                public record Nested(Object someObject) {}
+            }
+            """;
+
+        var result = TestCompiler.compile(
+                workDir, new BuilderProcessor(), Map.of(recordQualifiedName, source), List.of());
+
+        // the only error is the one of the nested builder, which the outer builder does not refer to
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.diagnostics())
+                .filteredOn(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                .containsExactly("@Builder processing error: type java.lang.Object of parameter someObject is not "
+                        + "supported by the JSON codec. Change it or disable the JSON codec with jsonCodec=DISABLED");
+        assertThat(result.generatedSource(builderQualifiedName))
+                .contains("public SomeRecordBuilder nested(Nested nested)")
+                .doesNotContain("SomeRecord_NestedBuilder");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"false, false", "true, true"})
+    void shouldOnlyNestBuilderOfOtherSourceWhenEnabledByCompilerArgument(
+            boolean enabledByCompilerArgument, boolean nested, @TempDir Path workDir) {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(nestedBuilders = Builder.NestedBuilders.ENABLED)
+            public record SomeRecord(String someString, OtherRecord other) {}
+            """;
+        // language=Java
+        var otherSource =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder
+            public record OtherRecord(String someString) {}
+            """;
+        var options = enabledByCompilerArgument
+                ? new String[] {"-Aeasy.builder.nestedBuilders=ENABLED"}
+                : new String[] {};
+
+        var result = TestCompiler.compile(
+                workDir,
+                new BuilderProcessor(),
+                Map.of(recordQualifiedName, source, packageName + ".OtherRecord", otherSource),
+                List.of(),
+                options);
+
+        // an isolating processor must not read the builder options of another source
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.generatedSource(builderQualifiedName).contains("other(Consumer<OtherRecordBuilder> other)"))
+                .isEqualTo(nested);
+    }
+
+    @Test
+    void shouldCompileInterning() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(interning = Builder.Interning.ENABLED)
+            public record SomeRecord(String someString, double someDouble, List<Integer> someListOfIntegers) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                            .withProperty(String.class, "someString")
+                            .withProperty(double.class, "someDouble")
+                            .withProperty(listOfIntegers, "someListOfIntegers")
+                            .withInterning(Interning.ENABLED)
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var from = builderClass.getMethod("from", cuteClassLoader.getClass(recordQualifiedName));
+                    var someDouble = builderClass.getMethod("someDouble", double.class);
+                    var someListOfIntegers = builderClass.getMethod("someListOfIntegers", List.class);
+                    var build = builderClass.getMethod("build");
+                    var internHits = builderClass.getMethod("internHits");
+                    var internMisses = builderClass.getMethod("internMisses");
+
+                    var instance = build.invoke(someDouble.invoke(builderClass.getMethod("create").invoke(null), 1.0));
+                    var hits = (long) internHits.invoke(null);
+                    var misses = (long) internMisses.invoke(null);
+
+                    // equal values return the cached instance, different ones a new instance
+                    assertThat(build.invoke(someListOfIntegers.invoke(from.invoke(null, instance), (Object) null)))
+                            .isSameAs(instance);
+                    assertThat(build.invoke(someDouble.invoke(from.invoke(null, instance), -1.0)))
+                            .isNotSameAs(instance)
+                            .hasFieldOrPropertyWithValue("someDouble", -1.0);
+                    assertThat(internHits.invoke(null)).isEqualTo(hits + 1);
+                    assertThat(internMisses.invoke(null)).isEqualTo(misses + 1);
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileInterningGivenMembersNamedLikeTheCacheFields() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(interning = Builder.Interning.ENABLED)
+            public record SomeRecord(String INTERNED, long INTERN_HITS, int INTERN_MISSES) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> BuilderAssert.assertThatBuilder(builderClass)
+                        .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                        .withProperty(String.class, "INTERNED")
+                        .withProperty(long.class, "INTERN_HITS")
+                        .withProperty(int.class, "INTERN_MISSES")
+                        .withInterning(Interning.ENABLED)
+                        .isWellFormed()
+                        .isWellBehaved())
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileJsonCodec() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
 
-class BuilderOptionsCompileTest {
-    private static final String packageName = "org.example";
-    private static final String recordSimpleName = "SomeRecord";
-    private static final String recordQualifiedName = packageName + "." + recordSimpleName;
-    public static final String builderQualifiedName = recordQualifiedName + "Builder";
-    private static final String errorPositionTarget = "record " + recordSimpleName;
-    private static final Type listOfIntegers = new TypeToken<List<Integer>>() {}.get();
+            @Builder(jsonCodec = Builder.JsonCodec.ENABLED)
+            public record SomeRecord(String someString, double someDouble, Integer someInteger, char someChar) {}
+            """;
 
-    private final BlackBoxTestSourceFilesInterface sut =
-            Cute.blackBoxTest().given().processor(BuilderProcessor.class);
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                            .withProperty(String.class, "someString")
+                            .withProperty(double.class, "someDouble")
+                            .withProperty(Integer.class, "someInteger")
+                            .withProperty(char.class, "someChar")
+                            .withJsonCodec(JsonCodec.ENABLED)
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var readJson = builderClass.getMethod("readJson", CharSequence.class);
+                    var readJsonFromReader = builderClass.getMethod("readJson", Reader.class);
+                    var toJson = builderClass.getMethod("toJson", cuteClassLoader.getClass(recordQualifiedName));
+                    var json =
+                            """
+                            {"unknown": [1, {"nested": "}"}], "someChar": "\\"", "someString": "a\\nb\\u00e9",
+                             "someInteger": null, "someDouble": -1.5e3}""";
+
+                    var instance = readJson.invoke(null, json);
+
+                    assertThat(instance)
+                            .hasFieldOrPropertyWithValue("someString", "a\nb\u00e9")
+                            .hasFieldOrPropertyWithValue("someDouble", -1500.0)
+                            .hasFieldOrPropertyWithValue("someInteger", null)
+                            .hasFieldOrPropertyWithValue("someChar", '"');
+                    assertThat(toJson.invoke(null, instance))
+                            .isEqualTo(
+                                    "{\"someString\":\"a\\nb\u00e9\",\"someDouble\":-1500.0,\"someInteger\":null,\"someChar\":\"\\\"\"}");
+                    assertThat(readJsonFromReader.invoke(null, new StringReader(json)))
+                            .isEqualTo(instance);
+                    assertThatThrownBy(() -> readJson.invoke(null, "{\"someInteger\": 1.5}"))
+                            .hasCauseInstanceOf(IllegalArgumentException.class)
+                            .hasRootCauseMessage("malformed JSON at offset 19: expected an integer");
+                })
+                .executeTest();
+    }
 
     @Test
-    void shouldCompileGivenValidOptions() {
+    void shouldCompileBinaryCodec() {
         // language=Java
         var source =
                 """
             package org.example;
-            import java.util.List;
             import com.github.jacopocav.builder.annotation.Builder;
 
-            @Builder(factoryMethodName = "newBuilder")
-            public record SomeRecord(String someString, long someLong, List<Integer> someListOfIntegers) {}
+            @Builder(binaryCodec = Builder.BinaryCodec.ENABLED)
+            public record SomeRecord(String someString, long someLong, Integer someInteger, Thread.State someState) {}
             """;
 
         sut.andSourceFile(recordQualifiedName, source)
-                .andUseCompilerOptions(
-                        "-Aeasy.builder.setterPrefix=set",
-                        "-Aeasy.builder.factoryMethodName=giveMeNewBuilder",
-                        "-Aeasy.builder.buildMethodName=construct")
                 .whenCompiled()
                 .thenExpectThat()
                 .compilationSucceeds()
                 .andThat()
-                .generatedClass(recordQualifiedName)
-                .exists()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    var recordClass = cuteClassLoader.getClass(recordQualifiedName);
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(recordClass)
+                            .withProperty(String.class, "someString")
+                            .withProperty(long.class, "someLong")
+                            .withProperty(Integer.class, "someInteger")
+                            .withProperty(Thread.State.class, "someState")
+                            .withBinaryCodec(BinaryCodec.ENABLED)
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var writeTo = builderClass.getMethod("writeTo", recordClass, ByteBuffer.class);
+                    var readFrom = builderClass.getMethod("readFrom", ByteBuffer.class);
+                    var fingerprint = builderClass.getField("SCHEMA_FINGERPRINT").getInt(null);
+                    var instance = recordClass
+                            .getConstructors()[0]
+                            .newInstance("\u00e9", -1L, null, Thread.State.NEW);
+                    var buffer = ByteBuffer.allocate(64);
+
+                    writeTo.invoke(null, instance, buffer);
+
+                    // fingerprint, length + 1 and UTF-8 bytes, zigzag varint, absent value, ordinal + 1
+                    assertThat(buffer.flip())
+                            .isEqualTo(ByteBuffer.allocate(10)
+                                    .putInt(fingerprint)
+                                    .put(new byte[] {3, (byte) 0xc3, (byte) 0xa9, 1, 0, 1})
+                                    .flip());
+                    assertThat(readFrom.invoke(null, buffer)).isEqualTo(instance);
+                    assertThatThrownBy(() -> readFrom.invoke(null, ByteBuffer.allocate(4).putInt(0, fingerprint + 1)))
+                            .hasCauseInstanceOf(IllegalArgumentException.class)
+                            .hasRootCauseMessage("schema fingerprint mismatch: expected %d, found %d"
+                                    .formatted(fingerprint, fingerprint + 1));
+
+                    // unpaired surrogates are replaced with '?', like String.getBytes() does
+                    var highSurrogate = recordClass.getConstructors()[0].newInstance("a\uD800", 0L, null, null);
+                    var lowSurrogate = recordClass.getConstructors()[0].newInstance("\uDC00b", 0L, null, null);
+
+                    writeTo.invoke(null, highSurrogate, buffer.clear());
+                    assertThat(readFrom.invoke(null, buffer.flip())).hasFieldOrPropertyWithValue("someString", "a?");
+                    writeTo.invoke(null, lowSurrogate, buffer.clear());
+                    assertThat(readFrom.invoke(null, buffer.flip())).hasFieldOrPropertyWithValue("someString", "?b");
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileBinaryCodecGivenMemberNamedLikeTheFingerprint() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(binaryCodec = Builder.BinaryCodec.ENABLED)
+            public record SomeRecord(int SCHEMA_FINGERPRINT) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
                 .andThat()
                 .generatedClass(builderQualifiedName)
                 .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
-                    var targetClass = cuteClassLoader.getClass(recordQualifiedName);
+                    var recordClass = cuteClassLoader.getClass(recordQualifiedName);
+                    var writeTo = builderClass.getMethod("writeTo", recordClass, ByteBuffer.class);
+                    var readFrom = builderClass.getMethod("readFrom", ByteBuffer.class);
+                    var fingerprint = builderClass.getField("SCHEMA_FINGERPRINT_").getInt(null);
+                    var instance = recordClass.getConstructors()[0].newInstance(1);
+                    var buffer = ByteBuffer.allocate(8);
+
+                    writeTo.invoke(null, instance, buffer);
+
+                    assertThat(buffer.getInt(0)).isEqualTo(fingerprint);
+                    assertThat(readFrom.invoke(null, buffer.flip())).isEqualTo(instance);
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileMapBinding() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(mapBinding = Builder.MapBinding.ENABLED)
+            public record SomeRecord(String someString, long someLong, Double someDouble, List<Integer> someListOfIntegers) {}
+            """;
 
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
                     BuilderAssert.assertThatBuilder(builderClass)
-                            .withTargetClass(targetClass)
+                            .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
                             .withProperty(String.class, "someString")
                             .withProperty(long.class, "someLong")
+                            .withProperty(Double.class, "someDouble")
                             .withProperty(listOfIntegers, "someListOfIntegers")
-                            .withSetterPrefix("set")
-                            .withBuildMethodName("construct")
-                            .withFactoryMethodName("newBuilder")
+                            .withMapBinding(MapBinding.ENABLED)
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var fromMap = builderClass.getMethod("fromMap", Map.class);
+
+                    // integral values are widened, as long as they fit
+                    assertThat(fromMap.invoke(null, Map.of("someLong", 1, "someDouble", 2L)))
+                            .hasFieldOrPropertyWithValue("someString", null)
+                            .hasFieldOrPropertyWithValue("someLong", 1L)
+                            .hasFieldOrPropertyWithValue("someDouble", 2.0)
+                            .hasFieldOrPropertyWithValue("someListOfIntegers", null);
+                    assertThatThrownBy(() -> fromMap.invoke(null, Map.of("someLong", 1, "someInt", 2)))
+                            .hasCauseInstanceOf(IllegalArgumentException.class)
+                            .hasRootCauseMessage(
+                                    "unknown property someInt of SomeRecord, expected one of: someString, someLong, someDouble, someListOfIntegers");
+                    assertThatThrownBy(() -> fromMap.invoke(null, Map.of("someLong", 1.5)))
+                            .hasCauseInstanceOf(IllegalArgumentException.class)
+                            .hasRootCauseMessage(
+                                    "invalid value of property someLong: expected an integral number, found 1.5 (java.lang.Double)");
+                    assertThatThrownBy(() -> fromMap.invoke(null, Map.of("someListOfIntegers", Set.of(1))))
+                            .hasCauseInstanceOf(IllegalArgumentException.class)
+                            .hasRootCauseMessage(
+                                    "invalid value of property someListOfIntegers: expected an instance of java.util.List, found [1] (java.util.ImmutableCollections$Set12)");
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileRowBinding() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(rowBinding = Builder.RowBinding.ENABLED)
+            public record SomeRecord(long someLong, String someString, Integer someInteger, Thread.State someState) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                            .withProperty(long.class, "someLong")
+                            .withProperty(String.class, "someString")
+                            .withProperty(Integer.class, "someInteger")
+                            .withProperty(Thread.State.class, "someState")
+                            .withRowBinding(RowBinding.ENABLED)
+                            .isWellFormed()
+                            .isWellBehaved();
+
+                    var metaData = mock(ResultSetMetaData.class);
+                    given(metaData.getColumnCount()).willReturn(4);
+                    given(metaData.getColumnLabel(1)).willReturn("SOME_STRING");
+                    given(metaData.getColumnLabel(2)).willReturn("unknown");
+                    given(metaData.getColumnLabel(3)).willReturn("someLong");
+                    given(metaData.getColumnLabel(4)).willReturn("some_integer");
+                    var resultSet = mock(ResultSet.class);
+                    given(resultSet.getString(1)).willReturn("string");
+                    given(resultSet.getLong(3)).willReturn(42L);
+                    given(resultSet.getInt(4)).willReturn(0);
+                    given(resultSet.wasNull()).willReturn(true);
+
+                    // columns are mapped to properties once, when the binder is created
+                    var resultSetBinder = builderClass
+                            .getMethod("rowBinder", ResultSetMetaData.class)
+                            .invoke(null, metaData);
+                    var bind = resultSetBinder.getClass().getMethod("bind", ResultSet.class);
+
+                    assertThat(bind.invoke(resultSetBinder, resultSet))
+                            .hasFieldOrPropertyWithValue("someLong", 42L)
+                            .hasFieldOrPropertyWithValue("someString", "string")
+                            .hasFieldOrPropertyWithValue("someInteger", null)
+                            .hasFieldOrPropertyWithValue("someState", null);
+                    then(resultSet).should(never()).getString(2);
+
+                    var header = new String[] {"someState", "someInteger", "someLong"};
+                    var textBinder = builderClass.getMethod("rowBinder", String[].class).invoke(null, (Object) header);
+                    var bindText = textBinder.getClass().getMethod("bind", String[].class);
+
+                    assertThat(bindText.invoke(textBinder, (Object) new String[] {"NEW", "", "-1"}))
+                            .hasFieldOrPropertyWithValue("someLong", -1L)
+                            .hasFieldOrPropertyWithValue("someString", null)
+                            .hasFieldOrPropertyWithValue("someInteger", null)
+                            .hasFieldOrPropertyWithValue("someState", Thread.State.NEW);
+                    assertThatThrownBy(() -> bindText.invoke(textBinder, (Object) new String[] {"OLD", "", "1"}))
+                            .hasCauseInstanceOf(IllegalArgumentException.class)
+                            .hasRootCauseMessage(
+                                    "invalid value of property someState: expected a constant of java.lang.Thread$State, found \"OLD\"");
+                })
+                .executeTest();
+    }
+
+    @Test
+    void shouldCompileBatchBuilder() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(batchBuilder = Builder.BatchBuilderGeneration.ENABLED)
+            public record SomeRecord(int someInt, double someDouble, String someString, List<Integer> someList) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> {
+                    BuilderAssert.assertThatBuilder(builderClass)
+                            .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                            .withProperty(int.class, "someInt")
+                            .withProperty(double.class, "someDouble")
+                            .withProperty(String.class, "someString")
+                            .withProperty(new TypeToken<List<Integer>>() {}.get(), "someList")
+                            .withBatchBuilder(BatchBuilderGeneration.ENABLED)
                             .isWellFormed()
                             .isWellBehaved();
+
+                    var batchBuilderClass = Class.forName(
+                            builderQualifiedName + "$BatchBuilder", true, builderClass.getClassLoader());
+                    // the columns grow from an initial capacity of 0
+                    var batch = batchBuilderClass.getConstructor(int.class).newInstance(0);
+                    var append = batchBuilderClass.getMethod(
+                            "append", int.class, double.class, String.class, List.class);
+                    for (int i = 0; i < 1000; i++) {
+                        append.invoke(batch, i, i / 2.0, "string" + i, List.of(i));
+                    }
+
+                    var build = batchBuilderClass.getMethod("build", int.class);
+                    var spliterator = batchBuilderClass.getMethod("spliterator");
+
+                    assertThat(batchBuilderClass.getMethod("size").invoke(batch)).isEqualTo(1000);
+                    assertThat(build.invoke(batch, 999))
+                            .hasFieldOrPropertyWithValue("someInt", 999)
+                            .hasFieldOrPropertyWithValue("someDouble", 499.5)
+                            .hasFieldOrPropertyWithValue("someString", "string999")
+                            .hasFieldOrPropertyWithValue("someList", List.of(999));
+                    assertThatThrownBy(() -> build.invoke(batch, 1000))
+                            .hasCauseInstanceOf(IndexOutOfBoundsException.class);
+
+                    // the rows are split in halves, and built in order by a parallel stream
+                    var rows = (Spliterator<?>) spliterator.invoke(batch);
+                    var prefix = rows.trySplit();
+                    var expected = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        expected.add(build.invoke(batch, i));
+                    }
+
+                    assertThat(prefix.estimateSize()).isEqualTo(500);
+                    assertThat(rows.estimateSize()).isEqualTo(500);
+                    assertThat(StreamSupport.stream((Spliterator<?>) spliterator.invoke(batch), true)
+                                    .toList())
+                            .isEqualTo(expected);
                 })
                 .executeTest();
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "'create().someString(\"string\").someLong(1L).build()', true",
+        "'create().someString(\"string\").someLong(1L).someListOfIntegers(null).build()', true",
+        "'create().someString(\"string\").someListOfIntegers(null).someLong(1L).build()', false",
+        "'create().someString(\"string\").build()', false",
+        "'create().someLong(1L).someString(\"string\").build()', false",
+        "'from(new SomeRecord(\"string\", null, 1L)).someString(\"other\").build()', true",
+    })
+    void shouldCompileStagedBuilder(String usage, boolean compiles, @TempDir Path workDir) {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder(staging = Builder.Staging.REQUIRED)
+            public record SomeRecord(
+                    @Builder.Required String someString,
+                    List<Integer> someListOfIntegers,
+                    @Builder.Required long someLong) {}
+            """;
+        // language=Java
+        var usageSource =
+                """
+            package org.example;
+
+            class Usage {
+                SomeRecord someRecord() {
+                    return SomeRecordBuilder.%s;
+                }
+            }
+            """
+                        .formatted(usage);
+
+        var result = TestCompiler.compile(
+                workDir,
+                new BuilderProcessor(),
+                Map.of(recordQualifiedName, source, packageName + ".Usage", usageSource),
+                List.of());
+
+        assertThat(result.succeeded()).isEqualTo(compiles);
+        assertThat(result.generatedSource(builderQualifiedName))
+                .contains("public static SomeStringStage create()")
+                .contains("public interface SomeStringStage {")
+                .contains("private static final class Staged extends SomeRecordBuilder"
+                        + " implements SomeStringStage, SomeLongStage, FinalStage {")
+                // the compiler already checks that required properties are set
+                .doesNotContain("IllegalStateException");
+    }
+
+    @Test
+    void shouldCompileInParallel() {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import java.util.List;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            public record SomeRecord(String someString, long someLong, List<Integer> someListOfIntegers) {
+                @Builder
+                public SomeRecord {}
+
+                @Builder
+                public record FirstNested(String someString, long someLong) {}
+
+                @Builder
+                public record SecondNested(String someString, List<Integer> someListOfIntegers) {}
+            }
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .andUseCompilerOptions("-Aeasy.builder.parallelism=4")
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationSucceeds()
+                .andThat()
+                .generatedClass(builderQualifiedName)
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> BuilderAssert.assertThatBuilder(builderClass)
+                        .withTargetClass(cuteClassLoader.getClass(recordQualifiedName))
+                        .withProperty(String.class, "someString")
+                        .withProperty(long.class, "someLong")
+                        .withProperty(listOfIntegers, "someListOfIntegers")
+                        .isWellFormed()
+                        .isWellBehaved())
+                .andThat()
+                .generatedClass(recordQualifiedName + "_FirstNestedBuilder")
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> BuilderAssert.assertThatBuilder(builderClass)
+                        .withTargetClass(cuteClassLoader.getClass(recordQualifiedName + "$FirstNested"))
+                        .withProperty(String.class, "someString")
+                        .withProperty(long.class, "someLong")
+                        .isWellFormed()
+                        .isWellBehaved())
+                .andThat()
+                .generatedClass(recordQualifiedName + "_SecondNestedBuilder")
+                .testedSuccessfullyBy((builderClass, cuteClassLoader) -> BuilderAssert.assertThatBuilder(builderClass)
+                        .withTargetClass(cuteClassLoader.getClass(recordQualifiedName + "$SecondNested"))
+                        .withProperty(String.class, "someString")
+                        .withProperty(listOfIntegers, "someListOfIntegers")
+                        .isWellFormed()
+                        .isWellBehaved())
+                .executeTest();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "-1", "many"})
+    void shouldNotCompileGivenInvalidParallelism(String parallelism) {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder
+            public record SomeRecord(String someString) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .andUseCompilerOptions("-Aeasy.builder.parallelism=" + parallelism)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationFails()
+                .andThat()
+                .compilerMessage()
+                .ofKindError()
+                .contains(
+                        "@Builder processing error: value \"%s\" of compiler argument easy.builder.parallelism is not a positive integer"
+                                .formatted(parallelism))
+                .executeTest();
+    }
+
+    @Test
+    void shouldReportStats(@TempDir Path workDir) throws IOException {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder
+            public record SomeRecord(String someString) {}
+            """;
+
+        var result = TestCompiler.compile(
+                workDir,
+                new BuilderProcessor(),
+                Map.of(recordQualifiedName, source),
+                List.of(),
+                "-Aeasy.builder.stats=true",
+                "-Aeasy.builder.statsFile=" + workDir.resolve("reports/stats.json"));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.diagnostics())
+                .filteredOn(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                .anySatisfy(message -> assertThat(message)
+                        .startsWith("@Builder processing stats: 1 annotated element(s) (RECORD: 1)")
+                        .contains("ElementValidator.validate: 1 invocation(s)")
+                        .contains("GeneratedJavaFileWriter.write: 1 invocation(s)"));
+
+        assertThat(result.classOutput().resolve("META-INF")).doesNotExist();
+        var report = Files.readString(workDir.resolve("reports/stats.json"));
+        assertThat(report)
+                .contains("\"GeneratedJavaFileWriter.write\": {\"invocations\": 1,")
+                .contains("\"RECORD\": 1");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"yes", "1"})
+    void shouldNotCompileGivenInvalidStats(String stats) {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder
+            public record SomeRecord(String someString) {}
+            """;
+
+        sut.andSourceFile(recordQualifiedName, source)
+                .andUseCompilerOptions("-Aeasy.builder.stats=" + stats)
+                .whenCompiled()
+                .thenExpectThat()
+                .compilationFails()
+                .andThat()
+                .compilerMessage()
+                .ofKindError()
+                .contains(
+                        "@Builder processing error: value \"%s\" of compiler argument easy.builder.stats is not a boolean"
+                                .formatted(stats))
+                .executeTest();
+    }
+
     @ParameterizedTest
     @CsvSource({
         "easy.builder.setterPrefix,invalid-setter-prefix",
@@ -131,4 +1313,12 @@ class BuilderOptionsCompileTest {
                         .formatted(optionValue, optionName))
                 .executeTest();
     }
+
+    private static void invoke(Method method, Object target, Object argument) {
+        try {
+            method.invoke(target, argument);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,419 @@
+package com.github.jacopocav.builder.compile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import com.github.jacopocav.builder.annotation.GeneratedBuilder;
+import com.github.jacopocav.builder.processor.BuilderProcessor;
+import com.github.jacopocav.builder.util.TestCompiler;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Compiles the same sources with both backends (builder source files and builder class files), checking that the
+ * resulting builders are indistinguishable from the outside.
+ */
+class ClassFileOutputCompileTest {
+    private static final String classFilesOption = "-Aeasy.builder.classFiles=true";
+    private static final String targetQualifiedName = "org.example.SomeTarget";
+    private static final String usageQualifiedName = "org.example.Usage";
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("supportedBuilders")
+    void shouldGenerateClassFileWithSameApiAndBehaviourAsSource(
+            String description,
+            String targetSource,
+            String builderQualifiedName,
+            String usageSource,
+            @TempDir Path workDir)
+            throws Exception {
+        // given
+        var sources = Map.of(targetQualifiedName, targetSource, usageQualifiedName, usageSource);
+
+        // when
+        var sourceBackend =
+                TestCompiler.compile(workDir.resolve("source"), new BuilderProcessor(), sources, List.of());
+        var classFileBackend = TestCompiler.compile(
+                workDir.resolve("classFile"), new BuilderProcessor(), sources, List.of(), classFilesOption);
+
+        // then
+        assertThat(sourceBackend.succeeded()).isTrue();
+        assertThat(classFileBackend.succeeded()).isTrue();
+        assertThat(sourceBackend.hasGeneratedSource(builderQualifiedName)).isTrue();
+        assertThat(classFileBackend.hasGeneratedSource(builderQualifiedName)).isFalse();
+
+        try (var sourceClassLoader = classLoader(sourceBackend);
+                var classFileClassLoader = classLoader(classFileBackend)) {
+            var sourceBuilder = sourceClassLoader.loadClass(builderQualifiedName);
+            var classFileBuilder = classFileClassLoader.loadClass(builderQualifiedName);
+
+            assertThat(describeApi(classFileBuilder)).isNotEmpty().isEqualTo(describeApi(sourceBuilder));
+            assertThat(runUsage(classFileClassLoader)).isNotBlank().isEqualTo(runUsage(sourceClassLoader));
+        }
+    }
+
+    @Test
+    void shouldGenerateSourceGivenBuilderNotSupportedAsClassFile(@TempDir Path workDir) {
+        // language=Java
+        var source =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+            import java.lang.annotation.ElementType;
+            import java.lang.annotation.Target;
+
+            public class SomeTarget {
+                @Target(ElementType.TYPE_USE)
+                public @interface Nullable {}
+
+                @Builder
+                public record Annotated(@Nullable String someString) {}
+
+                @Builder
+                public record NotAnnotated(String someString) {}
+
+                @Builder(reuse = Builder.Reuse.POOLED)
+                public record Pooled(String someString) {}
+
+                @Builder
+                public record Required(@Builder.Required String someString) {}
+
+                @Builder(staging = Builder.Staging.ALL)
+                public record Staged(String someString) {}
+
+                @Builder(collectionMembers = Builder.CollectionMembers.HAND_OFF)
+                public record WithList(java.util.List<String> someStrings) {}
+
+                @Builder(unwrappedSetters = Builder.UnwrappedSetters.ENABLED)
+                public record WithOptional(java.util.OptionalInt someInt) {}
+
+                @Builder(nestedBuilders = Builder.NestedBuilders.ENABLED)
+                public record WithNested(NotAnnotated someNotAnnotated) {}
+
+                @Builder(interning = Builder.Interning.ENABLED)
+                public record Interned(String someString) {}
+
+                @Builder(jsonCodec = Builder.JsonCodec.ENABLED)
+                public record WithJson(String someString) {}
+
+                @Builder(binaryCodec = Builder.BinaryCodec.ENABLED)
+                public record WithBinary(String someString) {}
+
+                @Builder(mapBinding = Builder.MapBinding.ENABLED)
+                public record WithMap(String someString) {}
+
+                @Builder(rowBinding = Builder.RowBinding.ENABLED)
+                public record WithRows(String someString) {}
+
+                @Builder(batchBuilder = Builder.BatchBuilderGeneration.ENABLED)
+                public record WithBatch(String someString) {}
+            }
+            """;
+
+        // when
+        var result = TestCompiler.compile(
+                workDir, new BuilderProcessor(), Map.of(targetQualifiedName, source), List.of(), classFilesOption);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_AnnotatedBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_NotAnnotatedBuilder")).isFalse();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_PooledBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_RequiredBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_StagedBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_WithListBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_WithOptionalBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_WithNestedBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_InternedBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_WithJsonBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_WithBinaryBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_WithMapBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_WithRowsBuilder")).isTrue();
+        assertThat(result.hasGeneratedSource(targetQualifiedName + "_WithBatchBuilder")).isTrue();
+        assertThat(result.classOutput().resolve("org/example/SomeTarget_NotAnnotatedBuilder.class"))
+                .isRegularFile();
+    }
+
+    private static Stream<Arguments> supportedBuilders() {
+        // language=Java
+        var record =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+            import java.util.List;
+            import java.util.Map;
+
+            @Builder
+            public record SomeTarget(
+                    String someString,
+                    int someInt,
+                    long someLong,
+                    double someDouble,
+                    boolean someBoolean,
+                    char someChar,
+                    int[] someInts,
+                    String[][] someStringMatrix,
+                    List<String> someListOfStrings,
+                    Map<String, ? extends Number> someMap,
+                    List<? super Integer> someSink,
+                    List<?> someWildcardList,
+                    Map.Entry<String, Integer> someEntry) {}
+            """;
+
+        // language=Java
+        var recordUsage =
+                """
+            package org.example;
+            import java.util.ArrayList;
+            import java.util.List;
+            import java.util.Map;
+
+            public class Usage {
+                public static String run() {
+                    var target = SomeTargetBuilder.create()
+                            .someString("string")
+                            .someInt(1)
+                            .someLong(2L)
+                            .someDouble(3.5)
+                            .someBoolean(true)
+                            .someChar('c')
+                            .someInts(new int[] {4, 5})
+                            .someStringMatrix(new String[][] {{"matrix"}})
+                            .someListOfStrings(List.of("list"))
+                            .someMap(Map.of("map", 6))
+                            .someSink(new ArrayList<Number>())
+                            .someWildcardList(List.of(7))
+                            .someEntry(Map.entry("entry", 8))
+                            .build();
+                    var copy = SomeTargetBuilder.from(target).someInt(9).build();
+
+                    return target.someString() + copy.someInt() + copy.someLong() + copy.someDouble()
+                            + copy.someBoolean() + copy.someChar() + copy.someInts()[1]
+                            + copy.someStringMatrix()[0][0] + copy.someListOfStrings() + copy.someMap()
+                            + copy.someSink() + copy.someWildcardList() + copy.someEntry();
+                }
+            }
+            """;
+
+        // language=Java
+        var classWithConvertedAccessors =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            public class SomeTarget extends Base {
+                private final Integer unboxed;
+                private final int widened;
+                private final boolean boxed;
+
+                @Builder(witherMethods = Builder.WitherMethodGeneration.ENABLED)
+                public SomeTarget(long inherited, int unboxed, long widened, Object boxed) {
+                    super(inherited);
+                    this.unboxed = unboxed;
+                    this.widened = (int) widened;
+                    this.boxed = (Boolean) boxed;
+                }
+
+                public Integer getUnboxed() {
+                    return unboxed;
+                }
+
+                public int getWidened() {
+                    return widened;
+                }
+
+                public boolean boxed() {
+                    return boxed;
+                }
+
+                @Override
+                public String toString() {
+                    return "SomeTarget(" + inherited + ", " + unboxed + ", " + widened + ", " + boxed + ")";
+                }
+            }
+
+            class Base {
+                protected final long inherited;
+
+                protected Base(long inherited) {
+                    this.inherited = inherited;
+                }
+            }
+            """;
+
+        // language=Java
+        var classUsage =
+                """
+            package org.example;
+
+            public class Usage {
+                public static String run() {
+                    var target = SomeTargetBuilder.create()
+                            .inherited(1)
+                            .unboxed(2)
+                            .widened(3)
+                            .boxed(true)
+                            .build();
+
+                    return target + " " + SomeTargetBuilder.from(target).unboxed(4).build()
+                            + " " + SomeTargetBuilder.withInherited(target, 5)
+                            + " " + SomeTargetBuilder.withUnboxed(target, 6)
+                            + " " + SomeTargetBuilder.withWidened(target, 7)
+                            + " " + SomeTargetBuilder.withBoxed(target, false);
+                }
+            }
+            """;
+
+        // language=Java
+        var staticMethodInInterface =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+            import java.util.List;
+
+            public interface SomeTarget {
+                @Builder(
+                        className = "CustomBuilder",
+                        setterPrefix = "with",
+                        factoryMethodName = "newBuilder",
+                        buildMethodName = "construct",
+                        copyFactoryMethod = Builder.CopyFactoryMethodGeneration.DISABLED,
+                        reuse = Builder.Reuse.RESET)
+                static Nested nested(String someString, List<Integer> someListOfIntegers) {
+                    return new Nested(someString + someListOfIntegers);
+                }
+
+                record Nested(String value) {}
+            }
+            """;
+
+        // language=Java
+        var staticMethodUsage =
+                """
+            package org.example;
+            import java.util.List;
+
+            public class Usage {
+                public static String run() {
+                    var builder = CustomBuilder.newBuilder()
+                            .withSomeString("string")
+                            .withSomeListOfIntegers(List.of(1, 2));
+
+                    return builder.construct() + " " + builder.reset().construct();
+                }
+            }
+            """;
+
+        // language=Java
+        var staticMethodReturningInterface =
+                """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            public interface SomeTarget {
+                String someString();
+
+                int someInt();
+
+                @Builder(className = "InterfaceBuilder", witherMethods = Builder.WitherMethodGeneration.ENABLED)
+                static SomeTarget of(String someString, int someInt) {
+                    return new Impl(someString, someInt);
+                }
+
+                record Impl(String someString, int someInt) implements SomeTarget {}
+            }
+            """;
+
+        // language=Java
+        var interfaceUsage =
+                """
+            package org.example;
+
+            public class Usage {
+                public static String run() {
+                    var target = InterfaceBuilder.create().someString("string").someInt(1).build();
+
+                    return target + " " + InterfaceBuilder.from(target).someInt(2).build()
+                            + " " + InterfaceBuilder.withSomeString(target, "other");
+                }
+            }
+            """;
+
+        return Stream.of(
+                arguments("record", record, "org.example.SomeTargetBuilder", recordUsage),
+                arguments(
+                        "class with converted accessors",
+                        classWithConvertedAccessors,
+                        "org.example.SomeTargetBuilder",
+                        classUsage),
+                arguments(
+                        "static method in interface",
+                        staticMethodInInterface,
+                        "org.example.CustomBuilder",
+                        staticMethodUsage),
+                arguments(
+                        "static method returning an interface",
+                        staticMethodReturningInterface,
+                        "org.example.InterfaceBuilder",
+                        interfaceUsage));
+    }
+
+    private static URLClassLoader classLoader(TestCompiler.Result result) throws MalformedURLException {
+        return new URLClassLoader(
+                new URL[] {result.classOutput().toUri().toURL()}, ClassFileOutputCompileTest.class.getClassLoader());
+    }
+
+    private static String runUsage(ClassLoader classLoader) throws ReflectiveOperationException {
+        return (String) classLoader.loadClass(usageQualifiedName).getMethod("run").invoke(null);
+    }
+
+    /**
+     * Describes everything that can be observed about {@code builderClass} through reflection, with stable ordering
+     */
+    private static List<String> describeApi(Class<?> builderClass) throws ReflectiveOperationException {
+        var api = new ArrayList<String>();
+        api.add(Modifier.toString(builderClass.getModifiers()) + " " + builderClass.getName());
+
+        var annotation = builderClass.getAnnotation(GeneratedBuilder.class);
+        for (var attribute : sortedByName(GeneratedBuilder.class.getDeclaredMethods())) {
+            var value = attribute.invoke(annotation);
+            api.add("@" + attribute.getName() + "=" + (value instanceof Class<?> type ? type.getName() : value));
+        }
+
+        sortedByName(builderClass.getDeclaredFields()).stream()
+                .map(Field::toGenericString)
+                .forEach(api::add);
+        sortedByName(builderClass.getDeclaredConstructors()).stream()
+                .map(Constructor::toGenericString)
+                .forEach(api::add);
+        sortedByName(builderClass.getDeclaredMethods()).stream()
+                .map(Method::toGenericString)
+                .forEach(api::add);
+
+        return api;
+    }
+
+    private static <T extends Member> List<T> sortedByName(T[] members) {
+        return Arrays.stream(members)
+                .sorted(Comparator.<T, String>comparing(Member::getName).thenComparing(Object::toString))
+                .toList();
+    }
+}
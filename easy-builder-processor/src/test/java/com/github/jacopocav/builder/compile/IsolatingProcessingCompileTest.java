@@ -0,0 +1,220 @@
+package com.github.jacopocav.builder.compile;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.jacopocav.builder.processor.BuilderProcessor;
+import com.github.jacopocav.builder.util.TestCompiler;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IsolatingProcessingCompileTest {
+    private static final String firstRecord = "org.example.FirstRecord";
+    private static final String secondClass = "org.example.SecondClass";
+
+    // language=Java
+    private static final String firstRecordSource =
+            """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder
+            public record FirstRecord(String someString, long someLong) {}
+            """;
+
+    // language=Java
+    private static final String secondClassSource =
+            """
+            package org.example;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            public class SecondClass {
+                private final int someInt;
+
+                @Builder
+                public SecondClass(int someInt) {
+                    this.someInt = someInt;
+                }
+
+                public int getSomeInt() {
+                    return someInt;
+                }
+            }
+            """;
+
+    @Test
+    void shouldBeRegisteredAsDynamicProcessor() throws IOException {
+        // the processor declares itself isolating unless nested builders are enabled by the compiler arguments
+        try (var descriptor = BuilderProcessor.class
+                .getClassLoader()
+                .getResourceAsStream("META-INF/gradle/incremental.annotation.processors")) {
+
+            assertThat(descriptor).isNotNull();
+            assertThat(new String(descriptor.readAllBytes(), UTF_8).lines())
+                    .containsExactly(BuilderProcessor.class.getName() + ",dynamic");
+        }
+    }
+
+    @Test
+    void shouldDeclareAnnotatedElementAsOnlyOriginatingElement(@TempDir Path workDir) {
+        // given
+        var processor = new OriginatingElementsRecorder();
+
+        // when
+        var result = TestCompiler.compile(
+                workDir,
+                processor,
+                Map.of(firstRecord, firstRecordSource, secondClass, secondClassSource),
+                List.of());
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(processor.originatingElements)
+                .containsOnly(
+                        Map.entry(firstRecord + "Builder", List.of(firstRecord)),
+                        Map.entry(secondClass + "Builder", List.of("SecondClass(int)")));
+    }
+
+    @Test
+    void shouldOnlyRegenerateBuilderOfRecompiledSource(@TempDir Path workDir) throws IOException {
+        // given
+        var fullBuildProcessor = new OriginatingElementsRecorder();
+        var fullBuild = TestCompiler.compile(
+                workDir,
+                fullBuildProcessor,
+                Map.of(firstRecord, firstRecordSource, secondClass, secondClassSource),
+                List.of());
+        assertThat(fullBuild.succeeded()).isTrue();
+        // Gradle requires each file generated by an isolating processor to have exactly one originating element
+        assertThat(fullBuildProcessor.originatingElements)
+                .hasSize(2)
+                .allSatisfy((file, elements) -> assertThat(elements).hasSize(1));
+
+        var secondSource = generatedSourceFile(fullBuild, secondClass + "Builder");
+        var secondClassFile = fullBuild.classOutput().resolve(secondClass.replace('.', '/') + "Builder.class");
+        var secondSourceBytes = Files.readAllBytes(secondSource);
+        var secondSourceModified = Files.getLastModifiedTime(secondSource);
+        var secondClassBytes = Files.readAllBytes(secondClassFile);
+
+        // like Gradle, the files generated from the changed source are deleted before it is recompiled
+        Files.delete(generatedSourceFile(fullBuild, firstRecord + "Builder"));
+        Files.delete(fullBuild.classOutput().resolve(firstRecord.replace('.', '/') + "Builder.class"));
+        Files.delete(fullBuild.classOutput().resolve(firstRecord.replace('.', '/') + ".class"));
+
+        var processor = new OriginatingElementsRecorder();
+
+        // when
+        // an isolating processor only sees the sources that changed: everything else comes from the classpath
+        var incrementalBuild = TestCompiler.compile(
+                workDir,
+                processor,
+                Map.of(firstRecord, firstRecordSource.replace("long someLong", "long someLong, int someInt")),
+                List.of(fullBuild.classOutput()));
+
+        // then
+        assertThat(incrementalBuild.succeeded()).isTrue();
+        assertThat(processor.originatingElements)
+                .containsOnly(Map.entry(firstRecord + "Builder", List.of(firstRecord)));
+        assertThat(incrementalBuild.generatedSource(firstRecord + "Builder")).contains("int someInt");
+        // the builder of the other source is left untouched
+        assertThat(secondSource).hasBinaryContent(secondSourceBytes);
+        assertThat(Files.getLastModifiedTime(secondSource)).isEqualTo(secondSourceModified);
+        assertThat(secondClassFile).hasBinaryContent(secondClassBytes);
+    }
+
+    private static Path generatedSourceFile(TestCompiler.Result result, String qualifiedName) {
+        return result.sourceOutput().resolve(qualifiedName.replace('.', '/') + ".java");
+    }
+
+    /**
+     * Delegates to {@link BuilderProcessor}, keeping track of the originating elements passed to
+     * {@link Filer#createSourceFile(CharSequence, Element...)}
+     */
+    private static class OriginatingElementsRecorder extends AbstractProcessor {
+        private final BuilderProcessor delegate = new BuilderProcessor();
+        private final Map<String, List<String>> originatingElements = new LinkedHashMap<>();
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return delegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return delegate.getSupportedOptions();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return delegate.getSupportedSourceVersion();
+        }
+
+        @Override
+        public synchronized void init(ProcessingEnvironment processingEnv) {
+            super.init(processingEnv);
+
+            var recordingFiler = proxy(Filer.class, processingEnv.getFiler(), (method, args) -> {
+                if (method.getName().equals("createSourceFile")) {
+                    var elements =
+                            Arrays.stream((Element[]) args[1]).map(Element::toString).toList();
+                    originatingElements.put(args[0].toString(), elements);
+                }
+            });
+
+            delegate.init(proxy(ProcessingEnvironment.class, processingEnv, (method, args) -> {}, recordingFiler));
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return delegate.process(annotations, roundEnv);
+        }
+
+        private interface InvocationListener {
+            void beforeInvocation(Method method, Object[] args);
+        }
+
+        private static <T> T proxy(Class<T> type, T target, InvocationListener listener) {
+            return proxy(type, target, listener, null);
+        }
+
+        /**
+         * Creates a proxy that delegates all calls to {@code target}, except for the methods returning
+         * {@link Filer}, which return {@code filer} (if not null)
+         */
+        private static <T> T proxy(Class<T> type, T target, InvocationListener listener, Filer filer) {
+            var proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+                listener.beforeInvocation(method, args);
+
+                if (filer != null && method.getReturnType() == Filer.class) {
+                    return filer;
+                }
+
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+
+            return type.cast(proxy);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.jacopocav.builder.compile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.jacopocav.builder.processor.BuilderProcessor;
+import com.github.jacopocav.builder.util.TestCompiler;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReproducibleOutputCompileTest {
+    private static final String recordQualifiedName = "org.example.SomeRecord";
+    private static final String builderQualifiedName = recordQualifiedName + "Builder";
+
+    // language=Java
+    private static final String source =
+            """
+            package org.example;
+            import java.math.BigDecimal;
+            import java.time.LocalDate;
+            import java.util.List;
+            import java.util.Map;
+            import java.util.UUID;
+            import com.github.jacopocav.builder.annotation.Builder;
+
+            @Builder
+            public record SomeRecord(
+                    UUID id, Map<String, List<LocalDate>> dates, BigDecimal amount, java.awt.List awtList) {}
+            """;
+
+    @Test
+    void shouldGenerateIdenticalOutputAcrossCompilations(@TempDir Path workDir) throws IOException {
+        // when
+        var first = compile(workDir.resolve("first"));
+        var second = compile(workDir.resolve("second"));
+
+        // then
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.succeeded()).isTrue();
+
+        assertSameFiles(first.sourceOutput(), second.sourceOutput());
+        assertSameFiles(first.classOutput(), second.classOutput());
+    }
+
+    @Test
+    void shouldOmitCreationTimestampAndSortImports(@TempDir Path workDir) {
+        // when
+        var result = compile(workDir);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+
+        var builderSource = result.generatedSource(builderQualifiedName);
+        assertThat(builderSource).doesNotContain("date =");
+
+        var imports = builderSource
+                .lines()
+                .map(String::strip)
+                .filter(line -> line.startsWith("import "))
+                .toList();
+        assertThat(imports).isNotEmpty().isSorted();
+    }
+
+    private static TestCompiler.Result compile(Path workDir) {
+        return TestCompiler.compile(
+                workDir,
+                new BuilderProcessor(),
+                Map.of(recordQualifiedName, source),
+                List.of(),
+                "-Aeasy.builder.reproducible=true");
+    }
+
+    private static void assertSameFiles(Path expectedDir, Path actualDir) throws IOException {
+        var expectedFiles = listFiles(expectedDir);
+
+        assertThat(listFiles(actualDir)).isNotEmpty().isEqualTo(expectedFiles);
+        for (var file : expectedFiles) {
+            assertThat(Files.readAllBytes(actualDir.resolve(file)))
+                    .as(file)
+                    .isEqualTo(Files.readAllBytes(expectedDir.resolve(file)));
+        }
+    }
+
+    private static List<String> listFiles(Path dir) throws IOException {
+        try (var files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> dir.relativize(file).toString())
+                    .sorted()
+                    .toList();
+        }
+    }
+}
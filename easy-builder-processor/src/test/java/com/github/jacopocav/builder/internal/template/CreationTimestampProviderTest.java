@@ -0,0 +1,86 @@
+package com.github.jacopocav.builder.internal.template;
+
+import static com.github.jacopocav.builder.internal.template.CreationTimestampProvider.SOURCE_DATE_EPOCH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CreationTimestampProviderTest {
+    private static final Instant NOW = Instant.parse("2024-05-06T07:08:09Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final UnaryOperator<String> EMPTY_ENVIRONMENT = name -> null;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldReturnSourceDateEpochWhenSet(boolean reproducible) {
+        // given
+        var sut = new CreationTimestampProvider(CLOCK, reproducible, environment(" 1700000000\n"));
+
+        // when
+        var actual = sut.get();
+
+        // then
+        assertThat(actual).contains(OffsetDateTime.parse("2023-11-14T22:13:20Z"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "yesterday", "1.5", "99999999999999999999"})
+    void shouldIgnoreInvalidSourceDateEpoch(String sourceDateEpoch) {
+        // given
+        var sut = new CreationTimestampProvider(CLOCK, false, environment(sourceDateEpoch));
+
+        // when
+        var actual = sut.get();
+
+        // then
+        assertThat(actual).contains(NOW.atOffset(ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldIgnoreInvalidSourceDateEpochGivenReproducibleOutput() {
+        // given
+        var sut = new CreationTimestampProvider(CLOCK, true, environment("yesterday"));
+
+        // when
+        var actual = sut.get();
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNothingGivenReproducibleOutputWithoutSourceDateEpoch() {
+        // given
+        var sut = new CreationTimestampProvider(CLOCK, true, EMPTY_ENVIRONMENT);
+
+        // when
+        var actual = sut.get();
+
+        // then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void shouldReturnCurrentTimeByDefault() {
+        // given
+        var sut = new CreationTimestampProvider(CLOCK, false, EMPTY_ENVIRONMENT);
+
+        // when
+        var actual = sut.get();
+
+        // then
+        assertThat(actual).contains(NOW.atOffset(ZoneOffset.UTC));
+    }
+
+    private static UnaryOperator<String> environment(String sourceDateEpoch) {
+        return Map.of(SOURCE_DATE_EPOCH, sourceDateEpoch)::get;
+    }
+}
@@ -4,6 +4,7 @@ import static com.github.jacopocav.builder.internal.error.AggregatedProcessingEx
 import static com.github.jacopocav.builder.internal.error.ProcessingException.processingException;
 import static io.toolisticon.cute.Cute.unitTest;
 import static java.util.Objects.requireNonNullElse;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -12,21 +13,33 @@ import static org.mockito.BDDMockito.*;
 
 import com.github.jacopocav.builder.annotation.Builder;
 import com.github.jacopocav.builder.internal.BuilderGenerator;
+import com.github.jacopocav.builder.internal.BuilderGenerator.PreparedBuilder;
 import com.github.jacopocav.builder.internal.error.ProcessingException;
 import com.github.jacopocav.builder.internal.error.printer.ProcessingExceptionPrinter;
 import com.github.jacopocav.builder.internal.generation.GeneratedJavaFile;
 import com.github.jacopocav.builder.internal.option.BuilderOption;
 import com.github.jacopocav.builder.internal.option.OptionCompilerArgumentsValidator;
+import com.github.jacopocav.builder.internal.option.ProcessorOption;
+import com.github.jacopocav.builder.internal.option.ProcessorOptions;
+import com.github.jacopocav.builder.internal.stats.ProcessingStats;
+import com.github.jacopocav.builder.internal.stats.ProcessingStatsReporter;
+import com.github.jacopocav.builder.internal.template.RenderableBuilder;
+import com.github.jacopocav.builder.internal.util.RoundScopedCache;
 import com.github.jacopocav.builder.internal.writer.GeneratedJavaFileWriter;
 import com.github.jacopocav.builder.util.mock.ContextMock;
+import gg.jte.TemplateOutput;
+import gg.jte.models.runtime.JteModel;
 import io.toolisticon.cute.PassIn;
 import io.toolisticon.cute.UnitTest;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.stream.Stream;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
@@ -36,6 +49,8 @@ import org.instancio.junit.InstancioExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -61,15 +76,29 @@ class BuilderProcessorTest {
     @Mock
     private GeneratedJavaFileWriter generatedJavaFileWriter;
 
+    @Mock
+    private RoundScopedCache roundScopedCache;
+
+    @Mock
+    private ProcessingStatsReporter processingStatsReporter;
+
     private BuilderProcessor sut;
 
     @BeforeEach
     void setUp() {
-        sut = new BuilderProcessor(new ContextMock(
+        sut = createProcessor(ProcessorOptions.defaults(), ProcessingStats.disabled());
+    }
+
+    private BuilderProcessor createProcessor(ProcessorOptions processorOptions, ProcessingStats processingStats) {
+        return new BuilderProcessor(new ContextMock(
                 builderGenerator,
                 optionCompilerArgumentsValidator,
                 generatedJavaFileWriter,
-                processingExceptionPrinter));
+                processingExceptionPrinter,
+                processorOptions,
+                List.of(roundScopedCache),
+                processingStats,
+                processingStatsReporter));
     }
 
     @Test
@@ -99,8 +128,12 @@ class BuilderProcessorTest {
     @Test
     void shouldSupportExpectedOptions() {
         // given
-        var expected =
-                BuilderOption.all().stream().map(BuilderOption::compilerName).collect(toUnmodifiableSet());
+        var expected = Stream.of(
+                        BuilderOption.all().stream().map(BuilderOption::compilerName),
+                        ProcessorOption.all().stream().map(ProcessorOption::compilerName),
+                        Stream.of("org.gradle.annotation.processing.isolating"))
+                .flatMap(identity())
+                .collect(toUnmodifiableSet());
 
         // when
         var result = sut.getSupportedOptions();
@@ -109,6 +142,28 @@ class BuilderProcessorTest {
         assertThat(result).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "ENABLED, org.gradle.annotation.processing.aggregating, org.gradle.annotation.processing.isolating",
+        "DISABLED, org.gradle.annotation.processing.isolating, org.gradle.annotation.processing.aggregating"
+    })
+    void shouldBeAggregatingOnlyWhenNestedBuildersAreEnabledByCompilerArgument(
+            String nestedBuilders,
+            String expected,
+            String unexpected,
+            @Mock ProcessingEnvironment processingEnvironment) {
+        // given
+        given(processingEnvironment.getOptions())
+                .willReturn(Map.of(BuilderOption.NESTED_BUILDERS.compilerName(), nestedBuilders));
+        sut.init(processingEnvironment);
+
+        // when
+        var result = sut.getSupportedOptions();
+
+        // then
+        assertThat(result).contains(expected).doesNotContain(unexpected);
+    }
+
     @Test
     void shouldPrintOptionArgumentsErrors(@Given String errorMessage1, @Given String errorMessage2) {
         UnitTest<Element> unitTest = (processingEnv, element) -> {
@@ -169,6 +224,64 @@ class BuilderProcessorTest {
                 .executeTest();
     }
 
+    @Test
+    void shouldClearRoundScopedCachesAtTheEndOfEachRound() {
+        UnitTest<Element> unitTest = (processingEnv, element) -> {
+            // given
+            sut.init(processingEnv);
+
+            given(optionCompilerArgumentsValidator.validate(Map.of())).willReturn(List.of());
+
+            // when
+            sut.process(Set.of(), roundEnvironment);
+            sut.process(Set.of(), roundEnvironment);
+
+            // then
+            verify(roundScopedCache, times(2)).clear();
+            verifyNoMoreInteractions(roundScopedCache);
+        };
+
+        unitTest()
+                .when()
+                .passInElement()
+                .fromClass(PassedIn.class)
+                .intoUnitTest(unitTest)
+                .thenExpectThat()
+                .compilationSucceeds()
+                .executeTest();
+    }
+
+    @Test
+    void shouldReportStatsWhenProcessingIsOver() {
+        UnitTest<Element> unitTest = (processingEnv, element) -> {
+            // given
+            var processingStats = ProcessingStats.enabled();
+            var statsSut = createProcessor(new ProcessorOptions(1, true, null, false, false), processingStats);
+            statsSut.init(processingEnv);
+
+            given(optionCompilerArgumentsValidator.validate(Map.of())).willReturn(List.of());
+            given(roundEnvironment.processingOver()).willReturn(false, true);
+
+            // when
+            statsSut.process(Set.of(), roundEnvironment);
+            statsSut.process(Set.of(), roundEnvironment);
+
+            // then
+            verify(roundEnvironment, times(2)).processingOver();
+            verify(processingStatsReporter).report(processingStats);
+            verifyNoMoreInteractions(processingStatsReporter);
+        };
+
+        unitTest()
+                .when()
+                .passInElement()
+                .fromClass(PassedIn.class)
+                .intoUnitTest(unitTest)
+                .thenExpectThat()
+                .compilationSucceeds()
+                .executeTest();
+    }
+
     @Test
     void shouldPrintSingleError(@Given String errorMessage) {
         UnitTest<Element> unitTest = (processingEnv, element) -> {
@@ -180,7 +293,7 @@ class BuilderProcessorTest {
             given(optionCompilerArgumentsValidator.validate(Map.of())).willReturn(Set.of());
             willReturn(Set.of(element)).given(roundEnvironment).getElementsAnnotatedWith(annotation);
 
-            given(builderGenerator.generate(element)).willThrow(error);
+            given(builderGenerator.prepare(element)).willThrow(error);
 
             will(invocation -> {
                         processingEnv.getMessager().printError(errorMessage);
@@ -199,8 +312,9 @@ class BuilderProcessorTest {
                     roundEnvironment, optionCompilerArgumentsValidator, builderGenerator, processingExceptionPrinter);
             inOrder.verify(optionCompilerArgumentsValidator).validate(Map.of());
             inOrder.verify(roundEnvironment).getElementsAnnotatedWith(annotation);
-            inOrder.verify(builderGenerator).generate(element);
+            inOrder.verify(builderGenerator).prepare(element);
             inOrder.verify(processingExceptionPrinter).print(error);
+            inOrder.verify(builderGenerator).discardNestedBuilders(List.of(element));
             inOrder.verifyNoMoreInteractions();
 
             verifyNoInteractions(annotation);
@@ -232,7 +346,7 @@ class BuilderProcessorTest {
             given(optionCompilerArgumentsValidator.validate(Map.of())).willReturn(Set.of());
             willReturn(Set.of(element)).given(roundEnvironment).getElementsAnnotatedWith(annotation);
 
-            given(builderGenerator.generate(element)).willThrow(aggregatedError);
+            given(builderGenerator.prepare(element)).willThrow(aggregatedError);
 
             will(invocation -> {
                         processingEnv.getMessager().printError(firstErrorMessage, element);
@@ -252,8 +366,9 @@ class BuilderProcessorTest {
                     roundEnvironment, optionCompilerArgumentsValidator, builderGenerator, processingExceptionPrinter);
             inOrder.verify(optionCompilerArgumentsValidator).validate(Map.of());
             inOrder.verify(roundEnvironment).getElementsAnnotatedWith(annotation);
-            inOrder.verify(builderGenerator).generate(element);
+            inOrder.verify(builderGenerator).prepare(element);
             inOrder.verify(processingExceptionPrinter).print(aggregatedError);
+            inOrder.verify(builderGenerator).discardNestedBuilders(List.of(element));
             inOrder.verifyNoMoreInteractions();
 
             verifyNoInteractions(annotation);
@@ -281,17 +396,18 @@ class BuilderProcessorTest {
     private ArgumentCaptor<ProcessingException> processingExceptionCaptor;
 
     @Test
-    void shouldPrintIOError() {
+    void shouldPrintIOError(@Mock JteModel jteModel) {
         var message = "BOOM!";
         UnitTest<Element> unitTest = (processingEnv, element) -> {
             // given
             sut.init(processingEnv);
-            var javaFile = new GeneratedJavaFile("wrong.package.name.SomeClass", "can't compile this");
+            var builder = new RenderableBuilder.Template("wrong.package.name.SomeClass", element, jteModel);
+            var javaFile = builder.renderLazily();
 
             given(optionCompilerArgumentsValidator.validate(Map.of())).willReturn(Set.of());
             willReturn(Set.of(element)).given(roundEnvironment).getElementsAnnotatedWith(annotation);
 
-            given(builderGenerator.generate(element)).willReturn(javaFile);
+            given(builderGenerator.prepare(element)).willReturn(new PreparedBuilder(builder, Set.of()));
             willThrow(new UncheckedIOException(new IOException(message)))
                     .given(generatedJavaFileWriter)
                     .write(javaFile);
@@ -317,9 +433,10 @@ class BuilderProcessorTest {
                     generatedJavaFileWriter);
             inOrder.verify(optionCompilerArgumentsValidator).validate(Map.of());
             inOrder.verify(roundEnvironment).getElementsAnnotatedWith(annotation);
-            inOrder.verify(builderGenerator).generate(element);
+            inOrder.verify(builderGenerator).prepare(element);
             inOrder.verify(generatedJavaFileWriter).write(javaFile);
             inOrder.verify(processingExceptionPrinter).print(processingExceptionCaptor.capture());
+            inOrder.verify(builderGenerator).discardNestedBuilders(List.of());
             inOrder.verifyNoMoreInteractions();
 
             verifyNoInteractions(annotation);
@@ -343,21 +460,16 @@ class BuilderProcessorTest {
     }
 
     @Test
-    void shouldSucceed() {
+    void shouldSucceed(@Mock JteModel jteModel) {
         UnitTest<Element> unitTest = (processingEnv, element) -> {
             // given
             sut.init(processingEnv);
-            var javaFile = new GeneratedJavaFile(
-                    "org.example.SomeExample",
-                    """
-                package org.example;
-                public class SomeExample {}
-                """);
+            var builder = new RenderableBuilder.Template("org.example.SomeExample", element, jteModel);
 
             given(optionCompilerArgumentsValidator.validate(Map.of())).willReturn(Set.of());
             willReturn(Set.of(element)).given(roundEnvironment).getElementsAnnotatedWith(annotation);
 
-            given(builderGenerator.generate(element)).willReturn(javaFile);
+            given(builderGenerator.prepare(element)).willReturn(new PreparedBuilder(builder, Set.of()));
 
             // when
             var result = sut.process(Set.of(annotation), roundEnvironment);
@@ -365,10 +477,13 @@ class BuilderProcessorTest {
             // then
             assertThat(result).isTrue();
 
-            var inOrder = inOrder(roundEnvironment, optionCompilerArgumentsValidator, builderGenerator);
+            var inOrder = inOrder(
+                    roundEnvironment, optionCompilerArgumentsValidator, builderGenerator, generatedJavaFileWriter);
             inOrder.verify(optionCompilerArgumentsValidator).validate(Map.of());
             inOrder.verify(roundEnvironment).getElementsAnnotatedWith(annotation);
-            inOrder.verify(builderGenerator).generate(element);
+            inOrder.verify(builderGenerator).prepare(element);
+            inOrder.verify(generatedJavaFileWriter).write(builder.renderLazily());
+            inOrder.verify(builderGenerator).discardNestedBuilders(List.of());
             inOrder.verifyNoMoreInteractions();
 
             verifyNoInteractions(annotation, processingExceptionPrinter);
@@ -384,6 +499,188 @@ class BuilderProcessorTest {
                 .executeTest();
     }
 
+    @Test
+    void shouldRenderOutsideCompilerThreadAndWriteOnCompilerThreadWhenParallel(@Mock JteModel jteModel) {
+        UnitTest<Element> unitTest = (processingEnv, element) -> {
+            // given
+            var parallelSut =
+                    createProcessor(new ProcessorOptions(2, false, null, false, false), ProcessingStats.disabled());
+            parallelSut.init(processingEnv);
+
+            var compilerThread = Thread.currentThread();
+            var source =
+                    """
+                package org.example;
+                public class SomeExample {}
+                """;
+            var expectedJavaFile = new GeneratedJavaFile("org.example.SomeExample", element, source);
+
+            given(optionCompilerArgumentsValidator.validate(Map.of())).willReturn(Set.of());
+            willReturn(Set.of(element)).given(roundEnvironment).getElementsAnnotatedWith(annotation);
+            given(builderGenerator.prepare(element))
+                    .willReturn(new PreparedBuilder(
+                            new RenderableBuilder.Template("org.example.SomeExample", element, jteModel), Set.of()));
+            given(jteModel.render()).will(invocation -> {
+                assertThat(Thread.currentThread()).isNotSameAs(compilerThread);
+                return source;
+            });
+            will(invocation -> {
+                        assertThat(Thread.currentThread()).isSameAs(compilerThread);
+                        return null;
+                    })
+                    .given(generatedJavaFileWriter)
+                    .write(expectedJavaFile);
+
+            // when
+            var result = parallelSut.process(Set.of(annotation), roundEnvironment);
+
+            // then
+            assertThat(result).isTrue();
+
+            var inOrder = inOrder(
+                    roundEnvironment,
+                    optionCompilerArgumentsValidator,
+                    builderGenerator,
+                    jteModel,
+                    generatedJavaFileWriter);
+            inOrder.verify(optionCompilerArgumentsValidator).validate(Map.of());
+            inOrder.verify(roundEnvironment).getElementsAnnotatedWith(annotation);
+            inOrder.verify(builderGenerator).prepare(element);
+            inOrder.verify(jteModel).render();
+            inOrder.verify(generatedJavaFileWriter).write(expectedJavaFile);
+
+            // rendering may still be running while the compiler thread discards the failed builders
+            var compilerThreadOrder = inOrder(builderGenerator, generatedJavaFileWriter);
+            compilerThreadOrder.verify(builderGenerator).prepare(element);
+            compilerThreadOrder.verify(builderGenerator).discardNestedBuilders(List.of());
+            compilerThreadOrder.verify(generatedJavaFileWriter).write(expectedJavaFile);
+
+            verify(jteModel, never()).render(any(TemplateOutput.class));
+            verifyNoInteractions(annotation, processingExceptionPrinter);
+        };
+
+        unitTest()
+                .when()
+                .passInElement()
+                .fromClass(PassedIn.class)
+                .intoUnitTest(unitTest)
+                .thenExpectThat()
+                .compilationSucceeds()
+                .executeTest();
+    }
+
+    @Test
+    void shouldOnlyPrepareAgainBuildersNestingFailedBuilder(
+            @Given String errorMessage,
+            @Mock JteModel jteModel,
+            @Mock Element nestingElement,
+            @Mock Element otherElement,
+            @Mock TypeElement failedType) {
+        UnitTest<Element> unitTest = (processingEnv, element) -> {
+            // given
+            sut.init(processingEnv);
+            var error = processingException(element, errorMessage);
+            var nestingBuilder = new RenderableBuilder.Template("org.example.Nesting", nestingElement, jteModel);
+            var preparedAgainBuilder = new RenderableBuilder.Template("org.example.Again", nestingElement, jteModel);
+            var otherBuilder = new RenderableBuilder.Template("org.example.Other", otherElement, jteModel);
+
+            given(optionCompilerArgumentsValidator.validate(Map.of())).willReturn(Set.of());
+            willReturn(new LinkedHashSet<>(List.of(nestingElement, element, otherElement)))
+                    .given(roundEnvironment)
+                    .getElementsAnnotatedWith(annotation);
+
+            given(builderGenerator.prepare(nestingElement))
+                    .willReturn(new PreparedBuilder(nestingBuilder, Set.of(failedType)));
+            given(builderGenerator.prepare(element)).willThrow(error);
+            given(builderGenerator.prepare(otherElement)).willReturn(new PreparedBuilder(otherBuilder, Set.of()));
+            given(builderGenerator.discardNestedBuilders(List.of(element))).willReturn(Set.of(failedType));
+            given(builderGenerator.prepareAgain(nestingElement))
+                    .willReturn(new PreparedBuilder(preparedAgainBuilder, Set.of()));
+
+            // when
+            var result = sut.process(Set.of(annotation), roundEnvironment);
+
+            // then
+            assertThat(result).isTrue();
+
+            // builders that do not nest others are written right away, the nesting ones at the end of the round
+            var inOrder = inOrder(builderGenerator, processingExceptionPrinter, generatedJavaFileWriter);
+            inOrder.verify(builderGenerator).prepare(nestingElement);
+            inOrder.verify(builderGenerator).prepare(element);
+            inOrder.verify(processingExceptionPrinter).print(error);
+            inOrder.verify(builderGenerator).prepare(otherElement);
+            inOrder.verify(generatedJavaFileWriter).write(otherBuilder.renderLazily());
+            inOrder.verify(builderGenerator).discardNestedBuilders(List.of(element));
+            inOrder.verify(builderGenerator).prepareAgain(nestingElement);
+            inOrder.verify(builderGenerator).discardNestedBuilders(List.of());
+            inOrder.verify(generatedJavaFileWriter).write(preparedAgainBuilder.renderLazily());
+            inOrder.verifyNoMoreInteractions();
+        };
+
+        unitTest()
+                .when()
+                .passInElement()
+                .fromClass(PassedIn.class)
+                .intoUnitTest(unitTest)
+                .thenExpectThat()
+                .compilationSucceeds()
+                .executeTest();
+    }
+
+    @Test
+    void shouldNotWriteBuilderThatFailsToBePreparedAgain(
+            @Given String errorMessage,
+            @Given String retryErrorMessage,
+            @Mock JteModel jteModel,
+            @Mock Element nestingElement,
+            @Mock TypeElement failedType) {
+        UnitTest<Element> unitTest = (processingEnv, element) -> {
+            // given
+            sut.init(processingEnv);
+            var error = processingException(element, errorMessage);
+            var retryError = processingException(nestingElement, retryErrorMessage);
+            var nestingBuilder = new RenderableBuilder.Template("org.example.Nesting", nestingElement, jteModel);
+
+            given(optionCompilerArgumentsValidator.validate(Map.of())).willReturn(Set.of());
+            willReturn(new LinkedHashSet<>(List.of(nestingElement, element)))
+                    .given(roundEnvironment)
+                    .getElementsAnnotatedWith(annotation);
+
+            given(builderGenerator.prepare(nestingElement))
+                    .willReturn(new PreparedBuilder(nestingBuilder, Set.of(failedType)));
+            given(builderGenerator.prepare(element)).willThrow(error);
+            given(builderGenerator.discardNestedBuilders(List.of(element))).willReturn(Set.of(failedType));
+            given(builderGenerator.prepareAgain(nestingElement)).willThrow(retryError);
+
+            // when
+            var result = sut.process(Set.of(annotation), roundEnvironment);
+
+            // then
+            assertThat(result).isTrue();
+
+            var inOrder = inOrder(builderGenerator, processingExceptionPrinter);
+            inOrder.verify(builderGenerator).prepare(nestingElement);
+            inOrder.verify(builderGenerator).prepare(element);
+            inOrder.verify(processingExceptionPrinter).print(error);
+            inOrder.verify(builderGenerator).discardNestedBuilders(List.of(element));
+            inOrder.verify(builderGenerator).prepareAgain(nestingElement);
+            inOrder.verify(processingExceptionPrinter).print(retryError);
+            inOrder.verify(builderGenerator).discardNestedBuilders(List.of(nestingElement));
+            inOrder.verifyNoMoreInteractions();
+
+            verifyNoInteractions(generatedJavaFileWriter);
+        };
+
+        unitTest()
+                .when()
+                .passInElement()
+                .fromClass(PassedIn.class)
+                .intoUnitTest(unitTest)
+                .thenExpectThat()
+                .compilationSucceeds()
+                .executeTest();
+    }
+
     @PassIn
     private static class PassedIn {}
 
@@ -57,7 +57,9 @@ public abstract class AbstractRichClassAssert<SELF extends AbstractRichClassAsse
                 .orElseThrow(() -> new AssertionError("class %s does not declare method %s"
                         .formatted(actual.getName(), methodSignature(modifiers, returnType, name, parameterTypes))));
 
-        assertModifiersMatch(method, modifiers, method.getModifiers());
+        // the varargs flag shares its bit with transient, but it is not a modifier of the method
+        assertModifiersMatch(
+                method, modifiers, method.getModifiers() & java.lang.reflect.Modifier.methodModifiers());
 
         return myself;
     }
@@ -9,21 +9,43 @@ import static java.util.stream.Collectors.toUnmodifiableMap;
 import static javax.lang.model.element.Modifier.*;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.github.jacopocav.builder.annotation.Builder.BatchBuilderGeneration;
+import com.github.jacopocav.builder.annotation.Builder.BinaryCodec;
+import com.github.jacopocav.builder.annotation.Builder.CollectionMembers;
 import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodGeneration;
+import com.github.jacopocav.builder.annotation.Builder.CopyFactoryMethodMode;
 import com.github.jacopocav.builder.annotation.Builder.Defaults;
+import com.github.jacopocav.builder.annotation.Builder.Interning;
+import com.github.jacopocav.builder.annotation.Builder.JsonCodec;
+import com.github.jacopocav.builder.annotation.Builder.MapBinding;
+import com.github.jacopocav.builder.annotation.Builder.NestedBuilders;
+import com.github.jacopocav.builder.annotation.Builder.Reuse;
+import com.github.jacopocav.builder.annotation.Builder.RowBinding;
+import com.github.jacopocav.builder.annotation.Builder.Staging;
+import com.github.jacopocav.builder.annotation.Builder.UnwrappedSetters;
+import com.github.jacopocav.builder.annotation.Builder.WitherMethodGeneration;
 import com.github.jacopocav.builder.annotation.GeneratedBuilder;
 import com.github.jacopocav.builder.internal.generation.name.NameTemplateInterpolator;
 import com.github.jacopocav.builder.internal.option.BuilderOption;
+import java.io.Reader;
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.sql.ResultSetMetaData;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.instancio.Instancio;
+import org.instancio.TypeToken;
 
 /**
  * Assert class for generated builder classes.
@@ -41,8 +63,21 @@ public class BuilderAssert extends AbstractRichClassAssert<BuilderAssert> {
     private String factoryMethodName = Defaults.FACTORY_METHOD_NAME;
     private CopyFactoryMethodGeneration copyFactoryMethod = Defaults.COPY_FACTORY_METHOD;
     private String copyFactoryMethodName = Defaults.COPY_FACTORY_METHOD_NAME;
+    private CopyFactoryMethodMode copyFactoryMethodMode = Defaults.COPY_FACTORY_METHOD_MODE;
     private String setterPrefix = Defaults.SETTER_PREFIX;
     private String buildMethodName = Defaults.BUILD_METHOD_NAME;
+    private Reuse reuse = Defaults.REUSE;
+    private WitherMethodGeneration witherMethods = Defaults.WITHER_METHODS;
+    private Staging staging = Defaults.STAGING;
+    private CollectionMembers collectionMembers = Defaults.COLLECTION_MEMBERS;
+    private UnwrappedSetters unwrappedSetters = Defaults.UNWRAPPED_SETTERS;
+    private NestedBuilders nestedBuilders = Defaults.NESTED_BUILDERS;
+    private Interning interning = Defaults.INTERNING;
+    private JsonCodec jsonCodec = Defaults.JSON_CODEC;
+    private BinaryCodec binaryCodec = Defaults.BINARY_CODEC;
+    private MapBinding mapBinding = Defaults.MAP_BINDING;
+    private RowBinding rowBinding = Defaults.ROW_BINDING;
+    private BatchBuilderGeneration batchBuilder = Defaults.BATCH_BUILDER;
     private final List<Property> properties = new ArrayList<>();
 
     BuilderAssert(Class<?> builderClass, Class<?> targetClass) {
@@ -86,6 +121,11 @@ public class BuilderAssert extends AbstractRichClassAssert<BuilderAssert> {
         return myself;
     }
 
+    public BuilderAssert withCopyFactoryMethodMode(CopyFactoryMethodMode copyFactoryMethodMode) {
+        this.copyFactoryMethodMode = requireNonNull(copyFactoryMethodMode);
+        return myself;
+    }
+
     public BuilderAssert withBuildMethodName(String buildMethodName) {
         this.buildMethodName = requireNonNull(buildMethodName);
         return myself;
@@ -96,6 +136,66 @@ public class BuilderAssert extends AbstractRichClassAssert<BuilderAssert> {
         return myself;
     }
 
+    public BuilderAssert withReuse(Reuse reuse) {
+        this.reuse = requireNonNull(reuse);
+        return myself;
+    }
+
+    public BuilderAssert withWitherMethods(WitherMethodGeneration witherMethods) {
+        this.witherMethods = requireNonNull(witherMethods);
+        return myself;
+    }
+
+    public BuilderAssert withStaging(Staging staging) {
+        this.staging = requireNonNull(staging);
+        return myself;
+    }
+
+    public BuilderAssert withCollectionMembers(CollectionMembers collectionMembers) {
+        this.collectionMembers = requireNonNull(collectionMembers);
+        return myself;
+    }
+
+    public BuilderAssert withUnwrappedSetters(UnwrappedSetters unwrappedSetters) {
+        this.unwrappedSetters = requireNonNull(unwrappedSetters);
+        return myself;
+    }
+
+    public BuilderAssert withNestedBuilders(NestedBuilders nestedBuilders) {
+        this.nestedBuilders = requireNonNull(nestedBuilders);
+        return myself;
+    }
+
+    public BuilderAssert withInterning(Interning interning) {
+        this.interning = requireNonNull(interning);
+        return myself;
+    }
+
+    public BuilderAssert withJsonCodec(JsonCodec jsonCodec) {
+        this.jsonCodec = requireNonNull(jsonCodec);
+        return myself;
+    }
+
+    public BuilderAssert withBinaryCodec(BinaryCodec binaryCodec) {
+        this.binaryCodec = requireNonNull(binaryCodec);
+        return myself;
+    }
+
+    public BuilderAssert withMapBinding(MapBinding mapBinding) {
+        this.mapBinding = requireNonNull(mapBinding);
+        return myself;
+    }
+
+    public BuilderAssert withRowBinding(RowBinding rowBinding) {
+        this.rowBinding = requireNonNull(rowBinding);
+        return myself;
+    }
+
+    public BuilderAssert withBatchBuilder(BatchBuilderGeneration batchBuilder) {
+        this.batchBuilder = requireNonNull(batchBuilder);
+        return myself;
+    }
+
     public BuilderAssert withProperty(Type type, String name) {
         this.properties.add(new Property(requireNonNull(type), requireNonNull(name)));
         return myself;
@@ -117,11 +217,29 @@ public class BuilderAssert extends AbstractRichClassAssert<BuilderAssert> {
      *     </ul>
      *     <li>If not disabled with {@link #withoutCopyFactoryMethod()},
      *     it must have a public static copy method (with the name specified with {@link #withStrictCopyFactoryMethodName(String)})
+     *     <li>If enabled with {@link #withReuse(Reuse)}, it must have a public {@code reset} method and, if pooled, a
+     *     public static {@code acquire} method and a public {@code release} method
+     *     <li>If enabled with {@link #withWitherMethods(WitherMethodGeneration)}, it must have a public static with-er
+     *     method for every property
+     *     <li>If enabled with {@link #withJsonCodec(JsonCodec)}, it must have the public static {@code readJson},
+     *     {@code writeJson} and {@code toJson} methods
+     *     <li>If enabled with {@link #withBinaryCodec(BinaryCodec)}, it must have the public static {@code writeTo} and
+     *     {@code readFrom} methods
+     *     <li>If enabled with {@link #withMapBinding(MapBinding)}, it must have the public static {@code fromMap}
+     *     method and the public {@code set} method
+     *     <li>If enabled with {@link #withRowBinding(RowBinding)}, it must have the public static {@code rowBinder}
+     *     methods
+     *     <li>If enabled with {@link #withBatchBuilder(BatchBuilderGeneration)}, it must declare a public final batch
+     *     builder class, with the public {@code append}, {@code size}, {@code build}, {@code buildAll} and
+     *     {@code spliterator} methods
      * </ul>
      */
     public BuilderAssert isWellFormed() {
         isPublic();
-        isFinal();
+        if (staging == Staging.DISABLED) {
+            // staged builders are extended by the private implementation of their stages
+            isFinal();
+        }
         hasAnnotation(GeneratedBuilder.class);
         assertGeneratedBuilderAnnotationMatchOptions();
         hasDeclaredConstructor(PRIVATE);
@@ -136,6 +254,40 @@ public class BuilderAssert extends AbstractRichClassAssert<BuilderAssert> {
                     targetClass);
         }
 
+        if (reuse != Reuse.DISABLED) {
+            hasDeclaredMethod(PUBLIC, actual, "reset");
+        }
+        if (reuse == Reuse.POOLED) {
+            hasDeclaredMethod(Set.of(PUBLIC, STATIC), actual, "acquire");
+            hasDeclaredMethod(PUBLIC, void.class, "release");
+        }
+        if (jsonCodec == JsonCodec.ENABLED) {
+            hasDeclaredMethod(Set.of(PUBLIC, STATIC), targetClass, "readJson", CharSequence.class);
+            hasDeclaredMethod(Set.of(PUBLIC, STATIC), targetClass, "readJson", Reader.class);
+            hasDeclaredMethod(Set.of(PUBLIC, STATIC), void.class, "writeJson", targetClass, Appendable.class);
+            hasDeclaredMethod(Set.of(PUBLIC, STATIC), String.class, "toJson", targetClass);
+        }
+        if (binaryCodec == BinaryCodec.ENABLED) {
+            hasDeclaredMethod(Set.of(PUBLIC, STATIC), void.class, "writeTo", targetClass, ByteBuffer.class);
+            hasDeclaredMethod(Set.of(PUBLIC, STATIC), targetClass, "readFrom", ByteBuffer.class);
+        }
+        if (mapBinding == MapBinding.ENABLED) {
+            hasDeclaredMethod(
+                    Set.of(PUBLIC, STATIC), targetClass, "fromMap", new TypeToken<Map<String, ?>>() {}.get());
+            hasDeclaredMethod(PUBLIC, actual, "set", String.class, Object.class);
+        }
+        if (rowBinding == RowBinding.ENABLED) {
+            var rowBinderClass = declaredClass("RowBinder", "row binder");
+            hasDeclaredMethod(Set.of(PUBLIC, STATIC), rowBinderClass, "rowBinder", ResultSetMetaData.class);
+            hasDeclaredMethod(Set.of(PUBLIC, STATIC), rowBinderClass, "rowBinder", String[].class);
+        }
+        if (batchBuilder == BatchBuilderGeneration.ENABLED) {
+            Assertions.assertThat(declaredClass("BatchBuilder", "batch builder"))
+                    .isPublic()
+                    .isFinal()
+                    .hasPublicMethods("append", "size", "build", "buildAll", "spliterator");
+        }
+
         Assertions.assertThat(properties).allSatisfy(property -> {
             hasDeclaredField(PRIVATE, property.type(), property.name());
             hasDeclaredMethod(
@@ -143,11 +295,27 @@ public class BuilderAssert extends AbstractRichClassAssert<BuilderAssert> {
                     actual,
                     composeSetterName(interpolator.interpolate(setterPrefix, targetClass), property.name()),
                     property.type());
+            if (witherMethods == WitherMethodGeneration.ENABLED) {
+                hasDeclaredMethod(
+                        Set.of(PUBLIC, STATIC),
+                        targetClass,
+                        composeSetterName("with", property.name()),
+                        targetClass,
+                        property.type());
+            }
         });
 
         return myself;
     }
 
+    private Class<?> declaredClass(String simpleNamePrefix, String description) {
+        return Arrays.stream(actual.getDeclaredClasses())
+                .filter(nested -> nested.getSimpleName().startsWith(simpleNamePrefix))
+                .findFirst()
+                .orElseThrow(() ->
+                        new AssertionError("class %s does not declare a %s".formatted(actual.getName(), description)));
+    }
+
     private void assertGeneratedBuilderAnnotationMatchOptions() {
         var builderOptionsMap =
                 BuilderOption.all().stream().collect(toUnmodifiableMap(BuilderOption::annotationName, identity()));
@@ -169,6 +337,19 @@ public class BuilderAssert extends AbstractRichClassAssert<BuilderAssert> {
                         case FACTORY_METHOD_NAME -> factoryMethodName;
                         case COPY_FACTORY_METHOD_NAME -> copyFactoryMethodName;
                         case COPY_FACTORY_METHOD -> copyFactoryMethod;
+                        case COPY_FACTORY_METHOD_MODE -> copyFactoryMethodMode;
+                        case REUSE -> reuse;
+                        case WITHER_METHODS -> witherMethods;
+                        case STAGING -> staging;
+                        case COLLECTION_MEMBERS -> collectionMembers;
+                        case UNWRAPPED_SETTERS -> unwrappedSetters;
+                        case NESTED_BUILDERS -> nestedBuilders;
+                        case INTERNING -> interning;
+                        case JSON_CODEC -> jsonCodec;
+                        case BINARY_CODEC -> binaryCodec;
+                        case MAP_BINDING -> mapBinding;
+                        case ROW_BINDING -> rowBinding;
+                        case BATCH_BUILDER -> batchBuilder;
                     };
 
             Assertions.assertThat(generatedBuilderAttributes).containsEntry(name, expected);
@@ -203,6 +384,23 @@ public class BuilderAssert extends AbstractRichClassAssert<BuilderAssert> {
      *     <li>It calls the build method to create a new object.
      *     <li>It asserts that the newly created object is equal to the previously created one.
      * </ul>
+     * With a {@link CopyFactoryMethodMode#COPY_ON_WRITE copy-on-write} copy factory method, it asserts instead that the
+     * object built by the copied builder is the previously created one.
+     * If {@link #withWitherMethods(WitherMethodGeneration) with-er methods} are enabled, for every property it asserts
+     * that the object returned by the with-er method, passing the previously created object and a new random value, is
+     * equal to an object built by a new builder with the same values except for that property.
+     * If the {@link #withJsonCodec(JsonCodec) JSON codec} is enabled, it asserts that the object read from the JSON
+     * written from the previously created object is equal to it, and likewise for the
+     * {@link #withBinaryCodec(BinaryCodec) binary codec}.
+     * If {@link #withMapBinding(MapBinding) map binding} is enabled, it asserts that the object created from a map of
+     * the property names to the same values is equal to the previously created one, and likewise for the object bound
+     * by a {@link #withRowBinding(RowBinding) row binder} from a row of the same values.
+     * If the {@link #withBatchBuilder(BatchBuilderGeneration) batch builder} is enabled, it asserts that the objects
+     * built from two rows of the same values, both by {@code buildAll} and by its spliterator, are equal to the
+     * previously created one.
+     * Finally, if {@link #withReuse(Reuse) reuse} is enabled, it asserts that a reset builder (and, if pooled, a
+     * builder taken from the pool after being released) is equal to a new one, using
+     * {@link #usingRecursiveComparison() recursive comparison}.
      */
     public BuilderAssert isWellBehaved() {
         return isWellBehaved(false, null);
@@ -230,14 +428,13 @@ public class BuilderAssert extends AbstractRichClassAssert<BuilderAssert> {
         try {
             var createMethod = actual.getMethod(interpolator.interpolate(factoryMethodName, targetClass));
             var builder = createMethod.invoke(null);
+            var values = new ArrayList<>();
 
             for (final Property property : properties) {
-                var setter = actual.getMethod(
-                        composeSetterName(interpolator.interpolate(setterPrefix, targetClass), property.name()),
-                        TypeUtils.getClass(property.type()));
                 var randomValue = Instancio.create(property::type);
 
-                setter.invoke(builder, randomValue);
+                setter(property).invoke(builder, randomValue);
+                values.add(randomValue);
             }
 
             var buildMethod = actual.getMethod(interpolator.interpolate(buildMethodName, targetClass));
@@ -245,25 +442,148 @@ public class BuilderAssert extends AbstractRichClassAssert<BuilderAssert> {
 
             Assertions.assertThat(builtValue).isNotNull();
 
+            if (interning == Interning.ENABLED) {
+                Assertions.assertThat(buildMethod.invoke(builder)).isSameAs(builtValue);
+            }
+
             if (copyFactoryMethod == CopyFactoryMethodGeneration.ENABLED) {
                 var fromMethod =
                         actual.getMethod(interpolator.interpolate(copyFactoryMethodName, targetClass), targetClass);
                 var copiedBuilder = fromMethod.invoke(null, builtValue);
                 var copiedValue = buildMethod.invoke(copiedBuilder);
 
-                Assertions.assertThat(copiedBuilder).usingRecursiveComparison().isEqualTo(builder);
-                if (useRecursiveComparison) {
-                    Assertions.assertThat(copiedValue)
-                            .usingRecursiveComparison(configuration)
-                            .isEqualTo(builtValue);
+                if (copyFactoryMethodMode == CopyFactoryMethodMode.COPY_ON_WRITE) {
+                    Assertions.assertThat(copiedValue).isSameAs(builtValue);
                 } else {
-                    Assertions.assertThat(copiedValue).isEqualTo(builtValue);
+                    Assertions.assertThat(copiedBuilder).usingRecursiveComparison().isEqualTo(builder);
+                    assertBuiltValuesEqual(copiedValue, builtValue, useRecursiveComparison, configuration);
+                }
+            }
+
+            if (witherMethods == WitherMethodGeneration.ENABLED) {
+                for (int i = 0; i < properties.size(); i++) {
+                    var property = properties.get(i);
+                    var wither = actual.getMethod(
+                            composeSetterName("with", property.name()),
+                            targetClass,
+                            TypeUtils.getClass(property.type()));
+                    var changedValues = new ArrayList<>(values);
+                    changedValues.set(i, Instancio.create(property::type));
+
+                    var witheredValue = wither.invoke(null, builtValue, changedValues.get(i));
+                    var expectedBuilder = createMethod.invoke(null);
+                    for (int j = 0; j < properties.size(); j++) {
+                        setter(properties.get(j)).invoke(expectedBuilder, changedValues.get(j));
+                    }
+
+                    assertBuiltValuesEqual(
+                            witheredValue,
+                            buildMethod.invoke(expectedBuilder),
+                            useRecursiveComparison,
+                            configuration);
                 }
             }
 
+            if (jsonCodec == JsonCodec.ENABLED) {
+                var json = actual.getMethod("toJson", targetClass).invoke(null, builtValue);
+                var readValue = actual.getMethod("readJson", CharSequence.class).invoke(null, json);
+
+                assertBuiltValuesEqual(readValue, builtValue, useRecursiveComparison, configuration);
+            }
+
+            if (binaryCodec == BinaryCodec.ENABLED) {
+                var buffer = ByteBuffer.allocate(4096);
+                actual.getMethod("writeTo", targetClass, ByteBuffer.class).invoke(null, builtValue, buffer);
+                var readValue = actual.getMethod("readFrom", ByteBuffer.class).invoke(null, buffer.flip());
+
+                Assertions.assertThat(buffer.hasRemaining()).isFalse();
+                assertBuiltValuesEqual(readValue, builtValue, useRecursiveComparison, configuration);
+            }
+
+            if (mapBinding == MapBinding.ENABLED) {
+                var valuesByName = new LinkedHashMap<String, Object>();
+                for (int i = 0; i < properties.size(); i++) {
+                    valuesByName.put(properties.get(i).name(), values.get(i));
+                }
+                var boundValue = actual.getMethod("fromMap", Map.class).invoke(null, valuesByName);
+
+                assertBuiltValuesEqual(boundValue, builtValue, useRecursiveComparison, configuration);
+            }
+
+            if (rowBinding == RowBinding.ENABLED) {
+                var header = properties.stream().map(Property::name).toArray(String[]::new);
+                var rowBinder = actual.getMethod("rowBinder", String[].class).invoke(null, (Object) header);
+                var boundValue = rowBinder
+                        .getClass()
+                        .getMethod("bind", Object[].class)
+                        .invoke(rowBinder, (Object) values.toArray());
+
+                assertBuiltValuesEqual(boundValue, builtValue, useRecursiveComparison, configuration);
+            }
+
+            if (batchBuilder == BatchBuilderGeneration.ENABLED) {
+                var batchBuilderClass = declaredClass("BatchBuilder", "batch builder");
+                var batch = batchBuilderClass.getConstructor().newInstance();
+                var append = batchBuilderClass.getMethod(
+                        "append",
+                        properties.stream()
+                                .map(property -> TypeUtils.getClass(property.type()))
+                                .toArray(Class<?>[]::new));
+                append.invoke(batch, values.toArray());
+                append.invoke(batch, values.toArray());
+                var batchValues = (Object[]) batchBuilderClass
+                        .getMethod("buildAll", targetClass.arrayType())
+                        .invoke(batch, Array.newInstance(targetClass, 2));
+                var spliterator = (Spliterator<?>) batchBuilderClass.getMethod("spliterator").invoke(batch);
+
+                Assertions.assertThat(batchBuilderClass.getMethod("size").invoke(batch)).isEqualTo(2);
+                Assertions.assertThat(batchValues)
+                        .allSatisfy(batchValue -> assertBuiltValuesEqual(
+                                batchValue, builtValue, useRecursiveComparison, configuration));
+                Assertions.assertThat(StreamSupport.stream(spliterator, true).toList())
+                        .hasSize(2)
+                        .allSatisfy(batchValue -> assertBuiltValuesEqual(
+                                batchValue, builtValue, useRecursiveComparison, configuration));
+            }
+
+            if (reuse != Reuse.DISABLED) {
+                var resetBuilder = actual.getMethod("reset").invoke(builder);
+
+                Assertions.assertThat(resetBuilder)
+                        .isSameAs(builder)
+                        .usingRecursiveComparison()
+                        .isEqualTo(createMethod.invoke(null));
+            }
+            if (reuse == Reuse.POOLED) {
+                actual.getMethod("release").invoke(builder);
+                var pooledBuilder = actual.getMethod("acquire").invoke(null);
+
+                Assertions.assertThat(pooledBuilder).usingRecursiveComparison().isEqualTo(createMethod.invoke(null));
+            }
+
             return myself;
         } catch (ReflectiveOperationException e) {
             return fail(e);
         }
     }
+
+    private Method setter(Property property) throws NoSuchMethodException {
+        return actual.getMethod(
+                composeSetterName(interpolator.interpolate(setterPrefix, targetClass), property.name()),
+                TypeUtils.getClass(property.type()));
+    }
+
+    private static void assertBuiltValuesEqual(
+            Object actualValue,
+            Object expectedValue,
+            boolean useRecursiveComparison,
+            RecursiveComparisonConfiguration configuration) {
+        if (useRecursiveComparison) {
+            Assertions.assertThat(actualValue)
+                    .usingRecursiveComparison(configuration)
+                    .isEqualTo(expectedValue);
+        } else {
+            Assertions.assertThat(actualValue).isEqualTo(expectedValue);
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package com.github.jacopocav.builder.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles sources on disk with the system java compiler, for tests that need access to the compiler
+ * output (e.g. generated files as bytes, or classes compiled in a previous compilation).
+ */
+public class TestCompiler {
+    private TestCompiler() {}
+
+    public record Result(
+            boolean succeeded,
+            List<Diagnostic<? extends JavaFileObject>> diagnostics,
+            Path sourceOutput,
+            Path classOutput) {
+
+        public String generatedSource(String qualifiedName) {
+            return readString(sourceOutput.resolve(qualifiedName.replace('.', '/') + ".java"));
+        }
+
+        public boolean hasGeneratedSource(String qualifiedName) {
+            return Files.exists(sourceOutput.resolve(qualifiedName.replace('.', '/') + ".java"));
+        }
+    }
+
+    /**
+     * Compiles {@code sources} (qualified class name to source code) inside {@code workDir}, using
+     * {@code processor} as the only annotation processor.
+     *
+     * @param classpath additional classpath entries, appended to the classpath of the current JVM
+     */
+    public static Result compile(
+            Path workDir,
+            Processor processor,
+            Map<String, String> sources,
+            Collection<Path> classpath,
+            String... options) {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+        var sourceDir = workDir.resolve("src");
+        var sourceOutput = workDir.resolve("generated");
+        var classOutput = workDir.resolve("classes");
+
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, UTF_8)) {
+            Files.createDirectories(sourceOutput);
+            Files.createDirectories(classOutput);
+
+            var sourceFiles = new ArrayList<Path>();
+            for (var source : sources.entrySet()) {
+                var file = sourceDir.resolve(source.getKey().replace('.', '/') + ".java");
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, source.getValue());
+                sourceFiles.add(file);
+            }
+
+            var fullClasspath = Stream.concat(
+                            Stream.of(System.getProperty("java.class.path")), classpath.stream().map(Path::toString))
+                    .collect(joining(File.pathSeparator));
+
+            var allOptions = new ArrayList<>(List.of(
+                    "-classpath", fullClasspath,
+                    "-s", sourceOutput.toString(),
+                    "-d", classOutput.toString()));
+            allOptions.addAll(List.of(options));
+
+            var task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    allOptions,
+                    null,
+                    fileManager.getJavaFileObjectsFromPaths(sourceFiles));
+            task.setProcessors(List.of(processor));
+
+            var succeeded = task.call();
+
+            return new Result(succeeded, diagnostics.getDiagnostics(), sourceOutput, classOutput);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readString(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
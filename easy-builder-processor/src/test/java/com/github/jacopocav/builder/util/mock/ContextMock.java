@@ -4,11 +4,20 @@ import com.github.jacopocav.builder.internal.BuilderGenerator;
 import com.github.jacopocav.builder.internal.Context;
 import com.github.jacopocav.builder.internal.error.printer.ProcessingExceptionPrinter;
 import com.github.jacopocav.builder.internal.option.OptionCompilerArgumentsValidator;
+import com.github.jacopocav.builder.internal.option.ProcessorOptions;
+import com.github.jacopocav.builder.internal.stats.ProcessingStats;
+import com.github.jacopocav.builder.internal.stats.ProcessingStatsReporter;
+import com.github.jacopocav.builder.internal.util.RoundScopedCache;
 import com.github.jacopocav.builder.internal.writer.GeneratedJavaFileWriter;
+import java.util.List;
 
 public record ContextMock(
         BuilderGenerator builderGenerator,
         OptionCompilerArgumentsValidator optionCompilerArgumentsValidator,
         GeneratedJavaFileWriter generatedJavaFileWriter,
-        ProcessingExceptionPrinter processingExceptionPrinter)
+        ProcessingExceptionPrinter processingExceptionPrinter,
+        ProcessorOptions processorOptions,
+        List<RoundScopedCache> roundScopedCaches,
+        ProcessingStats processingStats,
+        ProcessingStatsReporter processingStatsReporter)
         implements Context {}
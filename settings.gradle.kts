@@ -2,3 +2,4 @@ rootProject.name = "easy-builder-parent"
 
 include("easy-builder-annotation")
 include("easy-builder-processor")
+include("easy-builder-benchmarks")